@@ -2,8 +2,13 @@ package edu.uoc.ds.adt.nonlinear;
 
 import edu.uoc.ds.adt.helpers.Position;
 import edu.uoc.ds.exceptions.IllegalArgumentException;
+import edu.uoc.ds.exceptions.InvalidPositionException;
+import edu.uoc.ds.exceptions.NonComparableException;
+import edu.uoc.ds.traversal.Iterator;
 import edu.uoc.ds.util.Utils;
 
+import java.util.function.ToIntBiFunction;
+
 /**
  * Class that implements a balanced binary search tree AVL (Adelson-
  * Velskii & Landis), which is characterized by having the greatest root
@@ -18,6 +23,26 @@ import edu.uoc.ds.util.Utils;
  * Element classes are expected to implement java.lang.Comparable
  * or that a java.util.Comparator is provided as a parameter of the
  * builder.
+ * <p>
+ * Insertion and deletion are iterative: every node knows its parent, so
+ * the balance is restored going up from the node that has changed, and
+ * the rotations stop at the first node whose height does not change,
+ * since the balance of the rest of ancestors is not affected.
+ * <p>
+ * Every node also keeps the number of nodes of its subtree, so size() is
+ * O(1), and the order statistics select, rank and countRange descend the
+ * tree in O(log n).
+ * <p>
+ * A tree can also be built from sorted items in O(n) with build, and a
+ * big sorted batch is merged with the items of the tree in linear time
+ * with addAll.
+ * <p>
+ * The rotations relink the nodes instead of moving the items between
+ * them, and a node with two children that is deleted is replaced by the
+ * node of the next item. Therefore, an item never changes of node and
+ * the position returned by insert or seek remains valid until the item
+ * is deleted, which allows to delete it with remove in O(log n) without
+ * comparing any item.
  *
  * @author Jordi Àlvarez Canal
  * @author Esteve Mariné Gallisà
@@ -52,6 +77,366 @@ public class AVLTree<E> extends BinarySearchTreeLinked<E> {
         super(comparator);
     }
 
+    /**
+     * Add an item to the appropriate position. If the item was already
+     * there, according to the comparator, it is overwritten.
+     *
+     * @param elemComp comparable item to add to the tree
+     * @throws NonComparableException if item is not comparable
+     */
+    @Override
+    public void add(E elemComp) {
+        insert(elemComp);
+    }
+
+    /**
+     * Add an item to the appropriate position and retrieves its position,
+     * which remains valid until the item is deleted. If the item was
+     * already there, according to the comparator, it is overwritten.
+     *
+     * @param elemComp comparable item to add to the tree
+     * @return position of the item
+     * @throws NonComparableException if item is not comparable
+     */
+    public Position<E> insert(E elemComp) {
+        if (root == null) {
+            root = newNode(null, elemComp);
+            n = 1;
+            return root;
+        }
+        NodeAVL<E> node = (NodeAVL<E>) root;
+        while (true) {
+            int comp = compare(elemComp, node.element);
+            if (comp == 0) {
+                node.element = elemComp;
+                refresh(node);
+                return node;
+            }
+            NodeTree<E> next = (comp < 0) ? node.leftChild : node.rightChild;
+            if (next == null) {
+                Position<E> leaf = (comp < 0) ? addLeftChild(node, elemComp) : addRightChild(node, elemComp);
+                rebalance(node);
+                return leaf;
+            }
+            node = (NodeAVL<E>) next;
+        }
+    }
+
+    /**
+     * Replaces the items of the tree by the items of a sorted vector, in
+     * O(n). The tree built is perfectly balanced: the middle item is the
+     * root, and the two halves are built in the same way. Of several
+     * consecutive equal items only the last one is kept, as if they were
+     * added one after the other.
+     *
+     * @param elems items sorted in ascending order; the vector is not
+     *              modified
+     * @param n number of items of the vector
+     * @throws IllegalArgumentException if the items are not sorted
+     * @throws NonComparableException if any item is not comparable
+     */
+    public void build(E[] elems, int n) {
+        NodeAVL<E>[] nodes = new NodeAVL[n];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (count > 0) {
+                int comp = compare(nodes[count - 1].element, elems[i]);
+                if (comp > 0)
+                    throw new IllegalArgumentException("items not sorted");
+                if (comp == 0) {
+                    nodes[count - 1].element = elems[i];
+                    continue;
+                }
+            }
+            nodes[count++] = (NodeAVL<E>) newNode(null, elems[i]);
+        }
+        root = link(nodes, 0, count, null);
+        this.n = count;
+    }
+
+    /**
+     * Adds the items of a sorted batch. If the batch is small compared to
+     * the tree, the items are added one by one; otherwise, the nodes of
+     * the tree and the new items are merged in order and the tree is
+     * rebuilt perfectly balanced in O(n + m). The nodes of the items that
+     * were already in the tree are reused, so their positions remain
+     * valid. An item equal to one of the tree overwrites it.
+     *
+     * @param sorted iterator of items in ascending order
+     * @throws IllegalArgumentException if the items are not sorted
+     * @throws NonComparableException if any item is not comparable
+     */
+    public void addAll(Iterator<E> sorted) {
+        E[] batch = (E[]) new Object[16];
+        int m = 0;
+        while (sorted.hasNext()) {
+            E elem = sorted.next();
+            if (m > 0) {
+                int comp = compare(batch[m - 1], elem);
+                if (comp > 0)
+                    throw new IllegalArgumentException("items not sorted");
+                if (comp == 0) {
+                    batch[m - 1] = elem;
+                    continue;
+                }
+            }
+            if (m == batch.length)
+                batch = java.util.Arrays.copyOf(batch, m * 2);
+            batch[m++] = elem;
+        }
+        int n = size();
+        if (n == 0) {
+            build(batch, m);
+            return;
+        }
+        if ((long) m * (32 - Integer.numberOfLeadingZeros(n + m)) < n) {
+            for (int i = 0; i < m; i++)
+                insert(batch[i]);
+            return;
+        }
+
+        NodeAVL<E>[] nodes = new NodeAVL[n + m];
+        NodeAVL<E> node = (NodeAVL<E>) root;
+        while (node.leftChild != null)
+            node = (NodeAVL<E>) node.leftChild;
+        int count = 0;
+        int i = 0;
+        while (node != null || i < m) {
+            int comp = (node == null) ? 1 : (i == m) ? -1 : compare(node.element, batch[i]);
+            if (comp < 0) {
+                nodes[count++] = node;
+                node = successor(node);
+            } else if (comp > 0)
+                nodes[count++] = (NodeAVL<E>) newNode(null, batch[i++]);
+            else {
+                node.element = batch[i++];
+                nodes[count++] = node;
+                node = successor(node);
+            }
+        }
+        root = link(nodes, 0, count, null);
+        this.n = count;
+    }
+
+    /**
+     * Retrieves the position of an item, if it is found according to the
+     * comparator.
+     *
+     * @param elemComp comparable item to consult
+     * @return position of the item; or null, if it was not there
+     * @throws NonComparableException if item is not comparable
+     */
+    public Position<E> seek(E elemComp) {
+        NodeTree<E> node = root;
+        int comp;
+        while (node != null && (comp = compare(elemComp, node.element)) != 0)
+            node = (comp < 0) ? node.leftChild : node.rightChild;
+        return node;
+    }
+
+    /**
+     * Delete the item, if it is found according to the comparator.
+     *
+     * @param elemComp comparable item to delete from tree
+     * @return the deleted item; or null, if it was not there
+     * @throws NonComparableException if item is not comparable
+     */
+    @Override
+    public E delete(E elemComp) {
+        NodeAVL<E> node = (NodeAVL<E>) seek(elemComp);
+        if (node == null)
+            return null;
+        E deleted = node.element;
+        deleteNode(node);
+        return deleted;
+    }
+
+    /**
+     * Delete the item that corresponds to a key, if it is found, with a
+     * single descent.
+     *
+     * @param key the key
+     * @param comparison function that compares a key with an item, in the
+     *                   same order as the comparator of the tree
+     * @return the deleted item; or null, if it was not there
+     */
+    @Override
+    public <K> E deleteByKey(K key, ToIntBiFunction<K, E> comparison) {
+        NodeAVL<E> node = (NodeAVL<E>) seekByKey(key, comparison);
+        if (node == null)
+            return null;
+        E deleted = node.element;
+        deleteNode(node);
+        return deleted;
+    }
+
+    /**
+     * Delete the item of a position, without comparing any item.
+     * The positions of the rest of items remain valid.
+     *
+     * @param pos position of the item, retrieved from insert or seek
+     * @return the deleted item
+     * @throws InvalidPositionException if the position does not belong to
+     *                                  the tree
+     */
+    public E remove(Position<E> pos) {
+        if (!isInTree(pos))
+            throw new InvalidPositionException();
+        NodeAVL<E> node = (NodeAVL<E>) pos;
+        E deleted = node.element;
+        deleteNode(node);
+        return deleted;
+    }
+
+    /**
+     * Retrieves the number of items in the container, in O(1).
+     *
+     * @return number of items it currently contains
+     */
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Retrieves the number of items of the subtree of a position, in
+     * O(1), from the size kept by its node.
+     *
+     * @param node reference position
+     * @return number of items of the subtree
+     */
+    @Override
+    public int size(Position<E> node) {
+        return sizeOf((NodeTree<E>) node);
+    }
+
+    /**
+     * Retrieves the k-th item, in order, starting from zero.
+     *
+     * @param k index of the item
+     * @return the item whose rank is k
+     * @throws IllegalArgumentException if k is not between 0 and size() - 1
+     * @pre 0 <= k < size(), IllegalArgumentException
+     */
+    public E select(int k) {
+        if (k < 0 || k >= size())
+            throw new IllegalArgumentException("index out of range");
+        NodeTree<E> node = root;
+        while (true) {
+            int left = sizeOf(node.leftChild);
+            if (k < left)
+                node = node.leftChild;
+            else if (k == left)
+                return node.element;
+            else {
+                k -= left + 1;
+                node = node.rightChild;
+            }
+        }
+    }
+
+    /**
+     * Retrieves the number of items strictly less than a given one, which
+     * is the index that the item has, or would have, in order.
+     *
+     * @param elemComp comparable item of reference
+     * @return the rank of the item
+     * @throws NonComparableException if item is not comparable
+     */
+    public int rank(E elemComp) {
+        int rank = 0;
+        NodeTree<E> node = root;
+        while (node != null) {
+            if (compare(elemComp, node.element) <= 0)
+                node = node.leftChild;
+            else {
+                rank += sizeOf(node.leftChild) + 1;
+                node = node.rightChild;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Retrieves the number of items in the range [lo, hi).
+     *
+     * @param lo lowest item (included)
+     * @param hi highest item (excluded)
+     * @return number of items within the range
+     * @throws NonComparableException if any item is not comparable
+     */
+    public int countRange(E lo, E hi) {
+        return Math.max(0, rank(hi) - rank(lo));
+    }
+
+    /**
+     * Unlinks a node of the tree. If the node has two children, its place
+     * is taken by the node of the next item (the minimum of the right
+     * subtree), so that no item changes of node.
+     *
+     * @param node node to delete
+     */
+    protected void deleteNode(NodeAVL<E> node) {
+        NodeAVL<E> parent = node.parent;
+        NodeAVL<E> from;
+        if (node.leftChild != null && node.rightChild != null) {
+            NodeAVL<E> next = (NodeAVL<E>) node.rightChild;
+            while (next.leftChild != null)
+                next = (NodeAVL<E>) next.leftChild;
+            if (next.parent == node)
+                from = next;
+            else {
+                from = next.parent;
+                from.setLeftChild(next.rightChild);
+                next.setRightChild(node.rightChild);
+            }
+            next.setLeftChild(node.leftChild);
+            next.height = node.height;
+            next.size = node.size;
+            replaceSubTree(parent, node, next);
+        } else {
+            from = parent;
+            replaceSubTree(parent, node, (node.leftChild != null) ? node.leftChild : node.rightChild);
+        }
+        node.parent = null;
+        node.leftChild = null;
+        node.rightChild = null;
+        n--;
+        rebalance(from);
+    }
+
+    /**
+     * Restores the balance of the nodes from a given one up to the root,
+     * following the parent links, until a node keeps its height. From
+     * there up, only the sizes of the subtrees are updated.
+     *
+     * @param node deepest node whose subtree has changed; can be null
+     */
+    protected void rebalance(NodeAVL<E> node) {
+        while (node != null) {
+            int oldHeight = node.height;
+            NodeAVL<E> top = node.balance();
+            if (top.parent == null)
+                root = top;
+            node = top.parent;
+            if (top.height == oldHeight)
+                break;
+        }
+        // the rest of ancestors keep their balance, but not their size
+        for (; node != null; node = node.parent)
+            node.update();
+    }
+
+    /**
+     * Method called when the item of a node has been overwritten by an
+     * equal one. The height and the sizes do not change, so it does
+     * nothing; subclasses whose nodes depend on the items redefine it.
+     *
+     * @param node node whose item has been overwritten
+     */
+    protected void refresh(NodeAVL<E> node) {
+    }
+
     /**
      * Method that restores, if necessary, the balance of the node tree
      * after each insertion or deletion. A non-null NodeAVL is expected.
@@ -60,7 +445,22 @@ public class AVLTree<E> extends BinarySearchTreeLinked<E> {
      */
     @Override
     protected void balance(Position<E> bst) {
-        if (bst != null) ((NodeAVL) bst).balance();
+        if (bst != null) {
+            NodeAVL<E> top = ((NodeAVL<E>) bst).balance();
+            if (top.parent == null)
+                root = top;
+        }
+    }
+
+    /**
+     * Overrides the superclass method to keep the parent link of the node
+     * that becomes the root.
+     */
+    @Override
+    protected void replaceSubTree(Position<E> parent, Position<E> child, Position<E> newPosition) {
+        super.replaceSubTree(parent, child, newPosition);
+        if (parent == null && newPosition != null)
+            ((NodeAVL<E>) newPosition).parent = null;
     }
 
     /**
@@ -74,12 +474,78 @@ public class AVLTree<E> extends BinarySearchTreeLinked<E> {
      */
     @Override
     protected NodeTree<E> newNode(Position<E> parent, E elemComp) {
-        return new NodeAVL<>(elemComp);
+        NodeAVL<E> node = new NodeAVL<>(elemComp);
+        node.parent = (NodeAVL<E>) parent;
+        return node;
+    }
+
+    /**
+     * Checks that a position is a node linked to the root of this tree.
+     *
+     * @param pos position
+     * @return true if the position belongs to the tree
+     */
+    private boolean isInTree(Position<E> pos) {
+        if (!(pos instanceof NodeAVL))
+            return false;
+        NodeAVL<E> node = (NodeAVL<E>) pos;
+        while (node.parent != null) {
+            NodeAVL<E> parent = node.parent;
+            if (parent.leftChild != node && parent.rightChild != node)
+                return false;
+            node = parent;
+        }
+        return node == root;
+    }
+
+    /**
+     * Links the nodes of a sorted vector as a perfectly balanced subtree.
+     *
+     * @param nodes sorted nodes
+     * @param from first node of the subtree (included)
+     * @param to last node of the subtree (excluded)
+     * @param parent parent of the subtree
+     * @return root of the subtree; null if it is empty
+     */
+    private NodeAVL<E> link(NodeAVL<E>[] nodes, int from, int to, NodeAVL<E> parent) {
+        if (from >= to)
+            return null;
+        int mid = (from + to) >>> 1;
+        NodeAVL<E> node = nodes[mid];
+        node.parent = parent;
+        node.setLeftChild(link(nodes, from, mid, node));
+        node.setRightChild(link(nodes, mid + 1, to, node));
+        node.update();
+        return node;
+    }
+
+    /**
+     * Retrieves the node of the next item, following the parent links.
+     *
+     * @param node a node of the tree
+     * @return the node of the next item; or null, if it is the last one
+     */
+    private static <E> NodeAVL<E> successor(NodeAVL<E> node) {
+        if (node.rightChild != null) {
+            node = (NodeAVL<E>) node.rightChild;
+            while (node.leftChild != null)
+                node = (NodeAVL<E>) node.leftChild;
+            return node;
+        }
+        while (node.parent != null && node.parent.rightChild == node)
+            node = node.parent;
+        return node.parent;
+    }
+
+    private static int sizeOf(NodeTree<?> node) {
+        return (node == null) ? 0 : ((NodeAVL<?>) node).size;
     }
 
     /**
      * Class that are NodeTree to add a height attribute that
      * allows you to check and maintain the balance of an AVL node tree.
+     * Every node also knows its parent, so that the rotations can relink
+     * the nodes instead of moving the items.
      */
     protected static class NodeAVL<E> extends NodeTree<E> {
         /**
@@ -95,6 +561,16 @@ public class AVLTree<E> extends BinarySearchTreeLinked<E> {
          */
         protected int height = 1;
 
+        /**
+         * Number of nodes of the subtree. By default it is "1" (leaf).
+         */
+        protected int size = 1;
+
+        /**
+         * Parent node; null in the root.
+         */
+        protected NodeAVL<E> parent;
+
         /**
          * Constructor with a parameter. Assigns the received value to the item
          * of the parent node and gives a null value to the child positions.
@@ -125,6 +601,46 @@ public class AVLTree<E> extends BinarySearchTreeLinked<E> {
             return height;
         }
 
+        /**
+         * Getter for size
+         *
+         * @return number of nodes of the subtree
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Getter for parent
+         *
+         * @return the parent node; null in the root
+         */
+        public NodeAVL<E> getParent() {
+            return parent;
+        }
+
+        /**
+         * Setter for leftChild, which also links the child to this node.
+         *
+         * @param leftChild the new left child; can be null
+         */
+        @Override
+        public void setLeftChild(NodeTree<E> leftChild) {
+            this.leftChild = leftChild;
+            if (leftChild != null) ((NodeAVL<E>) leftChild).parent = this;
+        }
+
+        /**
+         * Setter for rightChild, which also links the child to this node.
+         *
+         * @param rightChild the new right child; can be null
+         */
+        @Override
+        public void setRightChild(NodeTree<E> rightChild) {
+            this.rightChild = rightChild;
+            if (rightChild != null) ((NodeAVL<E>) rightChild).parent = this;
+        }
+
         /**
          * Method that updates the height of the node. Add 1 (parent node) to
          * the height value of your tallest child.
@@ -136,6 +652,15 @@ public class AVLTree<E> extends BinarySearchTreeLinked<E> {
             height = 1 + ((fe > fd) ? fe : fd);
         }
 
+        /**
+         * Method that updates the height and the size of the node from
+         * the ones of its children.
+         */
+        public void update() {
+            updateHeight();
+            size = 1 + sizeOf(leftChild) + sizeOf(rightChild);
+        }
+
         /**
          * Method that checks the balance of the node tree.
          *
@@ -156,20 +681,25 @@ public class AVLTree<E> extends BinarySearchTreeLinked<E> {
          * to be between -1 and 1. Four types of imbalance can occur
          * (EE, ED, DD and DE) depending on the swing (left or right)
          * of the corresponding tree and subtree.
+         *
+         * @return root of the subtree after balancing it, which is linked
+         * to the parent of this node
          */
-        public void balance() {
-            updateHeight();
-            if (isBalanced() > 1) {               // balanced to the left
+        public NodeAVL<E> balance() {
+            update();
+            int balance = isBalanced();
+            if (balance > 1) {               // balanced to the left
                 if (((NodeAVL<E>) leftChild).isBalanced() > -1)
-                    rotateEE();
+                    return rotateEE();
                 else
-                    rotateED();
-            } else if (isBalanced() < -1) {         // balanced to the right
+                    return rotateED();
+            } else if (balance < -1) {         // balanced to the right
                 if (((NodeAVL<E>) rightChild).isBalanced() < 1)
-                    rotateDD();
+                    return rotateDD();
                 else
-                    rotateDE();
+                    return rotateDE();
             }
+            return this;
         }
 
 
@@ -195,22 +725,24 @@ public class AVLTree<E> extends BinarySearchTreeLinked<E> {
          * left subtree. Finally, the previous left subtree of B
          * becomes a right subtree of the old root A to preserve the
          * Sort property of search trees.
+         *
+         * @return new root of the subtree, linked to the parent of this node
          */
-        protected void rotateDD() {
-            NodeAVL<E> node = (NodeAVL<E>) leftChild;
-            leftChild = rightChild;
-            rightChild = leftChild.rightChild;
-            leftChild.rightChild =
-                    leftChild.leftChild;
-            leftChild.leftChild = node;
-
-            E elemComp = element;
-            element = leftChild.element;
-            leftChild.element = elemComp;
+        protected NodeAVL<E> rotateDD() {
+            NodeAVL<E> b = (NodeAVL<E>) rightChild;
+            NodeAVL<E> parent = this.parent;
+            setRightChild(b.leftChild);
+            b.setLeftChild(this);
+            b.parent = parent;
+            if (parent != null) {
+                if (parent.leftChild == this) parent.leftChild = b;
+                else parent.rightChild = b;
+            }
 
             // adjust height A (old root) and B (new root subtree)
-            ((NodeAVL<E>) leftChild).updateHeight();
-            updateHeight();
+            update();
+            b.update();
+            return b;
         }
 
         /**
@@ -236,12 +768,13 @@ public class AVLTree<E> extends BinarySearchTreeLinked<E> {
          * corrects the EE imbalance of the right subtree, and then
          * the DD imbalance of the tree.
          *
+         * @return new root of the subtree, linked to the parent of this node
          * @see NodeAVL#rotateEE()
          * @see NodeAVL#rotateDD()
          */
-        protected void rotateDE() {
+        protected NodeAVL<E> rotateDE() {
             ((NodeAVL<E>) rightChild).rotateEE();
-            rotateDD();
+            return rotateDD();
         }
 
         /**
@@ -257,21 +790,23 @@ public class AVLTree<E> extends BinarySearchTreeLinked<E> {
          *  T2       T1                                  T1       T0
          * </PRE>
          *
+         * @return new root of the subtree, linked to the parent of this node
          * @see NodeAVL#rotateDD()
          */
-        protected void rotateEE() {
-            NodeAVL<E> node = (NodeAVL<E>) rightChild;
-            rightChild = leftChild;
-            leftChild = rightChild.leftChild;
-            rightChild.leftChild = rightChild.rightChild;
-            rightChild.rightChild = node;
-
-            E elemComp = element;
-            element = rightChild.element;
-            rightChild.element = elemComp;
-
-            ((NodeAVL<E>) rightChild).updateHeight();
-            updateHeight();
+        protected NodeAVL<E> rotateEE() {
+            NodeAVL<E> b = (NodeAVL<E>) leftChild;
+            NodeAVL<E> parent = this.parent;
+            setLeftChild(b.rightChild);
+            b.setRightChild(this);
+            b.parent = parent;
+            if (parent != null) {
+                if (parent.leftChild == this) parent.leftChild = b;
+                else parent.rightChild = b;
+            }
+
+            update();
+            b.update();
+            return b;
         }
 
         /**
@@ -291,11 +826,12 @@ public class AVLTree<E> extends BinarySearchTreeLinked<E> {
          *         T2   T1      T3   T2                   T3   T2   T1   T0
          * </PRE>
          *
+         * @return new root of the subtree, linked to the parent of this node
          * @see NodeAVL#rotateDE()
          */
-        protected void rotateED() {
+        protected NodeAVL<E> rotateED() {
             ((NodeAVL<E>) leftChild).rotateDD();
-            rotateEE();
+            return rotateEE();
         }
     }
 }
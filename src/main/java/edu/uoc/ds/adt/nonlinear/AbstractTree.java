@@ -173,7 +173,7 @@ public abstract class AbstractTree<E> implements Tree<E> {
          */
         protected BasicTraversal(Tree<E> tree) {
             this.tree = tree;
-            stack = new StackArrayImpl<>(tree.size());
+            stack = new TraversalStack<>();
             if (!tree.isEmpty()) {
                 stack.push(tree.root());
                 pushSiblingsGreaterPriority(tree.root());
@@ -365,7 +365,7 @@ public abstract class AbstractTree<E> implements Tree<E> {
         @Override
         protected void pushSiblings(Position<E> parent) {
             if (nodesAlreadyDeployed == null)
-                nodesAlreadyDeployed = new StackArrayImpl<>(tree.size());
+                nodesAlreadyDeployed = new TraversalStack<>();
             super.pushSiblings(parent);
             nodesAlreadyDeployed.push(parent);
         }
@@ -424,7 +424,7 @@ public abstract class AbstractTree<E> implements Tree<E> {
          */
         public LevelsTraversal(Tree<E> tree) {
             this.tree = tree;
-            queue = new QueueArrayImpl<>(tree.size());
+            queue = new TraversalQueue<>();
             if (!tree.isEmpty()) queue.add(tree.root());
         }
 
@@ -456,4 +456,78 @@ public abstract class AbstractTree<E> implements Tree<E> {
         }
     }
 
+
+    /**
+     * Stack used by the traversals. It starts small and doubles its
+     * capacity when it is full, so starting a traversal does not depend
+     * on the size of the tree and the memory used is proportional to the
+     * number of pending positions (for the depth-first traversals, about
+     * the height of the tree).
+     */
+    protected static class TraversalStack<E> extends StackArrayImpl<E> {
+        /**
+         * Attribute that determines compatibility between objects
+         * serializable of the same class. It is calculated
+         * using a method of the Utilities class.
+         */
+        private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+        /**
+         * Initial capacity of the stacks and queues of the traversals.
+         */
+        public static final int INITIAL_CAPACITY = 16;
+
+        /**
+         * Constructor without parameters.
+         */
+        public TraversalStack() {
+            super(INITIAL_CAPACITY);
+        }
+
+        /**
+         * Add an item to the stack, growing it if it is full.
+         *
+         * @param elem item you want to add to the stack
+         */
+        @Override
+        public void push(E elem) {
+            if (isFull()) ensureCapacity(2 * elems.length);
+            super.push(elem);
+        }
+    }
+
+
+    /**
+     * Queue used by the traversal by levels. It starts small and doubles
+     * its capacity when it is full.
+     */
+    protected static class TraversalQueue<E> extends QueueArrayImpl<E> {
+        /**
+         * Attribute that determines compatibility between objects
+         * serializable of the same class. It is calculated
+         * using a method of the Utilities class.
+         */
+        private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+        /**
+         * Constructor without parameters.
+         */
+        public TraversalQueue() {
+            super(TraversalStack.INITIAL_CAPACITY);
+        }
+
+        /**
+         * Add an item to the queue, growing it if it is full.
+         *
+         * @param elem item to add to the queue
+         */
+        @Override
+        public void add(E elem) {
+            if (isFull()) ensureCapacity(2 * elems.length);
+            super.add(elem);
+        }
+    }
+
 }
@@ -0,0 +1,208 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.Position;
+import edu.uoc.ds.exceptions.NonComparableException;
+import edu.uoc.ds.util.Utils;
+
+/**
+ * Class that implements an AVL tree whose nodes keep the aggregate of the
+ * items of their subtree (for example, their sum or their maximum),
+ * according to an Aggregator.
+ * <p>
+ * The aggregate of a node is combine(left, lift(item), right), and it is
+ * updated, together with the height and the size, when the node is
+ * rebalanced or rotated and on the path from a changed node up to the
+ * root. Therefore, the aggregate of the items within any range is obtained
+ * in O(log n): it is enough to combine the aggregates of the O(log n)
+ * subtrees and nodes that cover the range, in order.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+public class AggregateAVLTree<E, A> extends AVLTree<E> {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. The detector is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * Aggregator of the items.
+     */
+    protected final Aggregator<E, A> aggregator;
+
+    /**
+     * Constructor with a parameter. The class of the items must implement
+     * the interface java.lang.Comparable.
+     *
+     * @param aggregator aggregator of the items
+     */
+    public AggregateAVLTree(Aggregator<E, A> aggregator) {
+        super();
+        this.aggregator = aggregator;
+    }
+
+    /**
+     * Constructor with two parameters.
+     *
+     * @param comparator comparator that allows you to deduce the priority
+     * @param aggregator aggregator of the items
+     */
+    public AggregateAVLTree(java.util.Comparator<E> comparator, Aggregator<E, A> aggregator) {
+        super(comparator);
+        this.aggregator = aggregator;
+    }
+
+    /**
+     * Retrieves the aggregate of all the items, in O(1).
+     *
+     * @return the aggregate; the identity, if the tree is empty
+     */
+    public A aggregate() {
+        return aggregateOf(root);
+    }
+
+    /**
+     * Retrieves the aggregate of the items in the range [from, to), in
+     * order, in O(log n).
+     *
+     * @param from lowest item (included); null if there is no lower bound
+     * @param to highest item (excluded); null if there is no upper bound
+     * @return the aggregate; the identity, if there are no items in the range
+     * @throws NonComparableException if any bound is not comparable
+     */
+    public A aggregate(E from, E to) {
+        // node where the paths to both bounds split
+        NodeTree<E> node = root;
+        while (node != null) {
+            if (from != null && compare(node.element, from) < 0)
+                node = node.rightChild;
+            else if (to != null && compare(node.element, to) >= 0)
+                node = node.leftChild;
+            else
+                break;
+        }
+        if (node == null)
+            return aggregator.identity();
+
+        // items of the left subtree not less than from, from right to left
+        A left = aggregator.identity();
+        for (NodeTree<E> aux = node.leftChild; aux != null; ) {
+            if (from == null || compare(aux.element, from) >= 0) {
+                left = aggregator.combine(aggregator.combine(aggregator.lift(aux.element),
+                        aggregateOf(aux.rightChild)), left);
+                aux = aux.leftChild;
+            } else
+                aux = aux.rightChild;
+        }
+
+        // items of the right subtree less than to, from left to right
+        A right = aggregator.identity();
+        for (NodeTree<E> aux = node.rightChild; aux != null; ) {
+            if (to == null || compare(aux.element, to) < 0) {
+                right = aggregator.combine(right, aggregator.combine(aggregateOf(aux.leftChild),
+                        aggregator.lift(aux.element)));
+                aux = aux.rightChild;
+            } else
+                aux = aux.leftChild;
+        }
+        return aggregator.combine(aggregator.combine(left, aggregator.lift(node.element)), right);
+    }
+
+    /**
+     * Updates the aggregates from a node whose item has been overwritten
+     * up to the root.
+     *
+     * @param node node whose item has been overwritten
+     */
+    @Override
+    protected void refresh(NodeAVL<E> node) {
+        for (; node != null; node = node.parent)
+            node.update();
+    }
+
+    /**
+     * Overrides the superclass method to create nodes that keep the
+     * aggregate of their subtree.
+     *
+     * @param parent parent of the new node
+     * @param elemComp comparable element to be saved to the node
+     * @return new leaf node
+     */
+    @Override
+    protected NodeTree<E> newNode(Position<E> parent, E elemComp) {
+        NodeAggregate<E, A> node = new NodeAggregate<>(elemComp, aggregator);
+        node.parent = (NodeAVL<E>) parent;
+        return node;
+    }
+
+    private A aggregateOf(NodeTree<E> node) {
+        return (node == null) ? aggregator.identity() : ((NodeAggregate<E, A>) node).aggregate;
+    }
+
+
+    /**
+     * Class that extends NodeAVL with the aggregate of the subtree.
+     */
+    protected static class NodeAggregate<E, A> extends NodeAVL<E> {
+        /**
+         * Attribute that determines compatibility between objects
+         * serializable of the same class. The detector is calculated
+         * using a method of the Utilities class.
+         */
+        private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+        /**
+         * Aggregator of the tree.
+         */
+        protected final Aggregator<E, A> aggregator;
+
+        /**
+         * Aggregate of the items of the subtree.
+         */
+        protected A aggregate;
+
+        /**
+         * Constructor with two parameters.
+         *
+         * @param elem value of the element to go to the node
+         * @param aggregator aggregator of the tree
+         */
+        public NodeAggregate(E elem, Aggregator<E, A> aggregator) {
+            super(elem);
+            this.aggregator = aggregator;
+            aggregate = aggregator.lift(elem);
+        }
+
+        /**
+         * Getter for aggregate
+         *
+         * @return aggregate of the items of the subtree
+         */
+        public A getAggregate() {
+            return aggregate;
+        }
+
+        /**
+         * Method that updates the height, the size and the aggregate of the
+         * node from the ones of its children.
+         */
+        @Override
+        public void update() {
+            super.update();
+            A a = aggregator.lift(element);
+            if (leftChild != null)
+                a = aggregator.combine(((NodeAggregate<E, A>) leftChild).aggregate, a);
+            if (rightChild != null)
+                a = aggregator.combine(a, ((NodeAggregate<E, A>) rightChild).aggregate);
+            aggregate = a;
+        }
+    }
+}
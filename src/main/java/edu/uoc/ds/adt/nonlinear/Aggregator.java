@@ -0,0 +1,75 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Interface that defines how to aggregate the items of a sequence: every
+ * item is converted to a value (lift), and the values are combined with
+ * an associative operation that has an identity (a monoid). For example,
+ * the sum, the minimum, the maximum or the number of items.
+ * <p>
+ * As the operation is associative, the aggregate of a sequence can be
+ * obtained from the aggregates of its parts, which allows a tree to keep
+ * the aggregate of every subtree.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+public interface Aggregator<E, A> extends java.io.Serializable {
+    /**
+     * Retrieves the aggregate of an empty sequence.
+     *
+     * @return the identity of combine
+     */
+    A identity();
+
+    /**
+     * Retrieves the aggregate of a single item.
+     *
+     * @param elem the item
+     * @return its aggregate
+     */
+    A lift(E elem);
+
+    /**
+     * Combines the aggregates of two consecutive sequences. It must be
+     * associative, but it does not need to be commutative.
+     *
+     * @param a1 aggregate of the first sequence
+     * @param a2 aggregate of the second sequence
+     * @return aggregate of the concatenation
+     */
+    A combine(A a1, A a2);
+
+    /**
+     * Creates an aggregator from its three parts.
+     *
+     * @param identity aggregate of an empty sequence
+     * @param lift conversion of an item to its aggregate
+     * @param combine associative operation
+     * @return the aggregator
+     */
+    static <E, A> Aggregator<E, A> of(A identity, Function<E, A> lift, BinaryOperator<A> combine) {
+        return new Aggregator<>() {
+            @Override
+            public A identity() {
+                return identity;
+            }
+
+            @Override
+            public A lift(E elem) {
+                return lift.apply(elem);
+            }
+
+            @Override
+            public A combine(A a1, A a2) {
+                return combine.apply(a1, a2);
+            }
+        };
+    }
+}
@@ -4,9 +4,12 @@ import edu.uoc.ds.adt.helpers.Position;
 import edu.uoc.ds.exceptions.EmptyContainerException;
 import edu.uoc.ds.exceptions.NonComparableException;
 import edu.uoc.ds.exceptions.IllegalArgumentException;
+import edu.uoc.ds.exceptions.InvalidPositionException;
+import edu.uoc.ds.traversal.Iterator;
 import edu.uoc.ds.util.Utils;
 
 import java.util.Comparator;
+import java.util.function.ToIntBiFunction;
 
 /**
  * Class that implements a binary search tree, which is characterized
@@ -170,12 +173,14 @@ class BinarySearchTreeLinked<E> extends BinaryTreeLinkedImpl<E> {
             if (isLeaf(parent))                              // if there is no children
                 delete(grandparent, parent);                   // super.delete
             else if ((leftChild(parent) != null) &&
-                    (rightChild(parent) == null))        // left child
+                    (rightChild(parent) == null)) {      // left child
                 replaceSubTree(grandparent, parent, leftChild(parent)); // replace.
-            else if ((leftChild(parent) == null) &&
-                    (rightChild(parent) != null))        // right child
+                n--;
+            } else if ((leftChild(parent) == null) &&
+                    (rightChild(parent) != null)) {      // right child
                 replaceSubTree(grandparent, parent, rightChild(parent));    // replaceee
-            else {                                            // two children
+                n--;
+            } else {                                          // two children
                 Position<E> min = rightChild(parent);      // minimum value => right branch
                 while (leftChild(min) != null)
                     min = leftChild(min);
@@ -212,6 +217,254 @@ class BinarySearchTreeLinked<E> extends BinaryTreeLinkedImpl<E> {
     }
 
 
+    /**
+     * Retrieves the item that corresponds to a key, comparing the key
+     * directly with the items, so that it is not necessary to create an
+     * item to search it.
+     *
+     * @param key the key
+     * @param comparison function that compares a key with an item, in the
+     *                   same order as the comparator of the tree
+     * @return the item; or null, if it was not there
+     */
+    public <K> E getByKey(K key, ToIntBiFunction<K, E> comparison) {
+        NodeTree<E> node = seekByKey(key, comparison);
+        return (node == null) ? null : node.element;
+    }
+
+    /**
+     * Checks for an item that corresponds to a key, even if the item is
+     * null.
+     *
+     * @param key the key
+     * @param comparison function that compares a key with an item, in the
+     *                   same order as the comparator of the tree
+     * @return true or false, depending on whether or not the item is found
+     */
+    public <K> boolean containsByKey(K key, ToIntBiFunction<K, E> comparison) {
+        return seekByKey(key, comparison) != null;
+    }
+
+    /**
+     * Delete the item that corresponds to a key, if it is found.
+     *
+     * @param key the key
+     * @param comparison function that compares a key with an item, in the
+     *                   same order as the comparator of the tree
+     * @return the deleted item; or null, if it was not there
+     */
+    public <K> E deleteByKey(K key, ToIntBiFunction<K, E> comparison) {
+        NodeTree<E> node = seekByKey(key, comparison);
+        return (node == null) ? null : delete(node.element);
+    }
+
+    /**
+     * Searches the node of the item that corresponds to a key.
+     *
+     * @param key the key
+     * @param comparison function that compares a key with an item
+     * @return the node; or null, if it was not there
+     */
+    protected <K> NodeTree<E> seekByKey(K key, ToIntBiFunction<K, E> comparison) {
+        NodeTree<E> node = root;
+        int comp;
+        while (node != null && (comp = comparison.applyAsInt(key, node.element)) != 0)
+            node = (comp < 0) ? node.leftChild : node.rightChild;
+        return node;
+    }
+
+    /**
+     * Retrieves the lowest item of the tree.
+     *
+     * @return the first item
+     * @throws EmptyContainerException if the tree is empty
+     * @pre !isEmpty(), EmptyContainerException
+     */
+    public E first() {
+        if (root == null)
+            throw new EmptyContainerException();
+        NodeTree<E> node = root;
+        while (node.leftChild != null)
+            node = node.leftChild;
+        return node.element;
+    }
+
+    /**
+     * Retrieves the greatest item of the tree.
+     *
+     * @return the last item
+     * @throws EmptyContainerException if the tree is empty
+     * @pre !isEmpty(), EmptyContainerException
+     */
+    public E last() {
+        if (root == null)
+            throw new EmptyContainerException();
+        NodeTree<E> node = root;
+        while (node.rightChild != null)
+            node = node.rightChild;
+        return node.element;
+    }
+
+    /**
+     * Deletes the lowest item of the tree.
+     *
+     * @return the first item
+     * @throws EmptyContainerException if the tree is empty
+     * @pre !isEmpty(), EmptyContainerException
+     */
+    public E pollFirst() {
+        E elem = first();
+        delete(elem);
+        return elem;
+    }
+
+    /**
+     * Retrieves the greatest item less than or equal to the given one.
+     *
+     * @param elemComp comparable item of reference
+     * @return the item; or null, if there is none
+     * @throws NonComparableException if item is not comparable
+     */
+    public E floor(E elemComp) {
+        return seekBound(elemComp, true, true);
+    }
+
+    /**
+     * Retrieves the lowest item greater than or equal to the given one.
+     *
+     * @param elemComp comparable item of reference
+     * @return the item; or null, if there is none
+     * @throws NonComparableException if item is not comparable
+     */
+    public E ceiling(E elemComp) {
+        return seekBound(elemComp, false, true);
+    }
+
+    /**
+     * Retrieves the greatest item strictly less than the given one.
+     *
+     * @param elemComp comparable item of reference
+     * @return the item; or null, if there is none
+     * @throws NonComparableException if item is not comparable
+     */
+    public E lower(E elemComp) {
+        return seekBound(elemComp, true, false);
+    }
+
+    /**
+     * Retrieves the lowest item strictly greater than the given one.
+     *
+     * @param elemComp comparable item of reference
+     * @return the item; or null, if there is none
+     * @throws NonComparableException if item is not comparable
+     */
+    public E higher(E elemComp) {
+        return seekBound(elemComp, false, false);
+    }
+
+    /**
+     * Retrieves the items between two bounds, in order. The first item is
+     * found descending from the root, and the rest are visited in order
+     * keeping only the path to the current node, so a query that returns
+     * k items costs O(log n + k).
+     *
+     * @param from lower bound; null if there is no lower bound
+     * @param fromInclusive true if the lower bound is included
+     * @param to upper bound; null if there is no upper bound
+     * @param toInclusive true if the upper bound is included
+     * @return enumeration of the items within the bounds
+     * @throws NonComparableException if any bound is not comparable
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<E> range(E from, boolean fromInclusive, E to, boolean toInclusive) {
+        return new RangeIterator(from, fromInclusive, to, toInclusive);
+    }
+
+
+    /**
+     * Searches the closest item to a given one in one direction.
+     *
+     * @param elemComp comparable item of reference
+     * @param below true to search the items less than the reference; false
+     *              to search the greater ones
+     * @param inclusive true if an item equal to the reference is accepted
+     * @return the closest item; or null, if there is none
+     */
+    private E seekBound(E elemComp, boolean below, boolean inclusive) {
+        NodeTree<E> node = root;
+        E result = null;
+        while (node != null) {
+            int comp = compare(node.element, elemComp);
+            if (comp == 0 && inclusive)
+                return node.element;
+            if (below ? comp < 0 : comp > 0) {
+                result = node.element;
+                node = below ? node.rightChild : node.leftChild;
+            } else
+                node = below ? node.leftChild : node.rightChild;
+        }
+        return result;
+    }
+
+
+    /**
+     * Iterator of the items between two bounds. It keeps the nodes of the
+     * current path whose item has not been visited yet.
+     */
+    private class RangeIterator implements Iterator<E> {
+        private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+        private NodeTree<E>[] stack;
+        private int top;
+        private final E to;
+        private final boolean toInclusive;
+
+        private RangeIterator(E from, boolean fromInclusive, E to, boolean toInclusive) {
+            this.to = to;
+            this.toInclusive = toInclusive;
+            stack = new NodeTree[32];
+            NodeTree<E> node = root;
+            while (node != null) {
+                int comp = (from == null) ? 1 : compare(node.element, from);
+                if (comp < 0 || (comp == 0 && !fromInclusive))
+                    node = node.rightChild;
+                else {
+                    push(node);
+                    node = node.leftChild;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (top == 0)
+                return false;
+            if (to == null)
+                return true;
+            int comp = compare(stack[top - 1].element, to);
+            return comp < 0 || (comp == 0 && toInclusive);
+        }
+
+        @Override
+        public E next() throws InvalidPositionException {
+            if (!hasNext())
+                throw new InvalidPositionException();
+            NodeTree<E> node = stack[--top];
+            stack[top] = null;
+            for (NodeTree<E> aux = node.rightChild; aux != null; aux = aux.leftChild)
+                push(aux);
+            return node.element;
+        }
+
+        private void push(NodeTree<E> node) {
+            if (top == stack.length)
+                stack = java.util.Arrays.copyOf(stack, top * 2);
+            stack[top++] = node;
+        }
+    }
+
+
     /**
      * Method to check if there is a specific comparator. If you are not there
      * java.lang.Comparable comparison operation is used.
@@ -3,7 +3,6 @@ package edu.uoc.ds.adt.nonlinear;
 import edu.uoc.ds.adt.sequential.Queue;
 import edu.uoc.ds.adt.sequential.QueueArrayImpl;
 import edu.uoc.ds.adt.sequential.Stack;
-import edu.uoc.ds.adt.sequential.StackArrayImpl;
 import edu.uoc.ds.adt.helpers.Position;
 import edu.uoc.ds.exceptions.InvalidPositionException;
 import edu.uoc.ds.traversal.IteratorTraversalImpl;
@@ -277,7 +276,7 @@ public abstract class BinaryTree<E> extends AbstractTree<E> {
          */
         public LevelsTraversal(BinaryTree<E> tree) {
             this.tree = tree;
-            queue = new QueueArrayImpl<>(tree.size());
+            queue = new TraversalQueue<>();
             if (!tree.isEmpty()) queue.add(tree.root());
         }
 
@@ -371,7 +370,7 @@ public abstract class BinaryTree<E> extends AbstractTree<E> {
          */
         protected BasicOrderTraversal(BinaryTree<E> tree) {
             this.tree = tree;
-            stack = new StackArrayImpl<>(tree.size());
+            stack = new TraversalStack<>();
             if (!tree.isEmpty()) {
                 stack.push(tree.root());
                 pushSiblingsWithLessPriority(tree.root());
@@ -580,7 +579,7 @@ public abstract class BinaryTree<E> extends AbstractTree<E> {
         @Override
         protected void pushSiblingsLessPriority(Position<E> parent) {
             if (nodesAlreadyDeployed == null)
-                nodesAlreadyDeployed = new StackArrayImpl<>(tree.size());
+                nodesAlreadyDeployed = new TraversalStack<>();
             nodesAlreadyDeployed.push(parent);
             super.pushSiblingsLessPriority(parent);
         }
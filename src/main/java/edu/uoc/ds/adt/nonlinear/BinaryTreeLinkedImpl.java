@@ -34,14 +34,35 @@ public class BinaryTreeLinkedImpl<E> extends BinaryTree<E> {
      */
     protected NodeTree<E> root;
 
+    /**
+     * Number of items currently in the container. It is updated by the
+     * operations of this class, except replaceSubTree; the subclasses that
+     * link the nodes by themselves must keep it up to date too, or
+     * redefine size().
+     */
+    protected int n;
+
 
     /**
-     * Retrives the number of items in the container.
+     * Retrives the number of items in the container, in O(1).
      *
      * @return number of items it currently contains
      */
     public int size() {
-        return (root == null) ? 0 : root.numNodes();
+        return n;
+    }
+
+
+    /**
+     * Retrieves the number of items of the subtree of a position. For the
+     * root it is O(1); otherwise the nodes of the subtree are counted.
+     *
+     * @param node reference position
+     * @return number of items of the subtree
+     */
+    @Override
+    public int size(Position<E> node) {
+        return (node == root) ? n : ((NodeTree<E>) node).numNodes();
     }
 
 
@@ -80,13 +101,15 @@ public class BinaryTreeLinkedImpl<E> extends BinaryTree<E> {
      */
     public Position<E> add(Position<E> parent, E elem) {
         NodeTree<E> newNode = newNode(parent, elem);
-        if (parent == null)
+        if (parent == null) {
             root = newNode;
-        else {
+            n = 1;
+        } else {
             if (leftChild(parent) == null)
                 setLeftChild(parent, newNode);
             else
                 setRightChild(parent, newNode);
+            n++;
         }
         return newNode;
     }
@@ -107,6 +130,7 @@ public class BinaryTreeLinkedImpl<E> extends BinaryTree<E> {
     public Position<E> addLeftChild(Position<E> parent, E elem) {
         NodeTree<E> newNode = newNode(parent, elem);
         setLeftChild(parent, newNode);
+        n++;
         return newNode;
     }
 
@@ -124,6 +148,7 @@ public class BinaryTreeLinkedImpl<E> extends BinaryTree<E> {
     public Position<E> addRightChild(Position<E> parent, E elem) {
         NodeTree<E> newNode = newNode(parent, elem);
         setRightChild(parent, newNode);
+        n++;
         return newNode;
     }
 
@@ -167,9 +192,11 @@ public class BinaryTreeLinkedImpl<E> extends BinaryTree<E> {
      * @pre parent==null || leftChild(parent)==child || rightChild(pare)==child, InvalidPositionException
      */
     public void delete(Position<E> parent, Position<E> child) {
-        if (parent == null)
+        if (parent == null) {
             root = null;
-        else {
+            n = 0;
+        } else {
+            n -= size(child);
             if (leftChild(parent) == child)
                 setLeftChild(parent, null);
             else
@@ -217,7 +244,8 @@ public class BinaryTreeLinkedImpl<E> extends BinaryTree<E> {
      * Replace the subtree represented by the child position, if possible.
      * If the parent position is null, replace the entire tree. This
      * Auxiliary method is only accessible within the package and is used
-     * to delete a node with less than two children.
+     * to delete a node with less than two children. It does not update
+     * the number of items: the caller must do it.
      *
      * @param parent      position of the parent; can be null
      * @param child       position of the child
@@ -0,0 +1,187 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import edu.uoc.ds.util.Utils;
+
+/**
+ * Class that implements a monotone priority queue by means of a circular
+ * vector of buckets (Dial's algorithm).
+ * <p>
+ * If the priorities of the items in the queue are always in the range
+ * [last, last + C], where last is the priority of the last item deleted
+ * (in Dijkstra's algorithm, C is the maximum label of the edges), it is
+ * enough to have C + 1 buckets, one per priority, that are reused
+ * circularly. add is O(1), and poll moves forward through the empty
+ * buckets, so its total cost is O(n + the maximum priority).
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+public class BucketQueue implements MonotoneQueue {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. It is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * Items of every bucket, used as a stack.
+     */
+    protected int[][] buckets;
+
+    /**
+     * Number of items of every bucket.
+     */
+    protected int[] sizes;
+
+    /**
+     * Priority of the current bucket; it is the priority of the last item
+     * deleted, or the lowest one allowed.
+     */
+    protected long last;
+
+    /**
+     * Number of items currently in the container.
+     */
+    protected int n;
+
+    /**
+     * Constructor with a parameter. The priorities of the items must be
+     * non-negative.
+     *
+     * @param maxSpread maximum difference between the priority of an item
+     *                  and the priority of the last item deleted (C)
+     * @throws IllegalArgumentException if the spread is negative
+     */
+    public BucketQueue(int maxSpread) {
+        this(maxSpread, 0);
+    }
+
+    /**
+     * Constructor with two parameters.
+     *
+     * @param maxSpread maximum difference between the priority of an item
+     *                  and the priority of the last item deleted (C)
+     * @param min lowest priority allowed
+     * @throws IllegalArgumentException if the spread is negative or too big
+     */
+    public BucketQueue(int maxSpread, long min) {
+        if (maxSpread < 0 || maxSpread == Integer.MAX_VALUE)
+            throw new IllegalArgumentException("spread out of range");
+        buckets = new int[maxSpread + 1][];
+        sizes = new int[maxSpread + 1];
+        last = min;
+        n = 0;
+    }
+
+    /**
+     * Retrieves the number of items in the container.
+     *
+     * @return number of items it currently contains
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Method to check if the container is empty.
+     *
+     * @return true or false, depending on whether it is empty or not
+     */
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    /**
+     * Add an item to the queue, in O(1).
+     *
+     * @param item the item
+     * @param priority its priority
+     * @throws IllegalArgumentException if the priority is not in the range
+     * [last, last + C]
+     */
+    public void add(int item, long priority) {
+        if (priority < last || priority - last >= buckets.length)
+            throw new IllegalArgumentException("priority out of the range of the buckets");
+        int b = (int) Math.floorMod(priority, (long) buckets.length);
+        int size = sizes[b];
+        if (buckets[b] == null)
+            buckets[b] = new int[4];
+        else if (size == buckets[b].length)
+            buckets[b] = java.util.Arrays.copyOf(buckets[b], size * 2);
+        buckets[b][size] = item;
+        sizes[b] = size + 1;
+        n++;
+    }
+
+    /**
+     * Delete the first item (the one with the lowest priority).
+     *
+     * @return first item
+     * @throws EmptyContainerException if the queue is empty
+     * @pre! isEmpty(), EmptyContainerException
+     */
+    public int poll() {
+        int b = advance();
+        n--;
+        return buckets[b][--sizes[b]];
+    }
+
+    /**
+     * Retrieves the priority of the first item.
+     *
+     * @return lowest priority of the queue
+     * @throws EmptyContainerException if the queue is empty
+     * @pre! isEmpty(), EmptyContainerException
+     */
+    public long peekPriority() {
+        advance();
+        return last;
+    }
+
+    /**
+     * Method overwriting Object.toString ().
+     *
+     * @return list of items with their priorities, in order of priority
+     */
+    public String toString() {
+        StringBuilder buffer = new StringBuilder();
+        buffer.append("{BUCKETQUEUE:");
+        boolean first = true;
+        for (int d = 0; d < buckets.length; d++) {
+            int b = (int) Math.floorMod(last + d, (long) buckets.length);
+            for (int i = sizes[b] - 1; i >= 0; i--) {
+                if (!first) buffer.append(',');
+                buffer.append(buckets[b][i]).append('=').append(last + d);
+                first = false;
+            }
+        }
+        buffer.append("}");
+        return buffer.toString();
+    }
+
+
+    /**
+     * Moves forward to the first non-empty bucket.
+     *
+     * @return index of the bucket
+     */
+    private int advance() {
+        if (isEmpty())
+            throw new EmptyContainerException();
+        int b = (int) Math.floorMod(last, (long) buckets.length);
+        while (sizes[b] == 0) {
+            last++;
+            b = (b + 1 == buckets.length) ? 0 : b + 1;
+        }
+        return b;
+    }
+
+}
@@ -0,0 +1,552 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.util.Utils;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free skip list of keys with an associated value, which is the core
+ * of the concurrent containers of this package.
+ * <p>
+ * Every node is in the list of level 0 and, with probability 1/2, also in
+ * the list of the next level, and so on. The references to the next nodes
+ * carry a mark: a node is logically deleted when the reference to its
+ * next node at level 0 is marked, and the threads that find a marked
+ * node while searching unlink it (physical deletion). All the changes are
+ * made with compare-and-set operations, so no thread blocks the others.
+ * <p>
+ * Before marking a node, the thread that deletes it claims its value: it
+ * replaces the value by a tombstone with a compare-and-set, as
+ * java.util.concurrent.ConcurrentSkipListMap does. The value is replaced
+ * with a compare-and-set too, so a replacement and a deletion cannot both
+ * win: either the deletion returns the new value, or the replacement sees
+ * the tombstone and the key has to be added again.
+ * <p>
+ * Keys are unique. The nodes are not positions: they can be deleted at
+ * any time by another thread.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+class ConcurrentSkipList<K, V> implements Serializable {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. It is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * Number of levels of the list.
+     */
+    static final int MAX_LEVEL = 32;
+
+    /**
+     * Arrays of every thread for the predecessors and the successors of
+     * the searches, so that the operations do not allocate them. An
+     * operation takes them out while it uses them, so a nested operation
+     * (from a comparator) allocates its own ones, and empties them when
+     * it returns them, so that they do not keep any node alive.
+     */
+    private static final ThreadLocal<Node<?, ?>[][]> BUFFERS = new ThreadLocal<>();
+
+    /**
+     * Sentinel at the beginning of every level. The end of the levels
+     * is null.
+     */
+    private final Node<K, V> head;
+
+    /**
+     * Number of keys, updated after every insertion and deletion.
+     */
+    private final AtomicInteger n;
+
+    /**
+     * Highest level that has been used by any node; the searches start
+     * there. It only grows.
+     */
+    private final AtomicInteger maxLevel;
+
+    /**
+     * Comparator of the keys; if null, java.lang.Comparable is used.
+     */
+    private final Comparator<K> comparator;
+
+    /**
+     * Constructor with a parameter.
+     *
+     * @param comparator comparator of the keys; can be null
+     */
+    ConcurrentSkipList(Comparator<K> comparator) {
+        this.comparator = comparator;
+        head = new Node<>(null, null, MAX_LEVEL - 1);
+        n = new AtomicInteger();
+        maxLevel = new AtomicInteger();
+    }
+
+    /**
+     * Number of keys. It is exact only if no other thread is changing
+     * the list.
+     *
+     * @return number of keys
+     */
+    int size() {
+        return n.get();
+    }
+
+    /**
+     * Adds a key, if it is not in the list.
+     *
+     * @param key   key to add
+     * @param value value associated to the key
+     * @return null if the key has been added, or the node that already
+     * contains the key
+     */
+    Node<K, V> insert(K key, V value) {
+        int topLevel = randomLevel();
+        // before linking the node, so that the searches reach its levels
+        if (topLevel > maxLevel.get())
+            maxLevel.accumulateAndGet(topLevel, Math::max);
+        Node<K, V>[][] path = acquire();
+        try {
+            return insert(key, value, topLevel, path[0], path[1]);
+        } finally {
+            release(path);
+        }
+    }
+
+    /**
+     * Adds a key with the arrays of a search.
+     */
+    private Node<K, V> insert(K key, V value, int topLevel, Node<K, V>[] preds, Node<K, V>[] succs) {
+        while (true) {
+            if (find(key, preds, succs)) {
+                Node<K, V> found = succs[0];
+                if (!found.isDeleted())
+                    return found;
+                // claimed by another thread: help it and search again
+                markDeleted(found);
+                continue;
+            }
+            Node<K, V> node = new Node<>(key, value, topLevel);
+            for (int level = 0; level <= topLevel; level++)
+                node.next[level].set(succs[level], false);
+            if (!preds[0].next[0].compareAndSet(succs[0], node, false, false))
+                continue;
+            n.incrementAndGet();
+            for (int level = 1; level <= topLevel; level++) {
+                while (true) {
+                    Node<K, V> succ = succs[level];
+                    Node<K, V> old = node.next[level].getReference();
+                    // the node is being deleted: it must not be linked any more
+                    if (old != succ && !node.next[level].compareAndSet(old, succ, false, false))
+                        return null;
+                    if (preds[level].next[level].compareAndSet(succ, node, false, false))
+                        break;
+                    if (!find(key, preds, succs) || succs[0] != node)
+                        return null;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Searches a key, without changing the list.
+     *
+     * @param key key to search
+     * @return node that contains the key, or null if the key is not in the list
+     */
+    Node<K, V> get(K key) {
+        Node<K, V> pred = head;
+        Node<K, V> curr = null;
+        for (int level = maxLevel.get(); level >= 0; level--) {
+            curr = pred.next[level].getReference();
+            while (curr != null) {
+                // the mark before the reference: a marked reference does not change
+                boolean marked = curr.next[level].isMarked();
+                Node<K, V> succ = curr.next[level].getReference();
+                while (marked && succ != null) {
+                    curr = succ;
+                    marked = curr.next[level].isMarked();
+                    succ = curr.next[level].getReference();
+                }
+                if (marked) {
+                    curr = null;
+                    break;
+                }
+                if (compare(curr.key, key) < 0) {
+                    pred = curr;
+                    curr = succ;
+                } else
+                    break;
+            }
+        }
+        return (curr != null && compare(curr.key, key) == 0 && !curr.isDeleted()) ? curr : null;
+    }
+
+    /**
+     * Deletes a key.
+     *
+     * @param key key to delete
+     * @return node that contained the key, or null if the key was not in
+     * the list (or another thread has deleted it first)
+     */
+    Node<K, V> delete(K key) {
+        Node<K, V>[][] path = acquire();
+        try {
+            if (!find(key, path[0], path[1]))
+                return null;
+            Node<K, V> victim = path[1][0];
+            if (!markDeleted(victim))
+                return null;
+            find(key, path[0], path[1]);
+            return victim;
+        } finally {
+            release(path);
+        }
+    }
+
+    /**
+     * Deletes the first key.
+     *
+     * @return node that contained the first key, or null if the list is empty
+     */
+    Node<K, V> pollFirst() {
+        while (true) {
+            Node<K, V> first = first();
+            if (first == null)
+                return null;
+            if (markDeleted(first)) {
+                Node<K, V>[][] path = acquire();
+                try {
+                    find(first.key, path[0], path[1]);
+                } finally {
+                    release(path);
+                }
+                return first;
+            }
+        }
+    }
+
+    /**
+     * First node that is not deleted.
+     *
+     * @return first node, or null if the list is empty
+     */
+    Node<K, V> first() {
+        return next(head);
+    }
+
+    /**
+     * Node that follows a given one at level 0 and is not deleted.
+     *
+     * @param node reference node (it can be deleted)
+     * @return next node, or null if it is the last one
+     */
+    Node<K, V> next(Node<K, V> node) {
+        Node<K, V> curr = node.next[0].getReference();
+        while (curr != null && curr.isDeleted())
+            curr = curr.next[0].getReference();
+        return curr;
+    }
+
+    /**
+     * First node whose key is greater than or equal to the given one
+     * (or strictly greater, if so indicated).
+     *
+     * @param key       reference key
+     * @param inclusive true if a node with the same key is valid
+     * @return node, or null if there is none
+     */
+    Node<K, V> ceiling(K key, boolean inclusive) {
+        Node<K, V>[][] path = acquire();
+        boolean found;
+        Node<K, V> node;
+        try {
+            found = find(key, path[0], path[1]);
+            node = path[1][0];
+        } finally {
+            release(path);
+        }
+        if (node != null && node.isDeleted())
+            return next(node);
+        if (found && !inclusive)
+            return next(node);
+        return node;
+    }
+
+    /**
+     * Last node whose key is less than or equal to the given one
+     * (or strictly less, if so indicated).
+     *
+     * @param key       reference key
+     * @param inclusive true if a node with the same key is valid
+     * @return node, or null if there is none
+     */
+    Node<K, V> floor(K key, boolean inclusive) {
+        Node<K, V>[][] path = acquire();
+        try {
+            while (true) {
+                boolean found = find(key, path[0], path[1]);
+                Node<K, V> node = path[1][0];
+                if (found && inclusive && !node.isDeleted())
+                    return node;
+                Node<K, V> pred = path[0][0];
+                if (pred == head)
+                    return null;
+                // deleted after the search: the next search unlinks it
+                if (!pred.isDeleted())
+                    return pred;
+            }
+        } finally {
+            release(path);
+        }
+    }
+
+    /**
+     * Compares two keys.
+     *
+     * @param key1 first key
+     * @param key2 second key
+     * @return a negative, zero, or positive integer, depending on whether
+     * the first key is less than, equal to, or greater than the second one
+     */
+    int compare(K key1, K key2) {
+        if (comparator == null)
+            return ((Comparable<K>) key1).compareTo(key2);
+        return comparator.compare(key1, key2);
+    }
+
+
+    /**
+     * Searches the position of a key at every level, unlinking the deleted
+     * nodes that are found on the way.
+     *
+     * @param key   key to search
+     * @param preds at the end, the last node with a key less than the given
+     *              one, at every level
+     * @param succs at the end, the node that follows preds, at every level
+     * @return true if the key is in the list
+     */
+    private boolean find(K key, Node<K, V>[] preds, Node<K, V>[] succs) {
+        retry:
+        while (true) {
+            Node<K, V> pred = head;
+            for (int level = maxLevel.get(); level >= 0; level--) {
+                Node<K, V> curr = pred.next[level].getReference();
+                while (curr != null) {
+                    // the mark before the reference: a marked reference does not change
+                    boolean marked = curr.next[level].isMarked();
+                    Node<K, V> succ = curr.next[level].getReference();
+                    while (marked) {
+                        if (!pred.next[level].compareAndSet(curr, succ, false, false))
+                            continue retry;
+                        curr = succ;
+                        if (curr == null)
+                            break;
+                        marked = curr.next[level].isMarked();
+                        succ = curr.next[level].getReference();
+                    }
+                    if (curr == null || compare(curr.key, key) >= 0)
+                        break;
+                    pred = curr;
+                    curr = succ;
+                }
+                preds[level] = pred;
+                succs[level] = curr;
+            }
+            return succs[0] != null && compare(succs[0].key, key) == 0;
+        }
+    }
+
+    /**
+     * Deletes a node: claims its value, which decides which thread deletes
+     * the node, and marks the upper levels and finally level 0. The
+     * threads that lose the claim also mark the levels, so that they do
+     * not wait for the winner.
+     *
+     * @param node node to delete
+     * @return true if the current thread has deleted the node
+     */
+    private boolean markDeleted(Node<K, V> node) {
+        boolean deleted = node.claim();
+        if (deleted)
+            n.decrementAndGet();
+        for (int level = node.topLevel; level >= 0; level--) {
+            AtomicMarkableReference<Node<K, V>> next = node.next[level];
+            while (!next.isMarked()) {
+                Node<K, V> succ = next.getReference();
+                next.compareAndSet(succ, succ, false, true);
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Takes the arrays of the current thread for the predecessors (0) and
+     * the successors (1) of a search, or new ones if they are in use.
+     *
+     * @return the two arrays
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V>[][] acquire() {
+        Node<?, ?>[][] path = BUFFERS.get();
+        if (path == null)
+            return (Node<K, V>[][]) new Node<?, ?>[2][MAX_LEVEL];
+        BUFFERS.set(null);
+        return (Node<K, V>[][]) path;
+    }
+
+    /**
+     * Empties the arrays of a search and gives them back to the current
+     * thread.
+     *
+     * @param path the arrays taken with acquire
+     */
+    private void release(Node<K, V>[][] path) {
+        // the searches have only used the levels up to the highest one
+        int levels = maxLevel.get() + 1;
+        java.util.Arrays.fill(path[0], 0, levels, null);
+        java.util.Arrays.fill(path[1], 0, levels, null);
+        BUFFERS.set(path);
+    }
+
+    private static int randomLevel() {
+        int random = ThreadLocalRandom.current().nextInt();
+        return Math.min(Integer.numberOfTrailingZeros(random), MAX_LEVEL - 1);
+    }
+
+
+    /**
+     * Node of the skip list.
+     */
+    static class Node<K, V> implements Serializable {
+        /**
+         * Attribute that determines compatibility between objects
+         * serializable of the same class. It is calculated
+         * using a method of the Utilities class.
+         */
+        private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+        /**
+         * The key.
+         */
+        final K key;
+
+        /**
+         * The value, or a tombstone with the last value once the node
+         * has been deleted.
+         */
+        private final AtomicReference<Object> value;
+
+        /**
+         * Next node at every level, and mark of deletion.
+         */
+        final AtomicMarkableReference<Node<K, V>>[] next;
+
+        /**
+         * Highest level of the node.
+         */
+        final int topLevel;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Node(K key, V value, int topLevel) {
+            this.key = key;
+            this.value = new AtomicReference<>(value);
+            this.topLevel = topLevel;
+            next = new AtomicMarkableReference[topLevel + 1];
+            for (int level = 0; level <= topLevel; level++)
+                next[level] = new AtomicMarkableReference<>(null, false);
+        }
+
+        /**
+         * Retrieves the value. If the node has been deleted, it is the
+         * value claimed by the thread that deleted it.
+         *
+         * @return value of the node
+         */
+        @SuppressWarnings("unchecked")
+        V value() {
+            Object current = value.get();
+            if (current instanceof Tombstone)
+                current = ((Tombstone) current).value;
+            return (V) current;
+        }
+
+        /**
+         * Replaces the value, unless the node has been deleted.
+         *
+         * @param newValue new value of the node
+         * @return true if the value has been replaced; false if the node
+         * has been deleted
+         */
+        boolean replace(V newValue) {
+            while (true) {
+                Object current = value.get();
+                if (current instanceof Tombstone)
+                    return false;
+                if (value.compareAndSet(current, newValue))
+                    return true;
+            }
+        }
+
+        /**
+         * Claims the value of the node to delete it.
+         *
+         * @return true if the current thread has claimed it; false if
+         * another thread has deleted the node first
+         */
+        private boolean claim() {
+            while (true) {
+                Object current = value.get();
+                if (current instanceof Tombstone)
+                    return false;
+                if (value.compareAndSet(current, new Tombstone(current)))
+                    return true;
+            }
+        }
+
+        /**
+         * Check if the node has been deleted.
+         *
+         * @return true if it has been deleted
+         */
+        boolean isDeleted() {
+            return value.get() instanceof Tombstone;
+        }
+    }
+
+
+    /**
+     * Value of a deleted node.
+     */
+    private static final class Tombstone implements Serializable {
+        /**
+         * Attribute that determines compatibility between objects
+         * serializable of the same class. It is calculated
+         * using a method of the Utilities class.
+         */
+        private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+        /**
+         * Value that the node had when it was deleted.
+         */
+        private final Object value;
+
+        private Tombstone(Object value) {
+            this.value = value;
+        }
+    }
+
+}
@@ -0,0 +1,311 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.KeyValue;
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.exceptions.InvalidPositionException;
+import edu.uoc.ds.traversal.Iterator;
+import edu.uoc.ds.util.Utils;
+
+import java.util.Comparator;
+
+/**
+ * Class that implements an ordered dictionary that can be shared by
+ * several threads, by delegation in a lock-free skip list.
+ * <p>
+ * Keys are unique, and they must implement the java.lang.Comparable
+ * interface, or a java.util.Comparator must be given to the constructor.
+ * No operation blocks: put and delete cost O(log n) expected and never
+ * wait for other threads, and get and containsKey do not change the
+ * list at all. The iterations (keys, values, range) do not block the
+ * other threads either: they return the pairs that are in the dictionary
+ * when they reach their place, sorted by key.
+ * <p>
+ * size() is exact only if no other thread is changing the dictionary.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ * @see ConcurrentSkipListSet
+ */
+public class ConcurrentSkipListDictionary<K, V> implements Dictionary<K, V> {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. It is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * The skip list of keys, with their items.
+     */
+    private final ConcurrentSkipList<K, V> list;
+
+    /**
+     * Constructor without parameters. The keys must implement the
+     * java.lang.Comparable interface.
+     */
+    public ConcurrentSkipListDictionary() {
+        this(null);
+    }
+
+    /**
+     * Constructor with a parameter.
+     *
+     * @param comparator comparator of the keys
+     */
+    public ConcurrentSkipListDictionary(Comparator<K> comparator) {
+        list = new ConcurrentSkipList<>(comparator);
+    }
+
+    /**
+     * Retrieves the number of items in the container. It is exact only if
+     * no other thread is changing the dictionary.
+     *
+     * @return number of items it currently contains
+     */
+    public int size() {
+        return list.size();
+    }
+
+    /**
+     * Method to check if the container is empty.
+     *
+     * @return true or false, depending on whether it is empty or not
+     */
+    public boolean isEmpty() {
+        return list.first() == null;
+    }
+
+    /**
+     * Add an item with an associated key. If the key already exists,
+     * its item is replaced.
+     *
+     * @param key key associated with the item to be added
+     * @param value element to add to the dictionary
+     */
+    public void put(K key, V value) {
+        ConcurrentSkipList.Node<K, V> node;
+        while ((node = list.insert(key, value)) != null) {
+            // if another thread has deleted the node, the key is added again
+            if (node.replace(value))
+                return;
+        }
+    }
+
+    /**
+     * Checks for an item with a certain key, without changing the list.
+     *
+     * @param key key associated with an item
+     * @return true or false, depending on whether or not you find the key
+     */
+    public boolean containsKey(K key) {
+        return list.get(key) != null;
+    }
+
+    /**
+     * Retrieves the item associated with a key, without changing the list.
+     *
+     * @param key reference key
+     * @return element associated with the key; or null, if it does not exist
+     */
+    public V get(K key) {
+        ConcurrentSkipList.Node<K, V> node = list.get(key);
+        if (node == null)
+            return null;
+        V value = node.value();
+        // deleted after the search
+        return node.isDeleted() ? null : value;
+    }
+
+    /**
+     * Delete a key and its associated item.
+     *
+     * @param key reference key
+     * @return item associated with deleted key; or null, if the key was not
+     * in the dictionary (or another thread has deleted it first)
+     */
+    public V delete(K key) {
+        ConcurrentSkipList.Node<K, V> node = list.delete(key);
+        return (node == null) ? null : node.value();
+    }
+
+    /**
+     * Retrieves the pair with the lowest key.
+     *
+     * @return the first pair key-value
+     * @throws EmptyContainerException if the dictionary is empty
+     * @pre !isEmpty(), EmptyContainerException
+     */
+    public KeyValue<K, V> first() {
+        ConcurrentSkipList.Node<K, V> node = list.first();
+        if (node == null)
+            throw new EmptyContainerException();
+        return pair(node);
+    }
+
+    /**
+     * Deletes the pair with the lowest key, if any. Since other threads
+     * can empty the dictionary at any time, there is no precondition.
+     *
+     * @return the first pair key-value; or null, if the dictionary is empty
+     */
+    public KeyValue<K, V> pollFirst() {
+        return pair(list.pollFirst());
+    }
+
+    /**
+     * Retrieves the pair with the greatest key less than or equal to the
+     * given one.
+     *
+     * @param key reference key
+     * @return the pair key-value; or null, if there is none
+     */
+    public KeyValue<K, V> floor(K key) {
+        return pair(list.floor(key, true));
+    }
+
+    /**
+     * Retrieves the pair with the lowest key greater than or equal to the
+     * given one.
+     *
+     * @param key reference key
+     * @return the pair key-value; or null, if there is none
+     */
+    public KeyValue<K, V> ceiling(K key) {
+        return pair(list.ceiling(key, true));
+    }
+
+    /**
+     * Retrieves the pair with the greatest key strictly less than the
+     * given one.
+     *
+     * @param key reference key
+     * @return the pair key-value; or null, if there is none
+     */
+    public KeyValue<K, V> lower(K key) {
+        return pair(list.floor(key, false));
+    }
+
+    /**
+     * Retrieves the pair with the lowest key strictly greater than the
+     * given one.
+     *
+     * @param key reference key
+     * @return the pair key-value; or null, if there is none
+     */
+    public KeyValue<K, V> higher(K key) {
+        return pair(list.ceiling(key, false));
+    }
+
+    /**
+     * Retrieves the pairs with a key in the range [from, to), sorted by
+     * key. The first pair is found in O(log n) expected, and then the
+     * lowest level of the list is traversed.
+     *
+     * @param from lowest key (included); null to start from the first key
+     * @param to highest key (excluded); null to get up to the last key
+     * @return enumeration of pairs key-value
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<KeyValue<K, V>> range(K from, K to) {
+        ConcurrentSkipList.Node<K, V> node = (from == null) ? list.first() : list.ceiling(from, true);
+        return new NodeIterator<KeyValue<K, V>>(node, to) {
+            @Override
+            protected KeyValue<K, V> item(ConcurrentSkipList.Node<K, V> node) {
+                return pair(node);
+            }
+        };
+    }
+
+    /**
+     * Retrieves the keys of the dictionary, sorted.
+     *
+     * @return enumeration of sorted keys
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<K> keys() {
+        return new NodeIterator<K>(list.first(), null) {
+            @Override
+            protected K item(ConcurrentSkipList.Node<K, V> node) {
+                return node.key;
+            }
+        };
+    }
+
+    /**
+     * Retrieves the items of the dictionary, sorted by key.
+     *
+     * @return enumeration of items associated with keys
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<V> values() {
+        return new NodeIterator<V>(list.first(), null) {
+            @Override
+            protected V item(ConcurrentSkipList.Node<K, V> node) {
+                return node.value();
+            }
+        };
+    }
+
+    /**
+     * Method overwriting Object.toString ().
+     *
+     * @return list of pairs, sorted by key
+     */
+    public String toString() {
+        StringBuilder buffer = new StringBuilder();
+        buffer.append("{CONCURRENTSKIPLIST:");
+        for (Iterator<KeyValue<K, V>> it = range(null, null); it.hasNext(); ) {
+            buffer.append(it.next());
+            if (it.hasNext()) buffer.append(',');
+        }
+        buffer.append("}");
+        return buffer.toString();
+    }
+
+
+    private static <K, V> KeyValue<K, V> pair(ConcurrentSkipList.Node<K, V> node) {
+        return (node == null) ? null : new KeyValue<>(node.key, node.value());
+    }
+
+
+    /**
+     * Iterator that traverses the lowest level of the list from a given
+     * node up to a key (excluded) or to the end, skipping the deleted nodes.
+     */
+    private abstract class NodeIterator<T> implements Iterator<T> {
+        private ConcurrentSkipList.Node<K, V> node;
+        private final K to;
+
+        private NodeIterator(ConcurrentSkipList.Node<K, V> node, K to) {
+            this.node = node;
+            this.to = to;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return node != null && (to == null || list.compare(node.key, to) < 0);
+        }
+
+        @Override
+        public T next() throws InvalidPositionException {
+            if (!hasNext()) throw new InvalidPositionException();
+            T item = item(node);
+            node = list.next(node);
+            return item;
+        }
+
+        /**
+         * Item of the enumeration that corresponds to a node.
+         */
+        protected abstract T item(ConcurrentSkipList.Node<K, V> node);
+    }
+
+}
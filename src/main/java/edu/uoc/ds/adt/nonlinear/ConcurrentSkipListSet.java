@@ -0,0 +1,238 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.sequential.AbstractSet;
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.exceptions.InvalidPositionException;
+import edu.uoc.ds.traversal.Iterator;
+import edu.uoc.ds.util.Utils;
+
+import java.util.Comparator;
+
+/**
+ * Class that implements an ordered set that can be shared by several
+ * threads, by delegation in a lock-free skip list.
+ * <p>
+ * The class of the elements must implement the java.lang.Comparable
+ * interface, or a java.util.Comparator must be given to the constructor.
+ * add, contains and delete cost O(log n) expected and never block; contains
+ * does not change the list. If an equivalent element is already in the
+ * set, add keeps it. The operations between sets (union, intersection,
+ * difference) are made element by element, so they are not atomic.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ * @see ConcurrentSkipListDictionary
+ */
+public class ConcurrentSkipListSet<E> extends AbstractSet<E> {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. It is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * The skip list of elements.
+     */
+    private final ConcurrentSkipList<E, Boolean> list;
+
+    /**
+     * Constructor without parameters. The classes of the elements are expected
+     * implement the java.lang.Comparable interface.
+     */
+    public ConcurrentSkipListSet() {
+        this(null);
+    }
+
+    /**
+     * Constructor with a parameter and elements of a class comparable to
+     * the given comparator.
+     *
+     * @param comparator comparator that allows you to deduce the priority
+     */
+    public ConcurrentSkipListSet(Comparator<E> comparator) {
+        list = new ConcurrentSkipList<>(comparator);
+    }
+
+    /**
+     * Retrieves the number of items in the container. It is exact only if
+     * no other thread is changing the set.
+     *
+     * @return number of items it currently contains
+     */
+    public int size() {
+        return list.size();
+    }
+
+    /**
+     * Method to check if the container is empty.
+     *
+     * @return true or false, depending on whether it is empty or not
+     */
+    public boolean isEmpty() {
+        return list.first() == null;
+    }
+
+    /**
+     * Add an item, if there is no equivalent one.
+     *
+     * @param elem item to add to the set
+     */
+    public void add(E elem) {
+        list.insert(elem, Boolean.TRUE);
+    }
+
+    /**
+     * Check for an item, without changing the list.
+     *
+     * @param elem reference element
+     * @return true or false, depending on whether or not the item is found
+     */
+    public boolean contains(E elem) {
+        return list.get(elem) != null;
+    }
+
+    /**
+     * Delete an item, if possible.
+     *
+     * @param elem reference element
+     * @return item deleted; or null, if it was not there (or another
+     * thread has deleted it first)
+     */
+    public E delete(E elem) {
+        ConcurrentSkipList.Node<E, Boolean> node = list.delete(elem);
+        return (node == null) ? null : node.key;
+    }
+
+    /**
+     * Retrieves the lowest item.
+     *
+     * @return the first item
+     * @throws EmptyContainerException if the set is empty
+     * @pre !isEmpty(), EmptyContainerException
+     */
+    public E first() {
+        ConcurrentSkipList.Node<E, Boolean> node = list.first();
+        if (node == null)
+            throw new EmptyContainerException();
+        return node.key;
+    }
+
+    /**
+     * Deletes the lowest item, if any.
+     *
+     * @return the first item; or null, if the set is empty
+     */
+    public E pollFirst() {
+        return elem(list.pollFirst());
+    }
+
+    /**
+     * Retrieves the greatest item less than or equal to the given one.
+     *
+     * @param elem reference element
+     * @return the item; or null, if there is none
+     */
+    public E floor(E elem) {
+        return elem(list.floor(elem, true));
+    }
+
+    /**
+     * Retrieves the lowest item greater than or equal to the given one.
+     *
+     * @param elem reference element
+     * @return the item; or null, if there is none
+     */
+    public E ceiling(E elem) {
+        return elem(list.ceiling(elem, true));
+    }
+
+    /**
+     * Retrieves the greatest item strictly less than the given one.
+     *
+     * @param elem reference element
+     * @return the item; or null, if there is none
+     */
+    public E lower(E elem) {
+        return elem(list.floor(elem, false));
+    }
+
+    /**
+     * Retrieves the lowest item strictly greater than the given one.
+     *
+     * @param elem reference element
+     * @return the item; or null, if there is none
+     */
+    public E higher(E elem) {
+        return elem(list.ceiling(elem, false));
+    }
+
+    /**
+     * Retrieves the items in the range [from, to), in order.
+     *
+     * @param from lowest item (included); null to start from the first item
+     * @param to highest item (excluded); null to get up to the last item
+     * @return enumeration of the items
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<E> range(E from, E to) {
+        ConcurrentSkipList.Node<E, Boolean> first = (from == null) ? list.first() : list.ceiling(from, true);
+        return new Iterator<>() {
+            private ConcurrentSkipList.Node<E, Boolean> next = first;
+
+            @Override
+            public boolean hasNext() {
+                return next != null && (to == null || list.compare(next.key, to) < 0);
+            }
+
+            @Override
+            public E next() throws InvalidPositionException {
+                if (!hasNext()) throw new InvalidPositionException();
+                E elem = next.key;
+                next = list.next(next);
+                return elem;
+            }
+        };
+    }
+
+    /**
+     * Retrieves the items in the container, in order. The iteration does
+     * not block the other threads: it returns the items that are in the
+     * set when it reaches their place.
+     *
+     * @return enumeration of the items
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<E> values() {
+        return range(null, null);
+    }
+
+    /**
+     * Method overwriting Object.toString ().
+     *
+     * @return list of items, in order
+     */
+    public String toString() {
+        StringBuilder buffer = new StringBuilder();
+        buffer.append("{CONCURRENTSKIPLISTSET:");
+        for (Iterator<E> it = values(); it.hasNext(); ) {
+            buffer.append(it.next());
+            if (it.hasNext()) buffer.append(',');
+        }
+        buffer.append("}");
+        return buffer.toString();
+    }
+
+
+    private static <E> E elem(ConcurrentSkipList.Node<E, Boolean> node) {
+        return (node == null) ? null : node.key;
+    }
+
+}
@@ -0,0 +1,382 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.Position;
+import edu.uoc.ds.adt.sequential.Container;
+import edu.uoc.ds.adt.sequential.List;
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.traversal.Iterator;
+import edu.uoc.ds.traversal.IteratorArrayImpl;
+import edu.uoc.ds.util.Utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Class that implements a queue of delayed items, ordered by deadline.
+ * An item can only leave the queue when its deadline has expired.
+ * <p>
+ * The deadlines are instants of System.nanoTime(). The items are kept in
+ * an IndexedPriorityQueue, so adding an item and cancelling it through the
+ * position returned when it was added cost O(log n). The queue grows when
+ * it is full. Items with the same deadline leave the queue in the order in
+ * which they were added.
+ * <p>
+ * The queue can be shared by several threads. take() blocks until the
+ * first item is due: only one of the waiting threads (the leader) waits
+ * for the deadline of the first item, and it is woken up as soon as an
+ * item with an earlier deadline is added, so that no item fires late and
+ * no thread wakes up without a reason.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+public class DelayQueue<E> implements Container<E> {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. It is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * Initial capacity of the container by default.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * The items with their deadlines.
+     */
+    protected final IndexedPriorityQueue<Timer<E>> queue;
+
+    /**
+     * Lock that protects the queue.
+     */
+    protected final ReentrantLock lock;
+
+    /**
+     * Condition signalled when a new first item is available, or when the
+     * leader has to be replaced.
+     */
+    private final Condition available;
+
+    /**
+     * Thread waiting for the deadline of the first item, if any.
+     */
+    private transient Thread leader;
+
+    /**
+     * Counter of the items added, which breaks the ties between items with
+     * the same deadline.
+     */
+    private long sequence;
+
+    /**
+     * Constructor without parameters (initial capacity, default).
+     */
+    public DelayQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor with a parameter.
+     *
+     * @param capacity initial number of items the queue can contain
+     *                 before growing
+     */
+    public DelayQueue(int capacity) {
+        queue = new IndexedPriorityQueue<>(Math.max(capacity, 1), (t1, t2) -> {
+            long d = t1.deadline - t2.deadline;
+            return (d != 0) ? Long.signum(d) : Long.compare(t1.seq, t2.seq);
+        });
+        lock = new ReentrantLock();
+        available = lock.newCondition();
+    }
+
+    /**
+     * Retrieves the number of items in the container, due or not.
+     *
+     * @return number of items it currently contains
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to check if the container is empty.
+     *
+     * @return true or false, depending on whether it is empty or not
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Add an item with a deadline.
+     *
+     * @param elem item
+     * @param deadline instant (according to System.nanoTime()) from which
+     *                 the item can leave the queue
+     * @return position of the item, which allows to cancel it
+     */
+    public Position<E> add(E elem, long deadline) {
+        lock.lock();
+        try {
+            if (queue.isFull())
+                queue.ensureCapacity(queue.size() + (queue.size() >> 1) + 1);
+            Timer<E> timer = new Timer<>(elem, deadline, sequence++);
+            timer.pos = queue.insert(timer);
+            if (queue.peek() == timer) {
+                leader = null;
+                available.signal();
+            }
+            return timer;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Add an item that can leave the queue after a delay.
+     *
+     * @param elem item
+     * @param delay delay from now
+     * @param unit unit of the delay
+     * @return position of the item, which allows to cancel it
+     */
+    public Position<E> add(E elem, long delay, TimeUnit unit) {
+        return add(elem, System.nanoTime() + unit.toNanos(delay));
+    }
+
+    /**
+     * Cancels an item, in O(log n).
+     *
+     * @param pos position returned when the item was added
+     * @return true if the item has been deleted; false if it had already
+     * left the queue or it is not a position of this queue
+     */
+    public boolean cancel(Position<E> pos) {
+        if (!(pos instanceof Timer))
+            return false;
+        Timer<E> timer = (Timer<E>) pos;
+        lock.lock();
+        try {
+            if (timer.pos == null || !queue.contains(timer.pos) || timer.pos.getElem() != timer)
+                return false;
+            boolean first = queue.peek() == timer;
+            queue.remove(timer.pos);
+            timer.pos = null;
+            if (first) {
+                leader = null;
+                available.signal();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes the first item if its deadline has expired.
+     *
+     * @return first item, or null if the queue is empty or the first item
+     * is not due yet
+     */
+    public E poll() {
+        lock.lock();
+        try {
+            if (queue.isEmpty() || queue.peek().deadline - System.nanoTime() > 0)
+                return null;
+            return pollFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes the first item, waiting until its deadline expires.
+     *
+     * @return first item
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public E take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                if (queue.isEmpty()) {
+                    available.await();
+                    continue;
+                }
+                long delay = queue.peek().deadline - System.nanoTime();
+                if (delay <= 0)
+                    return pollFirst();
+                if (leader != null)
+                    available.await();
+                else {
+                    Thread thisThread = Thread.currentThread();
+                    leader = thisThread;
+                    try {
+                        available.awaitNanos(delay);
+                    } finally {
+                        if (leader == thisThread)
+                            leader = null;
+                    }
+                }
+            }
+        } finally {
+            if (leader == null && !queue.isEmpty())
+                available.signal();
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes all the items whose deadline is not later than a given
+     * instant, and adds them to the end of a list in order of deadline.
+     *
+     * @param now reference instant (according to System.nanoTime())
+     * @param buf list where the items are added
+     * @return number of items deleted
+     */
+    public int drainExpired(long now, List<E> buf) {
+        lock.lock();
+        try {
+            int count = 0;
+            while (!queue.isEmpty() && queue.peek().deadline - now <= 0) {
+                buf.insertEnd(pollFirst());
+                count++;
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the deadline of the first item.
+     *
+     * @return the earliest deadline
+     * @throws EmptyContainerException if the queue is empty
+     * @pre! isEmpty(), EmptyContainerException
+     */
+    public long nextDeadline() {
+        lock.lock();
+        try {
+            return queue.peek().deadline;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the items in the container, due or not, in order of
+     * deadline. The items are copied, so the iteration does not
+     * depend on later changes.
+     *
+     * @return enumeration of the items
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<E> values() {
+        lock.lock();
+        try {
+            E[] items = (E[]) new Object[queue.size()];
+            Iterator<Timer<E>> it = queue.values();
+            for (int i = 0; it.hasNext(); i++)
+                items[i] = it.next().elem;
+            return new IteratorArrayImpl<>(items, items.length, 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method overwriting Object.toString ().
+     *
+     * @return list of items in order of deadline
+     */
+    public String toString() {
+        StringBuilder buffer = new StringBuilder();
+        buffer.append("{DELAYQUEUE:");
+        for (Iterator<E> it = values(); it.hasNext(); ) {
+            buffer.append(it.next());
+            if (it.hasNext()) buffer.append(',');
+        }
+        buffer.append("}");
+        return buffer.toString();
+    }
+
+
+    /**
+     * Deletes the first item; the caller must hold the lock.
+     */
+    private E pollFirst() {
+        Timer<E> timer = queue.poll();
+        timer.pos = null;
+        return timer.elem;
+    }
+
+
+    /**
+     * Item with its deadline. It is also the position returned to the
+     * caller.
+     */
+    protected static class Timer<E> implements Position<E> {
+        private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+        /**
+         * The item.
+         */
+        protected final E elem;
+
+        /**
+         * Instant from which the item can leave the queue.
+         */
+        protected final long deadline;
+
+        /**
+         * Order of arrival.
+         */
+        protected final long seq;
+
+        /**
+         * Position in the priority queue, or null if it has left the queue.
+         */
+        protected Position<Timer<E>> pos;
+
+        protected Timer(E elem, long deadline, long seq) {
+            this.elem = elem;
+            this.deadline = deadline;
+            this.seq = seq;
+        }
+
+        /**
+         * Getter for elem
+         *
+         * @return the item
+         */
+        public E getElem() {
+            return elem;
+        }
+
+        /**
+         * Getter for the deadline
+         *
+         * @return instant from which the item can leave the queue
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+    }
+
+}
@@ -3,11 +3,14 @@ package edu.uoc.ds.adt.nonlinear;
 import edu.uoc.ds.traversal.Iterator;
 import edu.uoc.ds.adt.helpers.KeyValue;
 import edu.uoc.ds.exceptions.IllegalArgumentException;
+import edu.uoc.ds.exceptions.EmptyContainerException;
 import edu.uoc.ds.exceptions.InvalidPositionException;
 import edu.uoc.ds.traversal.IteratorTraversalKeysImpl;
 import edu.uoc.ds.traversal.IteratorTraversalValuesImpl;
 import edu.uoc.ds.util.Utils;
 
+import java.util.function.ToIntBiFunction;
+
 /**
  * Class that implements the operations of a dictionary by delegation
  * an AVL binary tree.
@@ -44,12 +47,19 @@ public class DictionaryAVLImpl<K, V> implements Dictionary<K, V> {
      */
     protected AVLTree<KeyValue<K, V>> avl;
 
+    /**
+     * Comparison of a key with the pairs of the tree, which allows to
+     * search a key without creating a pair.
+     */
+    protected final KeyComparison<K, V> keyComparison;
+
     /**
      * Constructor without parameters. The classes of the elements must
      *  implement the java.lang.Comparable interface.
      */
     public DictionaryAVLImpl() {
         avl = new AVLTree<>();
+        keyComparison = new KeyComparison<>(null);
     }
 
     /**
@@ -62,6 +72,7 @@ public class DictionaryAVLImpl<K, V> implements Dictionary<K, V> {
     public DictionaryAVLImpl(java.util.Comparator<KeyValue<K, V>> comparator)
             throws IllegalArgumentException {
         avl = new AVLTree<>(comparator);
+        keyComparison = new KeyComparison<>(comparator);
     }
 
     /**
@@ -95,13 +106,27 @@ public class DictionaryAVLImpl<K, V> implements Dictionary<K, V> {
     }
 
     /**
-     * Checks for an item with a certain key.
+     * Adds the pairs of a batch sorted by key. A big batch is merged with
+     * the pairs of the dictionary in O(n + m), and the tree is rebuilt
+     * perfectly balanced; if the dictionary is empty, it is built in O(m).
+     * A pair whose key was already there overwrites the old one.
+     *
+     * @param sorted iterator of pairs in ascending order of key
+     * @throws IllegalArgumentException if the pairs are not sorted
+     * @see AVLTree#addAll(Iterator)
+     */
+    public void putAll(Iterator<KeyValue<K, V>> sorted) {
+        avl.addAll(sorted);
+    }
+
+    /**
+     * Checks for an item with a certain key, even if its item is null.
      *
      * @param key key associated with an item
      * @return true or false, depending on whether or not you find the key
      */
     public boolean containsKey(K key) {
-        return get(key) != null;
+        return avl.containsByKey(key, keyComparison.of(key));
     }
 
     /**
@@ -113,8 +138,7 @@ public class DictionaryAVLImpl<K, V> implements Dictionary<K, V> {
      */
     public V get(K key) {
         V result = null;
-        KeyValue<K, V> aux = new KeyValue<>(key, null);
-        KeyValue<K, V> keyValue = avl.get(aux);
+        KeyValue<K, V> keyValue = avl.getByKey(key, keyComparison.of(key));
         if (keyValue != null)
             result = keyValue.getValue();
         return result;
@@ -130,13 +154,163 @@ public class DictionaryAVLImpl<K, V> implements Dictionary<K, V> {
      */
     public V delete(K key) {
         V result = null;
-        KeyValue<K, V> aux = new KeyValue<>(key, null);
-        KeyValue<K, V> keyValue = avl.delete(aux);
+        KeyValue<K, V> keyValue = avl.deleteByKey(key, keyComparison.of(key));
         if (keyValue != null)
             result = keyValue.getValue();
         return result;
     }
 
+    /**
+     * Retrieves the pair with the lowest key.
+     *
+     * @return the first pair key-value
+     * @throws EmptyContainerException if the dictionary is empty
+     * @pre !isEmpty(), EmptyContainerException
+     */
+    public KeyValue<K, V> first() {
+        return avl.first();
+    }
+
+    /**
+     * Retrieves the pair with the greatest key.
+     *
+     * @return the last pair key-value
+     * @throws EmptyContainerException if the dictionary is empty
+     * @pre !isEmpty(), EmptyContainerException
+     */
+    public KeyValue<K, V> last() {
+        return avl.last();
+    }
+
+    /**
+     * Deletes the pair with the lowest key.
+     *
+     * @return the first pair key-value
+     * @throws EmptyContainerException if the dictionary is empty
+     * @pre !isEmpty(), EmptyContainerException
+     */
+    public KeyValue<K, V> pollFirst() {
+        return avl.pollFirst();
+    }
+
+    /**
+     * Retrieves the pair with the greatest key less than or equal to the
+     * given one.
+     *
+     * @param key reference key
+     * @return the pair key-value; or null, if there is none
+     */
+    public KeyValue<K, V> floor(K key) {
+        return avl.floor(new KeyValue<>(key, null));
+    }
+
+    /**
+     * Retrieves the pair with the lowest key greater than or equal to the
+     * given one.
+     *
+     * @param key reference key
+     * @return the pair key-value; or null, if there is none
+     */
+    public KeyValue<K, V> ceiling(K key) {
+        return avl.ceiling(new KeyValue<>(key, null));
+    }
+
+    /**
+     * Retrieves the pair with the greatest key strictly less than the
+     * given one.
+     *
+     * @param key reference key
+     * @return the pair key-value; or null, if there is none
+     */
+    public KeyValue<K, V> lower(K key) {
+        return avl.lower(new KeyValue<>(key, null));
+    }
+
+    /**
+     * Retrieves the pair with the lowest key strictly greater than the
+     * given one.
+     *
+     * @param key reference key
+     * @return the pair key-value; or null, if there is none
+     */
+    public KeyValue<K, V> higher(K key) {
+        return avl.higher(new KeyValue<>(key, null));
+    }
+
+    /**
+     * Retrieves the pairs with a key in the range [from, to), sorted by
+     * key, in O(log n) plus the number of pairs retrieved.
+     *
+     * @param from lowest key (included)
+     * @param to highest key (excluded)
+     * @return enumeration of pairs key-value
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<KeyValue<K, V>> range(K from, K to) {
+        return avl.range(new KeyValue<>(from, null), true, new KeyValue<>(to, null), false);
+    }
+
+    /**
+     * Retrieves the pairs with a key strictly less than a given one,
+     * sorted by key.
+     *
+     * @param to highest key (excluded)
+     * @return enumeration of pairs key-value
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<KeyValue<K, V>> headMap(K to) {
+        return avl.range(null, false, new KeyValue<>(to, null), false);
+    }
+
+    /**
+     * Retrieves the pairs with a key greater than or equal to a given one,
+     * sorted by key.
+     *
+     * @param from lowest key (included)
+     * @return enumeration of pairs key-value
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<KeyValue<K, V>> tailMap(K from) {
+        return avl.range(new KeyValue<>(from, null), true, null, false);
+    }
+
+    /**
+     * Retrieves the k-th pair, in order of key, starting from zero, in
+     * O(log n).
+     *
+     * @param k index of the pair
+     * @return the pair key-value whose rank is k
+     * @throws IllegalArgumentException if k is not between 0 and size() - 1
+     */
+    public KeyValue<K, V> select(int k) {
+        return avl.select(k);
+    }
+
+    /**
+     * Retrieves the number of keys strictly less than a given one, in
+     * O(log n).
+     *
+     * @param key reference key
+     * @return the rank of the key
+     */
+    public int rank(K key) {
+        return avl.rank(new KeyValue<>(key, null));
+    }
+
+    /**
+     * Retrieves the number of keys in the range [lo, hi), in O(log n).
+     *
+     * @param lo lowest key (included)
+     * @param hi highest key (excluded)
+     * @return number of keys within the range
+     */
+    public int countRange(K lo, K hi) {
+        return avl.countRange(new KeyValue<>(lo, null), new KeyValue<>(hi, null));
+    }
+
     /**
      * Accessory for reading the items in the container.
      * Returns an enumeration. You can get a list with a couple of
@@ -198,4 +372,59 @@ public class DictionaryAVLImpl<K, V> implements Dictionary<K, V> {
         return Utils.delegatedContainerToString("DictionariAVLImpl", avl);
     }
 
+
+    /**
+     * Comparison of a key with the key of a pair. Without a comparator,
+     * the keys are compared as in KeyValue.compareTo; with a comparator of
+     * pairs, the key has to be wrapped in a pair, once per search (see of).
+     */
+    protected static class KeyComparison<K, V> implements ToIntBiFunction<K, KeyValue<K, V>>, java.io.Serializable {
+        private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+        private final java.util.Comparator<KeyValue<K, V>> comparator;
+
+        protected KeyComparison(java.util.Comparator<KeyValue<K, V>> comparator) {
+            this.comparator = comparator;
+        }
+
+        /**
+         * Comparison to use in the search of a key. Without a comparator,
+         * it is this one; with a comparator, the key is wrapped in a
+         * single pair that is compared with every pair of the search.
+         *
+         * @param key key to search
+         * @return comparison of the key with the pairs
+         */
+        protected ToIntBiFunction<K, KeyValue<K, V>> of(K key) {
+            return (comparator == null) ? this : new Probe<>(key, comparator);
+        }
+
+        @Override
+        public int applyAsInt(K key, KeyValue<K, V> keyValue) {
+            if (comparator == null)
+                return ((Comparable<K>) key).compareTo(keyValue.getKey());
+            return comparator.compare(new KeyValue<>(key, null), keyValue);
+        }
+    }
+
+    /**
+     * Pair with the key of a search, which compares itself with the pairs
+     * of the tree by means of the comparator of the dictionary.
+     */
+    private static final class Probe<K, V> extends KeyValue<K, V> implements ToIntBiFunction<K, KeyValue<K, V>> {
+        private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+        private final java.util.Comparator<KeyValue<K, V>> comparator;
+
+        private Probe(K key, java.util.Comparator<KeyValue<K, V>> comparator) {
+            super(key, null);
+            this.comparator = comparator;
+        }
+
+        @Override
+        public int applyAsInt(K key, KeyValue<K, V> keyValue) {
+            return comparator.compare(this, keyValue);
+        }
+    }
+
 }
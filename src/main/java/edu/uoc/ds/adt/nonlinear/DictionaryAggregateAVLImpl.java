@@ -0,0 +1,79 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.KeyValue;
+import edu.uoc.ds.util.Utils;
+
+/**
+ * Class that implements an ordered dictionary by delegation in an AVL
+ * tree that keeps, in every node, the aggregate of the values of its
+ * subtree. The aggregate of the values whose key is within a range (for
+ * example, the sum of the volumes within a price band) is obtained in
+ * O(log n), without traversing the pairs of the range.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ * @see AggregateAVLTree
+ */
+public class DictionaryAggregateAVLImpl<K, V, A> extends DictionaryAVLImpl<K, V> {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. It is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * The tree of the superclass, with its actual type.
+     */
+    protected AggregateAVLTree<KeyValue<K, V>, A> tree;
+
+    /**
+     * Constructor with a parameter. The keys must implement the
+     * java.lang.Comparable interface.
+     *
+     * @param aggregator aggregator of the values
+     */
+    public DictionaryAggregateAVLImpl(Aggregator<V, A> aggregator) {
+        tree = new AggregateAVLTree<>(Aggregator.of(aggregator.identity(),
+                (KeyValue<K, V> kv) -> aggregator.lift(kv.getValue()), aggregator::combine));
+        avl = tree;
+    }
+
+    /**
+     * Retrieves the aggregate of all the values, in O(1).
+     *
+     * @return the aggregate; the identity, if the dictionary is empty
+     */
+    public A aggregate() {
+        return tree.aggregate();
+    }
+
+    /**
+     * Retrieves the aggregate of the values whose key is in the range
+     * [from, to), in order of key, in O(log n). A null bound leaves the
+     * range open on that side, as in AggregateAVLTree.
+     *
+     * @param from lowest key (included); null if there is no lower bound
+     * @param to highest key (excluded); null if there is no upper bound
+     * @return the aggregate; the identity, if there are no keys in the range
+     */
+    public A aggregate(K from, K to) {
+        return tree.aggregate(bound(from), bound(to));
+    }
+
+    /**
+     * Pair that represents a bound of a range in the tree.
+     *
+     * @param key key of the bound; can be null
+     * @return the pair; or null, if there is no bound
+     */
+    private static <K, V> KeyValue<K, V> bound(K key) {
+        return (key == null) ? null : new KeyValue<>(key, null);
+    }
+
+}
@@ -0,0 +1,666 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.KeyValue;
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import edu.uoc.ds.exceptions.InvalidPositionException;
+import edu.uoc.ds.traversal.Iterator;
+import edu.uoc.ds.util.Utils;
+
+import java.util.Comparator;
+
+/**
+ * Class that implements the operations of an ordered dictionary by means
+ * of a B+ tree.
+ * <p>
+ * Every node stores up to order - 1 keys, sorted and contiguous in a
+ * vector, so a node is searched with a binary search that touches a few
+ * cache lines, and the height of the tree is about log(n) / log(order / 2)
+ * instead of the 1.45 * log2(n) of an AVL tree. The inner nodes only keep
+ * the keys that guide the search and up to order children; the items are
+ * in the leaves, without any KeyValue object per item, and every leaf is
+ * linked to the next one, so keys(), values() and range() traverse the
+ * leaves sequentially.
+ * <p>
+ * Insertion and deletion are iterative. A node that overflows is split in
+ * two halves, and a node that has less than (order - 1) / 2 keys takes a
+ * key from a sibling or is merged with it, so all the leaves are always at
+ * the same depth.
+ * <p>
+ * The keys are expected to implement java.lang.Comparable or a
+ * java.util.Comparator of keys is provided to the constructor.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+public class DictionaryBPlusTreeImpl<K, V> implements Dictionary<K, V> {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. It is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * Maximum number of children of an inner node by default.
+     */
+    public static final int DEFAULT_ORDER = 64;
+
+    /**
+     * Maximum number of children of an inner node; the nodes have up to
+     * order - 1 keys.
+     */
+    protected final int order;
+
+    /**
+     * Minimum number of keys of every node except the root.
+     */
+    protected final int minKeys;
+
+    /**
+     * Root of the tree; it is a leaf while the tree has only one level.
+     */
+    protected Node<K> root;
+
+    /**
+     * First leaf of the chain of leaves.
+     */
+    protected Leaf<K, V> first;
+
+    /**
+     * Number of levels of inner nodes.
+     */
+    protected int height;
+
+    /**
+     * Number of items currently in the container.
+     */
+    protected int n;
+
+    /**
+     * Specific comparator of keys. It can have a null value and then the
+     * interface java.lang.Comparable is used.
+     */
+    protected final Comparator<K> comparator;
+
+    /**
+     * Constructor without parameters (default order). The keys must
+     * implement the java.lang.Comparable interface.
+     */
+    public DictionaryBPlusTreeImpl() {
+        this(DEFAULT_ORDER, null);
+    }
+
+    /**
+     * Constructor with a parameter (given order). The keys must implement
+     * the java.lang.Comparable interface.
+     *
+     * @param order maximum number of children of an inner node
+     * @throws IllegalArgumentException if the order is less than three
+     */
+    public DictionaryBPlusTreeImpl(int order) {
+        this(order, null);
+    }
+
+    /**
+     * Constructor with two parameters.
+     *
+     * @param order maximum number of children of an inner node
+     * @param comparator comparator of keys; can be null
+     * @throws IllegalArgumentException if the order is less than three
+     * @pre order >= 3, IllegalArgumentException
+     */
+    public DictionaryBPlusTreeImpl(int order, Comparator<K> comparator) {
+        if (order < 3)
+            throw new IllegalArgumentException("order must be at least 3");
+        this.order = order;
+        this.minKeys = (order - 1) / 2;
+        this.comparator = comparator;
+        first = new Leaf<>(order);
+        root = first;
+        height = 0;
+        n = 0;
+    }
+
+    /**
+     * Getter of the order of the tree.
+     *
+     * @return maximum number of children of an inner node
+     */
+    public int order() {
+        return order;
+    }
+
+    /**
+     * Retrieves the number of items in the container.
+     *
+     * @return number of items it currently contains
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Method to check if the container is empty.
+     *
+     * @return true or false, depending on whether it is empty or not
+     */
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    /**
+     * Add an item with an associated key. If there is an item with the
+     * same key, it is overwritten.
+     *
+     * @param key key associated with the item to be added
+     * @param value element to add to the dictionary
+     */
+    public void put(K key, V value) {
+        Inner<K>[] path = new Inner[height];
+        int[] indexes = new int[height];
+        Leaf<K, V> leaf = descend(key, path, indexes);
+        int pos = search(leaf, key);
+        if (pos >= 0) {
+            leaf.values[pos] = value;
+            return;
+        }
+        pos = -pos - 1;
+        System.arraycopy(leaf.keys, pos, leaf.keys, pos + 1, leaf.n - pos);
+        System.arraycopy(leaf.values, pos, leaf.values, pos + 1, leaf.n - pos);
+        leaf.keys[pos] = key;
+        leaf.values[pos] = value;
+        leaf.n++;
+        n++;
+        if (leaf.n < order)
+            return;
+
+        // the leaf overflows: the upper half goes to a new leaf
+        int mid = leaf.n / 2;
+        Leaf<K, V> right = new Leaf<>(order);
+        right.n = leaf.n - mid;
+        System.arraycopy(leaf.keys, mid, right.keys, 0, right.n);
+        System.arraycopy(leaf.values, mid, right.values, 0, right.n);
+        clear(leaf.keys, mid, leaf.n);
+        clear(leaf.values, mid, leaf.n);
+        leaf.n = mid;
+        right.next = leaf.next;
+        leaf.next = right;
+        K separator = right.keys[0];
+        Node<K> newChild = right;
+
+        for (int d = height - 1; d >= 0; d--) {
+            Inner<K> parent = path[d];
+            int i = indexes[d];
+            System.arraycopy(parent.keys, i, parent.keys, i + 1, parent.n - i);
+            System.arraycopy(parent.children, i + 1, parent.children, i + 2, parent.n - i);
+            parent.keys[i] = separator;
+            parent.children[i + 1] = newChild;
+            parent.n++;
+            if (parent.n < order)
+                return;
+
+            // the inner node overflows: the middle key goes up
+            mid = parent.n / 2;
+            Inner<K> sibling = new Inner<>(order);
+            separator = parent.keys[mid];
+            sibling.n = parent.n - mid - 1;
+            System.arraycopy(parent.keys, mid + 1, sibling.keys, 0, sibling.n);
+            System.arraycopy(parent.children, mid + 1, sibling.children, 0, sibling.n + 1);
+            clear(parent.keys, mid, parent.n);
+            clear(parent.children, mid + 1, parent.n + 1);
+            parent.n = mid;
+            newChild = sibling;
+        }
+
+        // the root has been split: the tree grows one level
+        Inner<K> newRoot = new Inner<>(order);
+        newRoot.keys[0] = separator;
+        newRoot.children[0] = root;
+        newRoot.children[1] = newChild;
+        newRoot.n = 1;
+        root = newRoot;
+        height++;
+    }
+
+    /**
+     * Checks for an item with a certain key.
+     *
+     * @param key key associated with an item
+     * @return true or false, depending on whether or not you find the key
+     */
+    public boolean containsKey(K key) {
+        Leaf<K, V> leaf = descend(key, null, null);
+        return search(leaf, key) >= 0;
+    }
+
+    /**
+     * Retrieves the item associated with a key.
+     *
+     * @param key reference key
+     * @return element associated with the key; or null, if it was not there
+     */
+    public V get(K key) {
+        Leaf<K, V> leaf = descend(key, null, null);
+        int pos = search(leaf, key);
+        return (pos >= 0) ? leaf.values[pos] : null;
+    }
+
+    /**
+     * Delete the key and its associated item, if possible.
+     *
+     * @param key reference key
+     * @return deleted item associated with key;
+     * or null, if it was not there
+     */
+    public V delete(K key) {
+        Inner<K>[] path = new Inner[height];
+        int[] indexes = new int[height];
+        Leaf<K, V> leaf = descend(key, path, indexes);
+        int pos = search(leaf, key);
+        if (pos < 0)
+            return null;
+        V deleted = leaf.values[pos];
+        System.arraycopy(leaf.keys, pos + 1, leaf.keys, pos, leaf.n - pos - 1);
+        System.arraycopy(leaf.values, pos + 1, leaf.values, pos, leaf.n - pos - 1);
+        leaf.n--;
+        leaf.keys[leaf.n] = null;
+        leaf.values[leaf.n] = null;
+        n--;
+
+        Node<K> node = leaf;
+        for (int d = height - 1; d >= 0 && node.n < minKeys; d--) {
+            Inner<K> parent = path[d];
+            int i = indexes[d];
+            if (node instanceof Leaf)
+                fixLeaf(parent, i);
+            else
+                fixInner(parent, i);
+            node = parent;
+        }
+        if (height > 0 && root.n == 0) {
+            // the root has lost its last key: the tree shrinks one level
+            root = ((Inner<K>) root).children[0];
+            height--;
+        }
+        return deleted;
+    }
+
+    /**
+     * Retrieves the keys of the dictionary, sorted, traversing the chain
+     * of leaves.
+     *
+     * @return enumeration of sorted keys
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<K> keys() {
+        return new LeafIterator<K>(first, 0, null) {
+            @Override
+            protected K item(Leaf<K, V> leaf, int i) {
+                return leaf.keys[i];
+            }
+        };
+    }
+
+    /**
+     * Retrieves the items of the dictionary, sorted by key, traversing
+     * the chain of leaves.
+     *
+     * @return enumeration of items associated with keys
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<V> values() {
+        return new LeafIterator<V>(first, 0, null) {
+            @Override
+            protected V item(Leaf<K, V> leaf, int i) {
+                return leaf.values[i];
+            }
+        };
+    }
+
+    /**
+     * Retrieves the pairs with a key in the range [from, to), sorted by
+     * key. The first pair is found in O(log n), and then the leaves
+     * are traversed sequentially.
+     *
+     * @param from lowest key (included); null to start from the first key
+     * @param to highest key (excluded); null to get up to the last key
+     * @return enumeration of pairs key-value
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<KeyValue<K, V>> range(K from, K to) {
+        Leaf<K, V> leaf = first;
+        int pos = 0;
+        if (from != null) {
+            leaf = descend(from, null, null);
+            pos = search(leaf, from);
+            if (pos < 0) pos = -pos - 1;
+        }
+        return new LeafIterator<KeyValue<K, V>>(leaf, pos, to) {
+            @Override
+            protected KeyValue<K, V> item(Leaf<K, V> leaf, int i) {
+                return new KeyValue<>(leaf.keys[i], leaf.values[i]);
+            }
+        };
+    }
+
+    /**
+     * Method overwriting Object.toString ().
+     *
+     * @return list of pairs, sorted by key
+     */
+    public String toString() {
+        StringBuilder buffer = new StringBuilder();
+        buffer.append("{BPLUSTREE:");
+        for (Iterator<KeyValue<K, V>> it = range(null, null); it.hasNext(); ) {
+            buffer.append(it.next());
+            if (it.hasNext()) buffer.append(',');
+        }
+        buffer.append("}");
+        return buffer.toString();
+    }
+
+
+    /**
+     * Protected method that compares two keys. If the constructor has not
+     * defined a comparator, java.lang.Comparable is used.
+     *
+     * @param key1 first key
+     * @param key2 second key
+     * @return a negative, zero, or positive integer, depending on whether the
+     * first key is less, equal or greater than the second one
+     */
+    protected int compare(K key1, K key2) {
+        if (comparator == null)
+            return ((Comparable<K>) key1).compareTo(key2);
+        return comparator.compare(key1, key2);
+    }
+
+    /**
+     * Goes down from the root to the leaf where a key is or should be.
+     *
+     * @param key the key
+     * @param path if not null, receives the inner nodes visited
+     * @param indexes if not null, receives the child followed in every
+     *                inner node
+     * @return the leaf
+     */
+    private Leaf<K, V> descend(K key, Inner<K>[] path, int[] indexes) {
+        Node<K> node = root;
+        for (int d = 0; d < height; d++) {
+            Inner<K> inner = (Inner<K>) node;
+            int i = upperBound(inner, key);
+            if (path != null) {
+                path[d] = inner;
+                indexes[d] = i;
+            }
+            node = inner.children[i];
+        }
+        return (Leaf<K, V>) node;
+    }
+
+    /**
+     * Binary search of a key in a leaf.
+     *
+     * @return index of the key; or (-(insertion point) - 1), if it is not
+     * in the leaf
+     */
+    private int search(Node<K> node, K key) {
+        int low = 0;
+        int high = node.n - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comp = compare(node.keys[mid], key);
+            if (comp < 0) low = mid + 1;
+            else if (comp > 0) high = mid - 1;
+            else return mid;
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Binary search of the child of an inner node that can contain a key.
+     *
+     * @return number of keys of the node that are less or equal than the key
+     */
+    private int upperBound(Node<K> node, K key) {
+        int low = 0;
+        int high = node.n;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(node.keys[mid], key) <= 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Restores the minimum number of keys of the leaf that is the i-th
+     * child of an inner node, taking a key from a sibling or merging it
+     * with a sibling.
+     */
+    private void fixLeaf(Inner<K> parent, int i) {
+        Leaf<K, V> leaf = (Leaf<K, V>) parent.children[i];
+        Leaf<K, V> left = (i > 0) ? (Leaf<K, V>) parent.children[i - 1] : null;
+        Leaf<K, V> right = (i < parent.n) ? (Leaf<K, V>) parent.children[i + 1] : null;
+        if (left != null && left.n > minKeys) {
+            System.arraycopy(leaf.keys, 0, leaf.keys, 1, leaf.n);
+            System.arraycopy(leaf.values, 0, leaf.values, 1, leaf.n);
+            left.n--;
+            leaf.keys[0] = left.keys[left.n];
+            leaf.values[0] = left.values[left.n];
+            left.keys[left.n] = null;
+            left.values[left.n] = null;
+            leaf.n++;
+            parent.keys[i - 1] = leaf.keys[0];
+        } else if (right != null && right.n > minKeys) {
+            leaf.keys[leaf.n] = right.keys[0];
+            leaf.values[leaf.n] = right.values[0];
+            leaf.n++;
+            right.n--;
+            System.arraycopy(right.keys, 1, right.keys, 0, right.n);
+            System.arraycopy(right.values, 1, right.values, 0, right.n);
+            right.keys[right.n] = null;
+            right.values[right.n] = null;
+            parent.keys[i] = right.keys[0];
+        } else if (left != null) {
+            mergeLeaves(left, leaf);
+            removeChild(parent, i - 1);
+        } else {
+            mergeLeaves(leaf, right);
+            removeChild(parent, i);
+        }
+    }
+
+    /**
+     * Moves the items of a leaf to the end of the previous one, and unlinks it.
+     */
+    private void mergeLeaves(Leaf<K, V> left, Leaf<K, V> right) {
+        System.arraycopy(right.keys, 0, left.keys, left.n, right.n);
+        System.arraycopy(right.values, 0, left.values, left.n, right.n);
+        left.n += right.n;
+        left.next = right.next;
+    }
+
+    /**
+     * Restores the minimum number of keys of the inner node that is the
+     * i-th child of another one, rotating a key through the parent or
+     * merging it with a sibling and the key of the parent that separates
+     * them.
+     */
+    private void fixInner(Inner<K> parent, int i) {
+        Inner<K> node = (Inner<K>) parent.children[i];
+        Inner<K> left = (i > 0) ? (Inner<K>) parent.children[i - 1] : null;
+        Inner<K> right = (i < parent.n) ? (Inner<K>) parent.children[i + 1] : null;
+        if (left != null && left.n > minKeys) {
+            System.arraycopy(node.keys, 0, node.keys, 1, node.n);
+            System.arraycopy(node.children, 0, node.children, 1, node.n + 1);
+            node.keys[0] = parent.keys[i - 1];
+            node.children[0] = left.children[left.n];
+            node.n++;
+            parent.keys[i - 1] = left.keys[left.n - 1];
+            left.keys[left.n - 1] = null;
+            left.children[left.n] = null;
+            left.n--;
+        } else if (right != null && right.n > minKeys) {
+            node.keys[node.n] = parent.keys[i];
+            node.children[node.n + 1] = right.children[0];
+            node.n++;
+            parent.keys[i] = right.keys[0];
+            System.arraycopy(right.keys, 1, right.keys, 0, right.n - 1);
+            System.arraycopy(right.children, 1, right.children, 0, right.n);
+            right.keys[right.n - 1] = null;
+            right.children[right.n] = null;
+            right.n--;
+        } else if (left != null) {
+            mergeInner(left, parent.keys[i - 1], node);
+            removeChild(parent, i - 1);
+        } else {
+            mergeInner(node, parent.keys[i], right);
+            removeChild(parent, i);
+        }
+    }
+
+    /**
+     * Moves the separator and the keys and children of an inner node to
+     * the end of the previous one.
+     */
+    private void mergeInner(Inner<K> left, K separator, Inner<K> right) {
+        left.keys[left.n] = separator;
+        System.arraycopy(right.keys, 0, left.keys, left.n + 1, right.n);
+        System.arraycopy(right.children, 0, left.children, left.n + 1, right.n + 1);
+        left.n += 1 + right.n;
+    }
+
+    /**
+     * Deletes the i-th key of an inner node and the child at its right,
+     * after the child has been merged with its left sibling.
+     */
+    private void removeChild(Inner<K> parent, int i) {
+        System.arraycopy(parent.keys, i + 1, parent.keys, i, parent.n - i - 1);
+        System.arraycopy(parent.children, i + 2, parent.children, i + 1, parent.n - i - 1);
+        parent.n--;
+        parent.keys[parent.n] = null;
+        parent.children[parent.n + 1] = null;
+    }
+
+    private static void clear(Object[] v, int from, int to) {
+        for (int i = from; i < to; i++)
+            v[i] = null;
+    }
+
+
+    /**
+     * Node of the tree, with its keys sorted at the beginning of a vector.
+     * There is room for one more key than the maximum, so that a node is
+     * split after adding the key that makes it overflow.
+     */
+    protected static class Node<K> implements java.io.Serializable {
+        private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+        /**
+         * The keys.
+         */
+        protected final K[] keys;
+
+        /**
+         * Number of keys.
+         */
+        protected int n;
+
+        protected Node(int order) {
+            keys = (K[]) new Object[order];
+        }
+    }
+
+    /**
+     * Inner node: n keys and n + 1 children. The i-th child contains the
+     * keys between keys[i - 1] (included) and keys[i] (excluded).
+     */
+    protected static class Inner<K> extends Node<K> {
+        private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+        /**
+         * The children.
+         */
+        protected final Node<K>[] children;
+
+        protected Inner(int order) {
+            super(order);
+            children = new Node[order + 1];
+        }
+    }
+
+    /**
+     * Leaf: the keys with their items, and the link to the next leaf.
+     */
+    protected static class Leaf<K, V> extends Node<K> {
+        private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+        /**
+         * The items, in the same order as the keys.
+         */
+        protected final V[] values;
+
+        /**
+         * Next leaf; null in the last one.
+         */
+        protected Leaf<K, V> next;
+
+        protected Leaf(int order) {
+            super(order);
+            values = (V[]) new Object[order];
+        }
+    }
+
+    /**
+     * Iterator that traverses the chain of leaves from a given item up to
+     * a key (excluded) or to the end.
+     */
+    protected abstract class LeafIterator<T> implements Iterator<T> {
+        private Leaf<K, V> leaf;
+        private int i;
+        private final K to;
+
+        protected LeafIterator(Leaf<K, V> leaf, int i, K to) {
+            this.leaf = leaf;
+            this.i = i;
+            this.to = to;
+            skipEmpty();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return leaf != null && (to == null || compare(leaf.keys[i], to) < 0);
+        }
+
+        @Override
+        public T next() throws InvalidPositionException {
+            if (!hasNext()) throw new InvalidPositionException();
+            T item = item(leaf, i);
+            i++;
+            skipEmpty();
+            return item;
+        }
+
+        /**
+         * Item of the enumeration that corresponds to a key of a leaf.
+         */
+        protected abstract T item(Leaf<K, V> leaf, int i);
+
+        private void skipEmpty() {
+            while (leaf != null && i >= leaf.n) {
+                leaf = leaf.next;
+                i = 0;
+            }
+        }
+    }
+
+}
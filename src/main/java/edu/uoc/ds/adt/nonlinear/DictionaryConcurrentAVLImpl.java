@@ -0,0 +1,421 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.KeyValue;
+import edu.uoc.ds.adt.sequential.LinkedList;
+import edu.uoc.ds.adt.sequential.List;
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import edu.uoc.ds.traversal.Iterator;
+import edu.uoc.ds.util.Utils;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Class that implements an ordered dictionary, by delegation in an AVL
+ * tree, that can be shared by several threads and is meant for workloads
+ * where reads are much more frequent than writes.
+ * <p>
+ * The tree is protected by a StampedLock. get, containsKey and size are
+ * optimistic: they traverse the tree without taking the lock, and then
+ * check that no writer has changed it in the meantime. Only if the check
+ * fails (or the traversal finds the tree in an inconsistent state) they
+ * are repeated holding the read lock. Therefore, while there are no
+ * writes, readers do not write any shared memory and never wait for each
+ * other. The rest of the queries take the read lock, and the changes
+ * take the write lock.
+ * <p>
+ * The enumerations (keys, values, range, ...) copy the items holding the
+ * read lock, so they do not depend on later changes.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+public class DictionaryConcurrentAVLImpl<K, V> extends DictionaryAVLImpl<K, V> {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. It is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * Maximum number of levels that an optimistic search traverses. It is
+     * greater than the height of any AVL tree whose size fits in an int,
+     * so reaching it means that the tree has been changed.
+     */
+    private static final int MAX_DEPTH = 64;
+
+    /**
+     * Lock that protects the tree.
+     */
+    protected final StampedLock lock;
+
+    /**
+     * Constructor without parameters. The keys must implement the
+     * java.lang.Comparable interface.
+     */
+    public DictionaryConcurrentAVLImpl() {
+        super();
+        lock = new StampedLock();
+    }
+
+    /**
+     * Constructor with a parameter and elements of a class comparable to
+     * the given comparator.
+     *
+     * @param comparator comparator that allows you to deduce the priority
+     */
+    public DictionaryConcurrentAVLImpl(java.util.Comparator<KeyValue<K, V>> comparator) {
+        super(comparator);
+        lock = new StampedLock();
+    }
+
+    /**
+     * Retrieves the number of items in the container, without blocking
+     * if there are no writes.
+     *
+     * @return number of items it currently contains
+     */
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            int size = avl.size();
+            if (lock.validate(stamp))
+                return size;
+        }
+        stamp = lock.readLock();
+        try {
+            return avl.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Method to check if the container is empty.
+     *
+     * @return true or false, depending on whether it is empty or not
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Add an item with an associated key. If you find one element with
+     * the same key overwrites it.
+     *
+     * @param key key associated with the item to be added
+     * @param value element to add to the dictionary
+     */
+    public void put(K key, V value) {
+        write(() -> {
+            super.put(key, value);
+            return null;
+        });
+    }
+
+    /**
+     * Adds the pairs of a batch sorted by key, holding the write lock.
+     *
+     * @param sorted iterator of pairs in ascending order of key
+     * @throws IllegalArgumentException if the pairs are not sorted
+     * @see AVLTree#addAll(Iterator)
+     */
+    public void putAll(Iterator<KeyValue<K, V>> sorted) {
+        write(() -> {
+            super.putAll(sorted);
+            return null;
+        });
+    }
+
+    /**
+     * Checks for an item with a certain key, even if its item is null,
+     * without blocking if there are no writes.
+     *
+     * @param key key associated with an item
+     * @return true or false, depending on whether or not you find the key
+     */
+    public boolean containsKey(K key) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                KeyValue<K, V> keyValue = seekOptimistic(key);
+                if (lock.validate(stamp))
+                    return keyValue != null;
+            } catch (RuntimeException e) {
+                // inconsistent view of a tree being changed: use the lock
+            }
+        }
+        return read(() -> super.containsKey(key));
+    }
+
+    /**
+     * Retrieves the item associated with a key, without blocking if there
+     * are no writes.
+     *
+     * @param key reference key
+     * @return element associated with the key; or null, if it was not there
+     */
+    public V get(K key) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                KeyValue<K, V> keyValue = seekOptimistic(key);
+                if (lock.validate(stamp))
+                    return (keyValue == null) ? null : keyValue.getValue();
+            } catch (RuntimeException e) {
+                // inconsistent view of a tree being changed: use the lock
+            }
+        }
+        return read(() -> super.get(key));
+    }
+
+    /**
+     * Delete the matching key and associated item, if possible.
+     *
+     * @param key reference key
+     * @return deleted item associated with key; or null, if it was not there
+     */
+    public V delete(K key) {
+        return write(() -> super.delete(key));
+    }
+
+    /**
+     * Retrieves the pair with the lowest key.
+     *
+     * @return the first pair key-value
+     * @throws EmptyContainerException if the dictionary is empty
+     * @pre !isEmpty(), EmptyContainerException
+     */
+    public KeyValue<K, V> first() {
+        return read(super::first);
+    }
+
+    /**
+     * Retrieves the pair with the greatest key.
+     *
+     * @return the last pair key-value
+     * @throws EmptyContainerException if the dictionary is empty
+     * @pre !isEmpty(), EmptyContainerException
+     */
+    public KeyValue<K, V> last() {
+        return read(super::last);
+    }
+
+    /**
+     * Deletes the pair with the lowest key.
+     *
+     * @return the first pair key-value
+     * @throws EmptyContainerException if the dictionary is empty
+     * @pre !isEmpty(), EmptyContainerException
+     */
+    public KeyValue<K, V> pollFirst() {
+        return write(super::pollFirst);
+    }
+
+    /**
+     * Retrieves the pair with the greatest key less than or equal to the
+     * given one.
+     *
+     * @param key reference key
+     * @return the pair key-value; or null, if there is none
+     */
+    public KeyValue<K, V> floor(K key) {
+        return read(() -> super.floor(key));
+    }
+
+    /**
+     * Retrieves the pair with the lowest key greater than or equal to the
+     * given one.
+     *
+     * @param key reference key
+     * @return the pair key-value; or null, if there is none
+     */
+    public KeyValue<K, V> ceiling(K key) {
+        return read(() -> super.ceiling(key));
+    }
+
+    /**
+     * Retrieves the pair with the greatest key strictly less than the
+     * given one.
+     *
+     * @param key reference key
+     * @return the pair key-value; or null, if there is none
+     */
+    public KeyValue<K, V> lower(K key) {
+        return read(() -> super.lower(key));
+    }
+
+    /**
+     * Retrieves the pair with the lowest key strictly greater than the
+     * given one.
+     *
+     * @param key reference key
+     * @return the pair key-value; or null, if there is none
+     */
+    public KeyValue<K, V> higher(K key) {
+        return read(() -> super.higher(key));
+    }
+
+    /**
+     * Retrieves a copy of the pairs with a key in the range [from, to),
+     * sorted by key.
+     *
+     * @param from lowest key (included)
+     * @param to highest key (excluded)
+     * @return enumeration of pairs key-value
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<KeyValue<K, V>> range(K from, K to) {
+        return read(() -> copy(super.range(from, to)));
+    }
+
+    /**
+     * Retrieves a copy of the pairs with a key strictly less than a given
+     * one, sorted by key.
+     *
+     * @param to highest key (excluded)
+     * @return enumeration of pairs key-value
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<KeyValue<K, V>> headMap(K to) {
+        return read(() -> copy(super.headMap(to)));
+    }
+
+    /**
+     * Retrieves a copy of the pairs with a key greater than or equal to a
+     * given one, sorted by key.
+     *
+     * @param from lowest key (included)
+     * @return enumeration of pairs key-value
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<KeyValue<K, V>> tailMap(K from) {
+        return read(() -> copy(super.tailMap(from)));
+    }
+
+    /**
+     * Retrieves the k-th pair, in order of key, starting from zero.
+     *
+     * @param k index of the pair
+     * @return the pair key-value whose rank is k
+     * @throws IllegalArgumentException if k is not between 0 and size() - 1
+     */
+    public KeyValue<K, V> select(int k) {
+        return read(() -> super.select(k));
+    }
+
+    /**
+     * Retrieves the number of keys strictly less than a given one.
+     *
+     * @param key reference key
+     * @return the rank of the key
+     */
+    public int rank(K key) {
+        return read(() -> super.rank(key));
+    }
+
+    /**
+     * Retrieves the number of keys in the range [lo, hi).
+     *
+     * @param lo lowest key (included)
+     * @param hi highest key (excluded)
+     * @return number of keys within the range
+     */
+    public int countRange(K lo, K hi) {
+        return read(() -> super.countRange(lo, hi));
+    }
+
+    /**
+     * Retrieves a copy of the keys, sorted.
+     *
+     * @return enumeration of sorted keys
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<K> keys() {
+        return read(() -> copy(super.keys()));
+    }
+
+    /**
+     * Retrieves a copy of the items, sorted by key.
+     *
+     * @return enumeration of items associated with keys
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<V> values() {
+        return read(() -> copy(super.values()));
+    }
+
+    /**
+     * Method overwriting Object.toString ().
+     *
+     * @return list of keys (in brackets) followed by the item
+     * associated with each key
+     */
+    public String toString() {
+        return read(super::toString);
+    }
+
+
+    /**
+     * Searches a key without taking the lock. The result is only valid if
+     * the stamp is validated afterwards; the search may fail with an
+     * exception if a writer is changing the tree.
+     *
+     * @param key the key
+     * @return the pair; or null, if the key was not found
+     */
+    private KeyValue<K, V> seekOptimistic(K key) {
+        ToIntBiFunction<K, KeyValue<K, V>> comparison = keyComparison.of(key);
+        BinaryTreeLinkedImpl.NodeTree<KeyValue<K, V>> node = avl.root;
+        for (int depth = 0; node != null && depth < MAX_DEPTH; depth++) {
+            KeyValue<K, V> keyValue = node.element;
+            int comp = comparison.applyAsInt(key, keyValue);
+            if (comp == 0)
+                return keyValue;
+            node = (comp < 0) ? node.leftChild : node.rightChild;
+        }
+        return null;
+    }
+
+    /**
+     * Copies the items of an enumeration; the caller must hold the lock.
+     */
+    private static <T> Iterator<T> copy(Iterator<T> it) {
+        List<T> items = new LinkedList<>();
+        while (it.hasNext())
+            items.insertEnd(it.next());
+        return items.values();
+    }
+
+    private <T> T read(Supplier<T> reader) {
+        long stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private <T> T write(Supplier<T> writer) {
+        long stamp = lock.writeLock();
+        try {
+            return writer.get();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+}
@@ -0,0 +1,466 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.KeyValue;
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.exceptions.InvalidPositionException;
+import edu.uoc.ds.traversal.Iterator;
+import edu.uoc.ds.util.Utils;
+
+import java.io.Serializable;
+import java.util.Comparator;
+
+/**
+ * Class that implements an ordered dictionary by means of a persistent
+ * AVL tree: its nodes are never changed once created.
+ * <p>
+ * put and delete do not modify the tree: they create a copy of the
+ * O(log n) nodes of the path from the root to the changed key, balanced
+ * as in an AVL tree, and share all the other nodes with the previous
+ * version. Therefore, snapshot() costs O(1): it only keeps the current
+ * root. A snapshot is not affected by later changes of the dictionary
+ * (nor the dictionary by changes of the snapshot), and both versions
+ * only share the nodes that have not changed.
+ * <p>
+ * The root is the only mutable attribute. The changes are serialized,
+ * but the queries and enumerations take the root once and do not
+ * take any lock: they always see a complete version of the dictionary,
+ * even if another thread is changing it.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+public class DictionaryPersistentAVLImpl<K, V> implements Dictionary<K, V> {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. It is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * Comparator of the keys; if null, java.lang.Comparable is used.
+     */
+    protected final Comparator<K> comparator;
+
+    /**
+     * Root of the current version; null if the dictionary is empty.
+     */
+    private volatile Node<K, V> root;
+
+    /**
+     * Constructor without parameters. The keys must implement the
+     * java.lang.Comparable interface.
+     */
+    public DictionaryPersistentAVLImpl() {
+        this(null, null);
+    }
+
+    /**
+     * Constructor with a parameter.
+     *
+     * @param comparator comparator of the keys
+     */
+    public DictionaryPersistentAVLImpl(Comparator<K> comparator) {
+        this(comparator, null);
+    }
+
+    private DictionaryPersistentAVLImpl(Comparator<K> comparator, Node<K, V> root) {
+        this.comparator = comparator;
+        this.root = root;
+    }
+
+    /**
+     * Retrieves a snapshot of the dictionary, in O(1). Later changes of
+     * the dictionary do not change the snapshot, and vice versa.
+     *
+     * @return a dictionary with the current pairs
+     */
+    public DictionaryPersistentAVLImpl<K, V> snapshot() {
+        return new DictionaryPersistentAVLImpl<>(comparator, root);
+    }
+
+    /**
+     * Retrieves the number of items in the container, in O(1).
+     *
+     * @return number of items it currently contains
+     */
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Method to check if the container is empty.
+     *
+     * @return true or false, depending on whether it is empty or not
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Add an item with an associated key. If the key already exists, its
+     * item is replaced. The nodes of the path are copied, in O(log n).
+     *
+     * @param key key associated with the item to be added
+     * @param value element to add to the dictionary
+     */
+    public synchronized void put(K key, V value) {
+        root = put(root, key, value);
+    }
+
+    /**
+     * Checks for an item with a certain key, even if its item is null.
+     *
+     * @param key key associated with an item
+     * @return true or false, depending on whether or not you find the key
+     */
+    public boolean containsKey(K key) {
+        return seek(root, key) != null;
+    }
+
+    /**
+     * Retrieves the item associated with a key.
+     *
+     * @param key reference key
+     * @return element associated with the key; or null, if it was not there
+     */
+    public V get(K key) {
+        Node<K, V> node = seek(root, key);
+        return (node == null) ? null : node.value;
+    }
+
+    /**
+     * Delete a key and its associated item, if possible. The nodes of the
+     * path are copied, in O(log n); if the key is not there, nothing is
+     * copied.
+     *
+     * @param key reference key
+     * @return deleted item associated with key; or null, if it was not there
+     */
+    public synchronized V delete(K key) {
+        Node<K, V> node = seek(root, key);
+        if (node == null)
+            return null;
+        root = delete(root, key);
+        return node.value;
+    }
+
+    /**
+     * Retrieves the pair with the lowest key.
+     *
+     * @return the first pair key-value
+     * @throws EmptyContainerException if the dictionary is empty
+     * @pre !isEmpty(), EmptyContainerException
+     */
+    public KeyValue<K, V> first() {
+        Node<K, V> node = root;
+        if (node == null)
+            throw new EmptyContainerException();
+        while (node.left != null)
+            node = node.left;
+        return new KeyValue<>(node.key, node.value);
+    }
+
+    /**
+     * Retrieves the pair with the greatest key.
+     *
+     * @return the last pair key-value
+     * @throws EmptyContainerException if the dictionary is empty
+     * @pre !isEmpty(), EmptyContainerException
+     */
+    public KeyValue<K, V> last() {
+        Node<K, V> node = root;
+        if (node == null)
+            throw new EmptyContainerException();
+        while (node.right != null)
+            node = node.right;
+        return new KeyValue<>(node.key, node.value);
+    }
+
+    /**
+     * Retrieves the pair with the greatest key less than or equal to the
+     * given one.
+     *
+     * @param key reference key
+     * @return the pair key-value; or null, if there is none
+     */
+    public KeyValue<K, V> floor(K key) {
+        Node<K, V> result = null;
+        for (Node<K, V> node = root; node != null; ) {
+            int comp = compare(key, node.key);
+            if (comp == 0)
+                return new KeyValue<>(node.key, node.value);
+            if (comp < 0)
+                node = node.left;
+            else {
+                result = node;
+                node = node.right;
+            }
+        }
+        return (result == null) ? null : new KeyValue<>(result.key, result.value);
+    }
+
+    /**
+     * Retrieves the pair with the lowest key greater than or equal to the
+     * given one.
+     *
+     * @param key reference key
+     * @return the pair key-value; or null, if there is none
+     */
+    public KeyValue<K, V> ceiling(K key) {
+        Node<K, V> result = null;
+        for (Node<K, V> node = root; node != null; ) {
+            int comp = compare(key, node.key);
+            if (comp == 0)
+                return new KeyValue<>(node.key, node.value);
+            if (comp > 0)
+                node = node.right;
+            else {
+                result = node;
+                node = node.left;
+            }
+        }
+        return (result == null) ? null : new KeyValue<>(result.key, result.value);
+    }
+
+    /**
+     * Retrieves the pairs with a key in the range [from, to), sorted by
+     * key, in O(log n) plus the number of pairs retrieved.
+     *
+     * @param from lowest key (included); null to start from the first key
+     * @param to highest key (excluded); null to get up to the last key
+     * @return enumeration of pairs key-value
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<KeyValue<K, V>> range(K from, K to) {
+        return new NodeIterator<KeyValue<K, V>>(root, from, to) {
+            @Override
+            protected KeyValue<K, V> item(Node<K, V> node) {
+                return new KeyValue<>(node.key, node.value);
+            }
+        };
+    }
+
+    /**
+     * Retrieves the keys of the dictionary, sorted. The enumeration
+     * traverses the version of the dictionary when it was created.
+     *
+     * @return enumeration of sorted keys
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<K> keys() {
+        return new NodeIterator<K>(root, null, null) {
+            @Override
+            protected K item(Node<K, V> node) {
+                return node.key;
+            }
+        };
+    }
+
+    /**
+     * Retrieves the items of the dictionary, sorted by key. The
+     * enumeration traverses the version of the dictionary when it was
+     * created.
+     *
+     * @return enumeration of items associated with keys
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<V> values() {
+        return new NodeIterator<V>(root, null, null) {
+            @Override
+            protected V item(Node<K, V> node) {
+                return node.value;
+            }
+        };
+    }
+
+    /**
+     * Method overwriting Object.toString ().
+     *
+     * @return list of pairs, sorted by key
+     */
+    public String toString() {
+        StringBuilder buffer = new StringBuilder();
+        buffer.append("{PERSISTENTAVL:");
+        for (Iterator<KeyValue<K, V>> it = range(null, null); it.hasNext(); ) {
+            buffer.append(it.next());
+            if (it.hasNext()) buffer.append(',');
+        }
+        buffer.append("}");
+        return buffer.toString();
+    }
+
+
+    /**
+     * Protected method that compares two keys. If the constructor has not
+     * defined a comparator, java.lang.Comparable is used.
+     *
+     * @param key1 first key
+     * @param key2 second key
+     * @return a negative, zero, or positive integer, depending on whether
+     * the first key is less than, equal to, or greater than the second one
+     */
+    protected int compare(K key1, K key2) {
+        if (comparator == null)
+            return ((Comparable<K>) key1).compareTo(key2);
+        return comparator.compare(key1, key2);
+    }
+
+    private Node<K, V> seek(Node<K, V> node, K key) {
+        int comp;
+        while (node != null && (comp = compare(key, node.key)) != 0)
+            node = (comp < 0) ? node.left : node.right;
+        return node;
+    }
+
+    /**
+     * Version of a subtree with a key added or replaced.
+     */
+    private Node<K, V> put(Node<K, V> node, K key, V value) {
+        if (node == null)
+            return new Node<>(key, value, null, null);
+        int comp = compare(key, node.key);
+        if (comp < 0)
+            return balance(node.key, node.value, put(node.left, key, value), node.right);
+        if (comp > 0)
+            return balance(node.key, node.value, node.left, put(node.right, key, value));
+        return new Node<>(key, value, node.left, node.right);
+    }
+
+    /**
+     * Version of a subtree without a key, which must be in it.
+     */
+    private Node<K, V> delete(Node<K, V> node, K key) {
+        int comp = compare(key, node.key);
+        if (comp < 0)
+            return balance(node.key, node.value, delete(node.left, key), node.right);
+        if (comp > 0)
+            return balance(node.key, node.value, node.left, delete(node.right, key));
+        if (node.left == null)
+            return node.right;
+        if (node.right == null)
+            return node.left;
+        // the successor replaces the deleted node
+        Node<K, V> successor = node.right;
+        while (successor.left != null)
+            successor = successor.left;
+        return balance(successor.key, successor.value, node.left, deleteFirst(node.right));
+    }
+
+    private Node<K, V> deleteFirst(Node<K, V> node) {
+        if (node.left == null)
+            return node.right;
+        return balance(node.key, node.value, deleteFirst(node.left), node.right);
+    }
+
+    /**
+     * Creates a node from two balanced subtrees whose heights differ by
+     * at most 2, with a single or a double rotation if needed. Only new
+     * nodes are created.
+     */
+    private static <K, V> Node<K, V> balance(K key, V value, Node<K, V> left, Node<K, V> right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            if (heightOf(left.left) >= heightOf(left.right))
+                return new Node<>(left.key, left.value, left.left,
+                        new Node<>(key, value, left.right, right));
+            Node<K, V> middle = left.right;
+            return new Node<>(middle.key, middle.value,
+                    new Node<>(left.key, left.value, left.left, middle.left),
+                    new Node<>(key, value, middle.right, right));
+        }
+        if (heightOf(right) > heightOf(left) + 1) {
+            if (heightOf(right.right) >= heightOf(right.left))
+                return new Node<>(right.key, right.value,
+                        new Node<>(key, value, left, right.left), right.right);
+            Node<K, V> middle = right.left;
+            return new Node<>(middle.key, middle.value,
+                    new Node<>(key, value, left, middle.left),
+                    new Node<>(right.key, right.value, middle.right, right.right));
+        }
+        return new Node<>(key, value, left, right);
+    }
+
+    private static int heightOf(Node<?, ?> node) {
+        return (node == null) ? 0 : node.height;
+    }
+
+    private static int sizeOf(Node<?, ?> node) {
+        return (node == null) ? 0 : node.size;
+    }
+
+
+    /**
+     * Immutable node of the tree, with the height and the size of its
+     * subtree.
+     */
+    protected static class Node<K, V> implements Serializable {
+        private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+        protected final K key;
+        protected final V value;
+        protected final Node<K, V> left;
+        protected final Node<K, V> right;
+        protected final int height;
+        protected final int size;
+
+        protected Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            height = 1 + Math.max(heightOf(left), heightOf(right));
+            size = 1 + sizeOf(left) + sizeOf(right);
+        }
+    }
+
+    /**
+     * In-order iterator of a version of the tree, from a key (included)
+     * up to a key (excluded). The stack keeps the nodes whose left
+     * subtree is being traversed.
+     */
+    private abstract class NodeIterator<T> implements Iterator<T> {
+        private final Node<K, V>[] stack;
+        private int top;
+        private final K to;
+
+        private NodeIterator(Node<K, V> root, K from, K to) {
+            stack = new Node[heightOf(root)];
+            this.to = to;
+            for (Node<K, V> node = root; node != null; ) {
+                if (from == null || compare(node.key, from) >= 0) {
+                    stack[top++] = node;
+                    node = node.left;
+                } else
+                    node = node.right;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return top > 0 && (to == null || compare(stack[top - 1].key, to) < 0);
+        }
+
+        @Override
+        public T next() throws InvalidPositionException {
+            if (!hasNext()) throw new InvalidPositionException();
+            Node<K, V> node = stack[--top];
+            for (Node<K, V> aux = node.right; aux != null; aux = aux.left)
+                stack[top++] = aux;
+            return item(node);
+        }
+
+        /**
+         * Item of the enumeration that corresponds to a node.
+         */
+        protected abstract T item(Node<K, V> node);
+    }
+
+}
@@ -0,0 +1,271 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import edu.uoc.ds.util.Utils;
+
+import java.io.Serializable;
+
+/**
+ * Class that implements a priority queue of integer items (in the range
+ * [0, capacity)) with priorities of type double, without objects: the
+ * priorities and the items are kept in two parallel vectors, and the
+ * items with the lowest value of priority leave the queue first.
+ * <p>
+ * A third vector keeps the position of every item in the heap, so the
+ * priority of an item can be decreased in O(log n) and it is possible
+ * to check if an item is in the queue in O(1). It is meant for graph
+ * algorithms, where the items are the indexes of the vertexs.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+public class DoubleIntHeap implements Serializable {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. It is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * Priorities of the heap, by position.
+     */
+    protected double[] priorities;
+
+    /**
+     * Items of the heap, by position.
+     */
+    protected int[] items;
+
+    /**
+     * Position in the heap of every item, or -1 if it is not in the queue.
+     */
+    protected int[] index;
+
+    /**
+     * Number of items currently in the container.
+     */
+    protected int n;
+
+    /**
+     * Constructor with a parameter.
+     *
+     * @param capacity the items of the queue are in the range [0, capacity)
+     */
+    public DoubleIntHeap(int capacity) {
+        priorities = new double[capacity];
+        items = new int[capacity];
+        index = new int[capacity];
+        java.util.Arrays.fill(index, -1);
+        n = 0;
+    }
+
+    /**
+     * Retrieves the number of items in the container.
+     *
+     * @return number of items it currently contains
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Method to check if the container is empty.
+     *
+     * @return true or false, depending on whether it is empty or not
+     */
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    /**
+     * Check if an item is in the queue.
+     *
+     * @param item the item
+     * @return true or false, depending on whether the item is in the queue
+     */
+    public boolean contains(int item) {
+        return item >= 0 && item < index.length && index[item] >= 0;
+    }
+
+    /**
+     * Retrieves the priority of an item of the queue.
+     *
+     * @param item the item
+     * @return its priority
+     * @throws IllegalArgumentException if the item is not in the queue
+     * @pre contains(item)
+     */
+    public double priority(int item) {
+        if (!contains(item))
+            throw new IllegalArgumentException("item not in the queue");
+        return priorities[index[item]];
+    }
+
+    /**
+     * Add an item to the queue.
+     *
+     * @param item the item
+     * @param priority its priority
+     * @throws IllegalArgumentException if the item is out of range or it is
+     * already in the queue
+     * @pre 0 <= item < capacity && !contains(item)
+     */
+    public void add(int item, double priority) {
+        if (item < 0 || item >= index.length || index[item] >= 0)
+            throw new IllegalArgumentException("item out of range or already in the queue");
+        siftUp(n++, item, priority);
+    }
+
+    /**
+     * Decrease the priority of an item of the queue.
+     *
+     * @param item the item
+     * @param priority new priority, lower than or equal to the current one
+     * @throws IllegalArgumentException if the item is not in the queue or the
+     * new priority is greater than the current one
+     * @pre contains(item) && priority <= priority(item)
+     */
+    public void decreaseKey(int item, double priority) {
+        if (!contains(item) || priority > priorities[index[item]])
+            throw new IllegalArgumentException("item not in the queue or greater priority");
+        siftUp(index[item], item, priority);
+    }
+
+    /**
+     * Add an item to the queue, or decrease its priority if it is already in
+     * the queue and the new priority is lower.
+     *
+     * @param item the item
+     * @param priority priority of the item
+     * @return true if the queue has changed
+     * @throws IllegalArgumentException if the item is out of range
+     * @pre 0 <= item < capacity
+     */
+    public boolean addOrDecrease(int item, double priority) {
+        if (item < 0 || item >= index.length)
+            throw new IllegalArgumentException("item out of range");
+        int k = index[item];
+        if (k < 0)
+            siftUp(n++, item, priority);
+        else if (priority < priorities[k])
+            siftUp(k, item, priority);
+        else
+            return false;
+        return true;
+    }
+
+    /**
+     * Retrieves the first item (the one with the lowest priority).
+     *
+     * @return first item
+     * @throws EmptyContainerException if the queue is empty
+     * @pre! isEmpty(), EmptyContainerException
+     */
+    public int peek() {
+        if (isEmpty())
+            throw new EmptyContainerException();
+        return items[0];
+    }
+
+    /**
+     * Retrieves the priority of the first item.
+     *
+     * @return lowest priority of the queue
+     * @throws EmptyContainerException if the queue is empty
+     * @pre! isEmpty(), EmptyContainerException
+     */
+    public double peekPriority() {
+        if (isEmpty())
+            throw new EmptyContainerException();
+        return priorities[0];
+    }
+
+    /**
+     * Delete the first item (the one with the lowest priority).
+     *
+     * @return first item
+     * @throws EmptyContainerException if the queue is empty
+     * @pre! isEmpty(), EmptyContainerException
+     */
+    public int poll() {
+        if (isEmpty())
+            throw new EmptyContainerException();
+        int first = items[0];
+        index[first] = -1;
+        n--;
+        if (n > 0)
+            siftDown(0, items[n], priorities[n]);
+        return first;
+    }
+
+    /**
+     * Deletes all the items.
+     */
+    public void clear() {
+        for (int i = 0; i < n; i++)
+            index[items[i]] = -1;
+        n = 0;
+    }
+
+    /**
+     * Method overwriting Object.toString (). Items in the order of the vector.
+     *
+     * @return list of items with their priorities
+     */
+    public String toString() {
+        StringBuilder buffer = new StringBuilder();
+        buffer.append("{PRIORITYQUEUE:");
+        for (int i = 0; i < n; i++) {
+            buffer.append(items[i]).append('=').append(priorities[i]);
+            if (i < n - 1) buffer.append(',');
+        }
+        buffer.append("}");
+        return buffer.toString();
+    }
+
+
+    private void siftUp(int k, int item, double priority) {
+        while (k > 0) {
+            int parent = (k - 1) >>> 1;
+            double p = priorities[parent];
+            if (priority >= p)
+                break;
+            move(parent, k);
+            k = parent;
+        }
+        set(k, item, priority);
+    }
+
+    private void siftDown(int k, int item, double priority) {
+        int child;
+        while ((child = 2 * k + 1) < n) {
+            if (child + 1 < n && priorities[child + 1] < priorities[child])
+                child++;
+            if (priority <= priorities[child])
+                break;
+            move(child, k);
+            k = child;
+        }
+        set(k, item, priority);
+    }
+
+    private void move(int from, int to) {
+        priorities[to] = priorities[from];
+        items[to] = items[from];
+        index[items[to]] = to;
+    }
+
+    private void set(int k, int item, double priority) {
+        priorities[k] = priority;
+        items[k] = item;
+        index[item] = k;
+    }
+
+}
@@ -0,0 +1,567 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.Position;
+import edu.uoc.ds.adt.sequential.Queue;
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import edu.uoc.ds.exceptions.InvalidPositionException;
+import edu.uoc.ds.traversal.Iterator;
+import edu.uoc.ds.util.Utils;
+
+import java.util.Comparator;
+
+/**
+ * Class that implements a priority queue by means of a Fibonacci heap.
+ * <p>
+ * A Fibonacci heap is a list of trees (the root list) where every node has
+ * higher priority than its children. The siblings are chained in circular
+ * doubly linked lists, and the heap keeps a pointer to the root with the
+ * highest priority.
+ * <p>
+ * Adding an item and melding two queues just join root lists, in O(1).
+ * Increasing the priority of an item (decreaseKey) cuts its subtree and
+ * moves it to the root list; a node that loses a second child is also
+ * cut (cascading cut), which gives an amortized cost of O(1). Deleting the
+ * first item moves its children to the root list and then joins the trees
+ * with the same degree (number of children), with an amortized cost of
+ * O(log n).
+ * <p>
+ * The positions returned by insert are the nodes of the heap, so they
+ * remain valid until their item leaves the queue.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+public class FibonacciHeap<E> implements Queue<E> {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. It is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * Upper bound of the degree of a node. The degree of a node of a heap
+     * with n items is at most log_phi(n), which is less than 46 for
+     * any number of items that fits in an int.
+     */
+    private static final int MAX_DEGREE = 64;
+
+    /**
+     * Root with the highest priority; it gives access to the root list.
+     */
+    protected NodeFib<E> min;
+
+    /**
+     * Number of items currently in the container.
+     */
+    protected int n;
+
+    /**
+     * Specific comparator that allows to deduce the priority between the
+     * elements. It can have a null value and then the interface is used
+     * java.lang.Comparable
+     */
+    protected Comparator<E> comparator;
+
+    /**
+     * Identifier of the queue, which is kept by its nodes.
+     */
+    private HeapOwner owner = new HeapOwner();
+
+    /**
+     * Constructor without parameters and elements of a class that
+     * implements java.lang.Comparable.
+     */
+    public FibonacciHeap() {
+        this(null);
+    }
+
+    /**
+     * Constructor with a parameter and items of a class comparable to
+     * the given comparator.
+     *
+     * @param comparator comparator that allows you to deduce the priority
+     */
+    public FibonacciHeap(Comparator<E> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Retrieves the number of items in the container.
+     *
+     * @return number of items it currently contains
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Method to check if the container is empty.
+     *
+     * @return true or false, depending on whether it is empty or not
+     */
+    public boolean isEmpty() {
+        return min == null;
+    }
+
+    /**
+     * Add an item to the queue.
+     *
+     * @param elem comparable item to add to queue
+     */
+    public void add(E elem) {
+        insert(elem);
+    }
+
+    /**
+     * Add an item to the queue and return its position, which remains
+     * valid until the item leaves the queue.
+     *
+     * @param elem comparable item to add to queue
+     * @return position of the new item
+     */
+    public Position<E> insert(E elem) {
+        NodeFib<E> node = new NodeFib<>(elem);
+        node.owner = owner;
+        addToRootList(node);
+        n++;
+        return node;
+    }
+
+    /**
+     * Delete the lowest priority item, if any.
+     *
+     * @return first item, which is the lowest priority
+     * @throws EmptyContainerException if the queue is empty
+     * @pre! isEmpty(), EmptyContainerException
+     */
+    public E poll() {
+        if (isEmpty())
+            throw new EmptyContainerException();
+        NodeFib<E> z = min;
+        NodeFib<E> child = z.child;
+        if (child != null) {
+            NodeFib<E> c = child;
+            do {
+                c.parent = null;
+                c = c.right;
+            } while (c != child);
+            splice(z, child);
+        }
+        if (z.right == z)
+            min = null;
+        else {
+            min = z.right;
+            unlink(z);
+            consolidate();
+        }
+        n--;
+        z.invalidate();
+        return z.elem;
+    }
+
+    /**
+     * Retrieves the lowest priority item, if any.
+     *
+     * @return first item, which is the lowest priority
+     * @throws EmptyContainerException if the queue is empty
+     * @pre! isEmpty(), EmptyContainerException
+     */
+    public E peek() {
+        if (isEmpty())
+            throw new EmptyContainerException();
+        return min.elem;
+    }
+
+    /**
+     * Moves all the items of another queue to this one, in O(1).
+     * The other queue is left empty, and the positions of its items
+     * become positions of this queue.
+     *
+     * @param other queue to meld with the current one; it must order the
+     *              items in the same way
+     */
+    public void meld(FibonacciHeap<E> other) {
+        if (other == this || other.isEmpty())
+            return;
+        if (min == null)
+            min = other.min;
+        else {
+            splice(min, other.min);
+            if (compare(other.min.elem, min.elem) < 0)
+                min = other.min;
+        }
+        n += other.n;
+        other.min = null;
+        other.n = 0;
+        // the nodes of the other queue now belong to this one
+        other.owner.meldInto(owner);
+        other.owner = new HeapOwner();
+    }
+
+    /**
+     * Replaces the item of a position by an item with higher or equal
+     * priority (smaller or equal according to the comparator). If the new
+     * item has higher priority than its parent, the node is moved to the
+     * root list.
+     *
+     * @param pos position of the item, obtained by insert
+     * @param elem new item
+     * @return item in position before replacing
+     * @throws InvalidPositionException if the position is not in the queue
+     * @throws IllegalArgumentException if the new item has lower priority
+     * @pre contains(pos) && compare(elem, pos.getElem()) <= 0
+     */
+    public E decreaseKey(Position<E> pos, E elem) {
+        NodeFib<E> node = checkPosition(pos);
+        if (compare(elem, node.elem) > 0)
+            throw new IllegalArgumentException("the new item has lower priority");
+        E old = node.elem;
+        node.elem = elem;
+        NodeFib<E> parent = node.parent;
+        if (parent != null && compare(node.elem, parent.elem) < 0) {
+            cut(node, parent);
+            cascadingCut(parent);
+        }
+        if (compare(node.elem, min.elem) < 0)
+            min = node;
+        return old;
+    }
+
+    /**
+     * Delete the item of a position, wherever it is in the queue. The node
+     * is moved to the root list, as if it had the highest priority, and
+     * then it is deleted as the first item.
+     *
+     * @param pos position of the item, obtained by insert
+     * @return deleted item
+     * @throws InvalidPositionException if the position is not in the queue
+     * @pre contains(pos)
+     */
+    public E remove(Position<E> pos) {
+        NodeFib<E> node = checkPosition(pos);
+        NodeFib<E> parent = node.parent;
+        if (parent != null) {
+            cut(node, parent);
+            cascadingCut(parent);
+        }
+        min = node;
+        return poll();
+    }
+
+    /**
+     * Check if a position belongs to the queue; that is, it was returned
+     * by insert of this queue, or of a queue melded into it, and its item
+     * has not been polled or removed. The cost is O(1) amortized.
+     *
+     * @param pos reference position
+     * @return true or false, depending on whether the position is in the queue
+     */
+    public boolean contains(Position<E> pos) {
+        if (!(pos instanceof NodeFib))
+            return false;
+        NodeFib<E> node = (NodeFib<E>) pos;
+        if (node.deleted)
+            return false;
+        node.owner = node.owner.find();
+        return node.owner == owner;
+    }
+
+    /**
+     * Retrieves the items in the container, in order of priority, without
+     * altering the current state of the container. The items are sorted
+     * lazily, using an auxiliary heap with the nodes whose parent has
+     * already been returned.
+     *
+     * @return enumeration of the items
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<E> values() {
+        final PriorityQueueArrayImpl<NodeFib<E>> frontier =
+                new PriorityQueueArrayImpl<>(16, (n1, n2) -> compare(n1.elem, n2.elem));
+        addSiblings(frontier, min);
+
+        return new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                return !frontier.isEmpty();
+            }
+
+            @Override
+            public E next() throws InvalidPositionException {
+                if (frontier.isEmpty()) throw new InvalidPositionException();
+                NodeFib<E> node = frontier.poll();
+                addSiblings(frontier, node.child);
+                return node.elem;
+            }
+        };
+    }
+
+    /**
+     * Method overwriting Object.toString ().
+     *
+     * @return list of items in order of priority
+     */
+    public String toString() {
+        StringBuilder buffer = new StringBuilder();
+        buffer.append("{FIBONACCIHEAP:");
+        for (Iterator<E> it = values(); it.hasNext(); ) {
+            buffer.append(it.next());
+            if (it.hasNext()) buffer.append(',');
+        }
+        buffer.append("}");
+        return buffer.toString();
+    }
+
+
+    /**
+     * Protected method that compares two items. If the constructor has not
+     * defined a comparator, java.lang.Comparable is used to deduce the
+     * priority between both elements.
+     *
+     * @param elem1 first item
+     * @param elem2 second item
+     * @return a negative, zero, or positive integer, depending on whether the
+     * first item has less, equal or more priority than the second one
+     */
+    protected int compare(E elem1, E elem2) {
+        if (comparator == null)
+            return ((Comparable<E>) elem1).compareTo(elem2);
+        return comparator.compare(elem1, elem2);
+    }
+
+
+    /**
+     * Joins the trees of the root list with the same degree, until all the
+     * roots have a different degree, and finds the new minimum.
+     */
+    private void consolidate() {
+        NodeFib<E>[] byDegree = new NodeFib[MAX_DEGREE];
+        int roots = 0;
+        NodeFib<E> w = min;
+        do {
+            roots++;
+            w = w.right;
+        } while (w != min);
+
+        NodeFib<E> next = min;
+        for (int i = 0; i < roots; i++) {
+            NodeFib<E> x = next;
+            next = next.right;
+            int d = x.degree;
+            while (byDegree[d] != null) {
+                NodeFib<E> y = byDegree[d];
+                if (compare(y.elem, x.elem) < 0) {
+                    NodeFib<E> aux = x;
+                    x = y;
+                    y = aux;
+                }
+                linkChild(y, x);
+                byDegree[d] = null;
+                d++;
+            }
+            byDegree[d] = x;
+        }
+
+        min = null;
+        for (NodeFib<E> root : byDegree) {
+            if (root != null && (min == null || compare(root.elem, min.elem) < 0))
+                min = root;
+        }
+    }
+
+    /**
+     * Moves a root of the root list to the list of children of another
+     * root.
+     */
+    private void linkChild(NodeFib<E> child, NodeFib<E> parent) {
+        unlink(child);
+        child.left = child.right = child;
+        child.parent = parent;
+        child.mark = false;
+        if (parent.child == null)
+            parent.child = child;
+        else
+            splice(parent.child, child);
+        parent.degree++;
+    }
+
+    /**
+     * Moves a node from the list of children of its parent to the root list.
+     */
+    private void cut(NodeFib<E> node, NodeFib<E> parent) {
+        if (parent.child == node)
+            parent.child = (node.right == node) ? null : node.right;
+        unlink(node);
+        parent.degree--;
+        node.parent = null;
+        node.mark = false;
+        node.left = node.right = node;
+        splice(min, node);
+    }
+
+    /**
+     * Goes up from a node that has lost a child: if it was already marked
+     * (it had lost another child), it is also cut, and so on.
+     */
+    private void cascadingCut(NodeFib<E> node) {
+        NodeFib<E> parent = node.parent;
+        while (parent != null) {
+            if (!node.mark) {
+                node.mark = true;
+                return;
+            }
+            cut(node, parent);
+            node = parent;
+            parent = node.parent;
+        }
+    }
+
+    private void addToRootList(NodeFib<E> node) {
+        if (min == null)
+            min = node;
+        else {
+            splice(min, node);
+            if (compare(node.elem, min.elem) < 0)
+                min = node;
+        }
+    }
+
+    /**
+     * Joins two circular lists.
+     */
+    private void splice(NodeFib<E> a, NodeFib<E> b) {
+        NodeFib<E> aRight = a.right;
+        NodeFib<E> bLeft = b.left;
+        a.right = b;
+        b.left = a;
+        bLeft.right = aRight;
+        aRight.left = bLeft;
+    }
+
+    /**
+     * Takes a node out of its circular list.
+     */
+    private void unlink(NodeFib<E> node) {
+        node.left.right = node.right;
+        node.right.left = node.left;
+    }
+
+    private void addSiblings(PriorityQueueArrayImpl<NodeFib<E>> queue, NodeFib<E> first) {
+        if (first == null) return;
+        NodeFib<E> node = first;
+        do {
+            queue.add(node);
+            node = node.right;
+        } while (node != first);
+    }
+
+    private NodeFib<E> checkPosition(Position<E> pos) {
+        if (!contains(pos))
+            throw new InvalidPositionException("position not in the queue");
+        return (NodeFib<E>) pos;
+    }
+
+
+    /**
+     * Class that implements a node of the Fibonacci heap.
+     */
+    protected static class NodeFib<E> implements Position<E> {
+        /**
+         * Attribute that determines compatibility between objects
+         * serializable of the same class. It is calculated
+         * using a method of the Utilities class.
+         */
+        private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+        /**
+         * The element.
+         */
+        protected E elem;
+
+        /**
+         * Parent of the node; null if it is a root.
+         */
+        protected NodeFib<E> parent;
+
+        /**
+         * Any of the children of the node.
+         */
+        protected NodeFib<E> child;
+
+        /**
+         * Previous and next siblings in the circular list.
+         */
+        protected NodeFib<E> left, right;
+
+        /**
+         * Number of children.
+         */
+        protected int degree;
+
+        /**
+         * True if the node has lost a child since it was made child of
+         * its current parent.
+         */
+        protected boolean mark;
+
+        /**
+         * True when the item has left the queue.
+         */
+        protected boolean deleted;
+
+        /**
+         * Identifier of the queue where the node was inserted, or of a
+         * queue that contains it after melding.
+         */
+        private HeapOwner owner;
+
+        /**
+         * Constructor with a parameter. The node is a circular list with
+         * a single node.
+         *
+         * @param elem value of the element
+         */
+        public NodeFib(E elem) {
+            this.elem = elem;
+            left = right = this;
+        }
+
+        /**
+         * Getter for elem
+         *
+         * @return element contained in the node
+         */
+        public E getElem() {
+            return elem;
+        }
+
+        /**
+         * Marks the node as deleted and releases its links.
+         */
+        protected void invalidate() {
+            deleted = true;
+            parent = child = null;
+            left = right = this;
+        }
+
+        /**
+         * Method that overrides the conversion of the object to String by
+         * facilitate code debugging.
+         *
+         * @return character string representative of the item
+         */
+        public String toString() {
+            return (elem == null) ? "null" : elem.toString();
+        }
+    }
+
+}
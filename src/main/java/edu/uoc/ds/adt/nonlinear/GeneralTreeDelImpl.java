@@ -141,7 +141,10 @@ public class GeneralTreeDelImpl<E> extends AbstractTree<E> {
                      parent = binaryTree.rightChild(parent))
                     ;
             }
+            // the descendants of the child are the subtree of its left child
+            Position<E> descendants = binaryTree.leftChild(child);
             binaryTree.replaceSubTree(parent, child, binaryTree.rightChild(child));
+            binaryTree.n -= (descendants == null) ? 1 : 1 + binaryTree.size(descendants);
         }
     }
 
@@ -0,0 +1,66 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.util.Utils;
+
+import java.io.Serializable;
+
+/**
+ * Identifier of the meldable heap that owns a node, so that the heaps can
+ * reject the positions of other heaps in O(1) amortized.
+ * <p>
+ * Every heap has an owner, and every node keeps the owner of the heap
+ * where it was inserted. When a heap is melded into another one, its
+ * owner is linked to the owner of the destination heap (as in a
+ * union-find structure) and the melded heap gets a new owner. The current
+ * owner of a node is found by following the links, which are compressed
+ * on the way.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+final class HeapOwner implements Serializable {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. It is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * Owner this one has been melded into; null if it is still the owner
+     * of a heap.
+     */
+    private HeapOwner next;
+
+    /**
+     * Retrieves the current owner, compressing the path of links.
+     *
+     * @return owner of the heap that contains the nodes of this owner
+     */
+    HeapOwner find() {
+        HeapOwner top = this;
+        while (top.next != null)
+            top = top.next;
+        for (HeapOwner aux = this; aux != top; ) {
+            HeapOwner next = aux.next;
+            aux.next = top;
+            aux = next;
+        }
+        return top;
+    }
+
+    /**
+     * Links this owner to the owner of the heap it is melded into. This
+     * owner must not be linked yet.
+     *
+     * @param into owner of the destination heap
+     */
+    void meldInto(HeapOwner into) {
+        next = into;
+    }
+}
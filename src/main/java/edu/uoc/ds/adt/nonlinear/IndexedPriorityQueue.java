@@ -0,0 +1,204 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.Position;
+import edu.uoc.ds.adt.helpers.Range;
+import edu.uoc.ds.exceptions.FullContainerException;
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import edu.uoc.ds.exceptions.InvalidPositionException;
+import edu.uoc.ds.util.Utils;
+
+import java.util.Comparator;
+
+/**
+ * Priority queue that gives access to the positions of its elements, so
+ * that the priority of an element already in the queue can be changed, or
+ * the element removed, without searching it.
+ * <p>
+ * The heap of the priority queue stores Range objects, which keep the index
+ * of the vector where they are placed. Swapping two positions exchanges the
+ * Range objects and their indexes, so the position returned when an element
+ * is inserted remains valid (and keeps pointing to that element) while it
+ * stays in the queue. This makes it possible to relocate an element in
+ * O(log n) after changing its priority (decreaseKey, increaseKey) or
+ * removing it (remove).
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+public class IndexedPriorityQueue<E> extends PriorityQueue<E> {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. It is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * Constructor without parameters (maximum capacity, default) i
+     * elements of a class that implements java.lang.Comparable.
+     */
+    public IndexedPriorityQueue() {
+        super();
+    }
+
+    /**
+     * Constructor with a parameter (given capacity) and elements of a
+     * class that implements java.lang.Comparable.
+     *
+     * @param max maximum number of items the queue can contain
+     */
+    public IndexedPriorityQueue(int max) {
+        super(max);
+    }
+
+    /**
+     * Constructor with a parameter (maximum capacity, default) i
+     * items of a class comparable to the given comparator.
+     *
+     * @param comparator comparator that allows you to deduce the priority
+     */
+    public IndexedPriorityQueue(Comparator<E> comparator) {
+        super(comparator);
+    }
+
+    /**
+     * Constructor with two parameters (given capacity) and elements of one
+     * class comparable to the given comparator.
+     *
+     * @param max maximum number of items the queue can contain
+     * @param comparator comparator that allows you to deduce the priority
+     */
+    public IndexedPriorityQueue(int max, Comparator<E> comparator) {
+        super(max, comparator);
+    }
+
+    /**
+     * Add an item to the appropriate position and return that position.
+     * The position remains valid until the item leaves the queue.
+     *
+     * @param elem comparable item to add to queue
+     * @return position of the new item
+     * @pre! heap.isFull(), FullContainerException
+     */
+    public Position<E> insert(E elem) {
+        if (isFull()) throw new FullContainerException();
+        Position<E> position = nextLastPosition(elem);
+        siftUp(position);
+        return position;
+    }
+
+    /**
+     * Replaces the item of a position by an item with higher or equal
+     * priority (smaller or equal according to the comparator) and moves it
+     * up to its place.
+     *
+     * @param pos position of the item, obtained by insert
+     * @param elem new item
+     * @return item in position before replacing
+     * @throws InvalidPositionException if the position is not in the queue
+     * @throws IllegalArgumentException if the new item has lower priority
+     * @pre contains(pos) && compare(elem, pos.getElem()) <= 0
+     */
+    public E decreaseKey(Position<E> pos, E elem) {
+        checkPosition(pos);
+        if (compare(elem, pos.getElem()) > 0)
+            throw new IllegalArgumentException("the new item has lower priority");
+        E old = heap.update(pos, elem);
+        siftUp(pos);
+        return old;
+    }
+
+    /**
+     * Replaces the item of a position by an item with lower or equal
+     * priority (greater or equal according to the comparator) and moves it
+     * down to its place.
+     *
+     * @param pos position of the item, obtained by insert
+     * @param elem new item
+     * @return item in position before replacing
+     * @throws InvalidPositionException if the position is not in the queue
+     * @throws IllegalArgumentException if the new item has higher priority
+     * @pre contains(pos) && compare(elem, pos.getElem()) >= 0
+     */
+    public E increaseKey(Position<E> pos, E elem) {
+        checkPosition(pos);
+        if (compare(elem, pos.getElem()) < 0)
+            throw new IllegalArgumentException("the new item has higher priority");
+        E old = heap.update(pos, elem);
+        siftDown(pos);
+        return old;
+    }
+
+    /**
+     * Replaces the item of a position by any other item and moves it
+     * to its place, up or down.
+     *
+     * @param pos position of the item, obtained by insert
+     * @param elem new item
+     * @return item in position before replacing
+     * @throws InvalidPositionException if the position is not in the queue
+     * @pre contains(pos)
+     */
+    public E update(Position<E> pos, E elem) {
+        checkPosition(pos);
+        E old = heap.update(pos, elem);
+        siftUp(pos);
+        siftDown(pos);
+        return old;
+    }
+
+    /**
+     * Delete the item of a position, wherever it is in the queue.
+     * The last position of the heap takes its place and is moved up or
+     * down to keep the heap ordered.
+     *
+     * @param pos position of the item, obtained by insert
+     * @return deleted item
+     * @throws InvalidPositionException if the position is not in the queue
+     * @pre contains(pos)
+     */
+    public E remove(Position<E> pos) {
+        checkPosition(pos);
+        Position<E> last = heap.last();
+        if (pos != last) {
+            heap.swap(pos, last);
+            deleteLastPosition();
+            siftUp(last);
+            siftDown(last);
+        } else
+            deleteLastPosition();
+        return pos.getElem();
+    }
+
+    /**
+     * Check if a position belongs to the queue; that is, it was returned
+     * by insert and its item has not been polled or removed.
+     *
+     * @param pos reference position
+     * @return true or false, depending on whether the position is in the queue
+     */
+    public boolean contains(Position<E> pos) {
+        if (!(pos instanceof Range)) return false;
+        int index = ((Range<E>) pos).getIndex();
+        return index >= 0 && index < heap.size() && heap.elems[index] == pos;
+    }
+
+
+    private void checkPosition(Position<E> pos) {
+        if (!contains(pos))
+            throw new InvalidPositionException("position not in the queue");
+    }
+
+
+    private int compare(E elem1, E elem2) {
+        if (comparator == null)
+            return ((Comparable<E>) elem1).compareTo(elem2);
+        return comparator.compare(elem1, elem2);
+    }
+
+}
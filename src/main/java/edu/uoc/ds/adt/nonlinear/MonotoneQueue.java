@@ -0,0 +1,71 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+
+import java.io.Serializable;
+
+/**
+ * Interface of the monotone priority queues of integer items with
+ * integer priorities: the items leave the queue in increasing order of
+ * priority, and an item can not be added with a priority lower than the
+ * one of the last item deleted. This is the case of Dijkstra's algorithm
+ * with non-negative labels, and it allows implementations that do not
+ * compare the priorities one with another.
+ * <p>
+ * The queue does not check if an item is already in it: the same item can
+ * be added several times, and the caller ignores the obsolete copies when
+ * they leave the queue.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+public interface MonotoneQueue extends Serializable {
+
+    /**
+     * Retrieves the number of items in the container.
+     *
+     * @return number of items it currently contains
+     */
+    int size();
+
+    /**
+     * Method to check if the container is empty.
+     *
+     * @return true or false, depending on whether it is empty or not
+     */
+    boolean isEmpty();
+
+    /**
+     * Add an item to the queue.
+     *
+     * @param item the item
+     * @param priority its priority
+     * @throws IllegalArgumentException if the priority is lower than the
+     * one of the last item deleted, or out of the range of the queue
+     */
+    void add(int item, long priority);
+
+    /**
+     * Delete the first item (the one with the lowest priority).
+     *
+     * @return first item
+     * @throws EmptyContainerException if the queue is empty
+     * @pre! isEmpty(), EmptyContainerException
+     */
+    int poll();
+
+    /**
+     * Retrieves the priority of the first item.
+     *
+     * @return lowest priority of the queue
+     * @throws EmptyContainerException if the queue is empty
+     * @pre! isEmpty(), EmptyContainerException
+     */
+    long peekPriority();
+
+}
@@ -0,0 +1,336 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.sequential.Queue;
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import edu.uoc.ds.traversal.Iterator;
+import edu.uoc.ds.util.Utils;
+
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Class that implements a relaxed concurrent priority queue (MultiQueue).
+ * <p>
+ * The items are distributed among c * p heaps (p is the number of threads
+ * and c a small constant), each one protected by its own lock. An item is
+ * added to a heap chosen at random, and poll chooses two heaps at random
+ * and deletes the first item of the one whose first item has the higher
+ * priority. If a lock is busy another heap is chosen, so the threads
+ * rarely wait for each other.
+ * <p>
+ * The order is relaxed: poll does not always return the item with the
+ * highest priority. For a MultiQueue with m = c * p heaps, the rank of the
+ * deleted item (the number of items in the whole queue with higher
+ * priority) is O(m) in expectation and O(m log m) with high probability,
+ * and an item can not be overtaken indefinitely. When the exact order is
+ * required, SkipListPriorityQueue should be used instead.
+ * <p>
+ * peek, size and values are exact only if no other thread is changing
+ * the queue.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+public class MultiQueue<E> implements Queue<E> {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. It is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * Number of heaps per thread by default.
+     */
+    public static final int DEFAULT_HEAPS_PER_THREAD = 2;
+
+    /**
+     * The heaps.
+     */
+    protected final PriorityQueueArrayImpl<E>[] heaps;
+
+    /**
+     * Lock of every heap.
+     */
+    protected final ReentrantLock[] locks;
+
+    /**
+     * First item of every heap (null if it is empty), that can be read
+     * without taking the lock of the heap.
+     */
+    protected final AtomicReferenceArray<E> tops;
+
+    /**
+     * Number of items in the container.
+     */
+    protected final AtomicInteger n;
+
+    /**
+     * Specific comparator that allows to deduce the priority between the
+     * elements. It can have a null value and then the interface is used
+     * java.lang.Comparable
+     */
+    protected final Comparator<E> comparator;
+
+    /**
+     * Constructor without parameters (as many threads as processors) and
+     * elements of a class that implements java.lang.Comparable.
+     */
+    public MultiQueue() {
+        this(null);
+    }
+
+    /**
+     * Constructor with a parameter (as many threads as processors) and
+     * items of a class comparable to the given comparator.
+     *
+     * @param comparator comparator that allows you to deduce the priority
+     */
+    public MultiQueue(Comparator<E> comparator) {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_HEAPS_PER_THREAD, comparator);
+    }
+
+    /**
+     * Constructor with three parameters: number of threads that will use
+     * the queue, number of heaps per thread and comparator.
+     *
+     * @param threads number of threads (p)
+     * @param heapsPerThread number of heaps per thread (c)
+     * @param comparator comparator that allows you to deduce the priority;
+     *                   can be null
+     * @throws IllegalArgumentException if any of the numbers is less than one
+     * @pre threads >= 1 && heapsPerThread >= 1, IllegalArgumentException
+     */
+    public MultiQueue(int threads, int heapsPerThread, Comparator<E> comparator) {
+        if (threads < 1 || heapsPerThread < 1)
+            throw new IllegalArgumentException("the number of threads and heaps must be at least 1");
+        int m = threads * heapsPerThread;
+        this.comparator = comparator;
+        heaps = new PriorityQueueArrayImpl[m];
+        locks = new ReentrantLock[m];
+        for (int i = 0; i < m; i++) {
+            heaps[i] = new PriorityQueueArrayImpl<>(16, comparator);
+            locks[i] = new ReentrantLock();
+        }
+        tops = new AtomicReferenceArray<>(m);
+        n = new AtomicInteger();
+    }
+
+    /**
+     * Number of internal heaps (c * p).
+     *
+     * @return number of heaps
+     */
+    public int numHeaps() {
+        return heaps.length;
+    }
+
+    /**
+     * Retrieves the number of items in the container.
+     *
+     * @return number of items it currently contains
+     */
+    public int size() {
+        return n.get();
+    }
+
+    /**
+     * Method to check if the container is empty.
+     *
+     * @return true or false, depending on whether it is empty or not
+     */
+    public boolean isEmpty() {
+        return n.get() == 0;
+    }
+
+    /**
+     * Add an item to a random heap.
+     *
+     * @param elem comparable item to add to queue; it can not be null
+     */
+    public void add(E elem) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int i = random.nextInt(heaps.length);
+        for (int attempts = 1; !locks[i].tryLock(); attempts++) {
+            if (attempts == heaps.length) {
+                locks[i].lock();
+                break;
+            }
+            i = random.nextInt(heaps.length);
+        }
+        try {
+            heaps[i].add(elem);
+            tops.set(i, heaps[i].peek());
+            n.incrementAndGet();
+        } finally {
+            locks[i].unlock();
+        }
+    }
+
+    /**
+     * Delete one of the first items. Since other threads can empty the
+     * queue between a call to isEmpty and a call to poll, concurrent
+     * callers should use tryPoll.
+     *
+     * @return an item with one of the highest priorities
+     * @throws EmptyContainerException if the queue is empty
+     * @pre! isEmpty(), EmptyContainerException
+     */
+    public E poll() {
+        E elem = tryPoll();
+        if (elem == null)
+            throw new EmptyContainerException();
+        return elem;
+    }
+
+    /**
+     * Delete one of the first items, if any: the first item of the better
+     * of two heaps chosen at random.
+     *
+     * @return an item with one of the highest priorities, or null if the
+     * queue is empty
+     */
+    public E tryPoll() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (n.get() > 0) {
+            int i = random.nextInt(heaps.length);
+            int j = random.nextInt(heaps.length);
+            E top1 = tops.get(i);
+            E top2 = tops.get(j);
+            if (top1 == null && top2 == null) {
+                E elem = pollAny(random.nextInt(heaps.length));
+                if (elem != null)
+                    return elem;
+                continue;
+            }
+            int k = (top1 == null || (top2 != null && compare(top2, top1) < 0)) ? j : i;
+            if (locks[k].tryLock()) {
+                try {
+                    if (!heaps[k].isEmpty())
+                        return pollHeap(k);
+                } finally {
+                    locks[k].unlock();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the item with the highest priority among the first items
+     * of the heaps.
+     *
+     * @return first item, which is the lowest priority
+     * @throws EmptyContainerException if the queue is empty
+     * @pre! isEmpty(), EmptyContainerException
+     */
+    public E peek() {
+        E best = null;
+        for (int i = 0; i < heaps.length; i++) {
+            E top = tops.get(i);
+            if (top != null && (best == null || compare(top, best) < 0))
+                best = top;
+        }
+        if (best == null)
+            throw new EmptyContainerException();
+        return best;
+    }
+
+    /**
+     * Retrieves the items in the container, in order of priority. The heaps
+     * are copied one after the other, so the result is a consistent
+     * snapshot only if no other thread is changing the queue.
+     *
+     * @return enumeration of the items
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<E> values() {
+        PriorityQueueArrayImpl<E> all = new PriorityQueueArrayImpl<>(Math.max(n.get(), 1), comparator);
+        for (int i = 0; i < heaps.length; i++) {
+            locks[i].lock();
+            try {
+                for (Iterator<E> it = heaps[i].values(); it.hasNext(); )
+                    all.add(it.next());
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return all.values();
+    }
+
+    /**
+     * Method overwriting Object.toString ().
+     *
+     * @return list of items in order of priority
+     */
+    public String toString() {
+        StringBuilder buffer = new StringBuilder();
+        buffer.append("{PRIORITYQUEUE:");
+        for (Iterator<E> it = values(); it.hasNext(); ) {
+            buffer.append(it.next());
+            if (it.hasNext()) buffer.append(',');
+        }
+        buffer.append("}");
+        return buffer.toString();
+    }
+
+
+    /**
+     * Protected method that compares two items. If the constructor has not
+     * defined a comparator, java.lang.Comparable is used to deduce the
+     * priority between both elements.
+     *
+     * @param elem1 first item
+     * @param elem2 second item
+     * @return a negative, zero, or positive integer, depending on whether the
+     * first item has less, equal or more priority than the second one
+     */
+    protected int compare(E elem1, E elem2) {
+        if (comparator == null)
+            return ((Comparable<E>) elem1).compareTo(elem2);
+        return comparator.compare(elem1, elem2);
+    }
+
+
+    /**
+     * Deletes the first item of the first heap that is not empty, starting
+     * at a given one. It is used when the heaps chosen at random are
+     * empty, so that poll does not fail while there are items.
+     */
+    private E pollAny(int start) {
+        for (int d = 0; d < heaps.length; d++) {
+            int k = (start + d) % heaps.length;
+            if (tops.get(k) == null)
+                continue;
+            locks[k].lock();
+            try {
+                if (!heaps[k].isEmpty())
+                    return pollHeap(k);
+            } finally {
+                locks[k].unlock();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Deletes the first item of a heap; the caller must hold its lock.
+     */
+    private E pollHeap(int k) {
+        E elem = heaps[k].poll();
+        tops.set(k, heaps[k].isEmpty() ? null : heaps[k].peek());
+        n.decrementAndGet();
+        return elem;
+    }
+
+}
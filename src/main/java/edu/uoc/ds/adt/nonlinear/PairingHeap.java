@@ -0,0 +1,474 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.Position;
+import edu.uoc.ds.adt.sequential.Queue;
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import edu.uoc.ds.exceptions.InvalidPositionException;
+import edu.uoc.ds.traversal.Iterator;
+import edu.uoc.ds.util.Utils;
+
+import java.util.Comparator;
+
+/**
+ * Class that implements a priority queue by means of a pairing heap.
+ * <p>
+ * A pairing heap is a tree with any number of children per node, where
+ * every node has higher priority than its children. The children of a node
+ * are chained in a list: every node points to its first child, to its next
+ * sibling and to its previous sibling (or to its parent if it is the first
+ * child).
+ * <p>
+ * Adding an item, melding two queues and increasing the priority of an
+ * item (decreaseKey) just link two trees, which costs O(1): the root with
+ * lower priority becomes the first child of the other one. Deleting the
+ * first item joins the children of the root in two passes (by pairs from
+ * left to right, and then from right to left), with an amortized cost of
+ * O(log n).
+ * <p>
+ * The positions returned by insert are the nodes of the heap, so they
+ * remain valid until their item leaves the queue.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+public class PairingHeap<E> implements Queue<E> {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. It is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * Root of the heap, which contains the item with the highest priority.
+     */
+    protected NodeHeap<E> root;
+
+    /**
+     * Number of items currently in the container.
+     */
+    protected int n;
+
+    /**
+     * Specific comparator that allows to deduce the priority between the
+     * elements. It can have a null value and then the interface is used
+     * java.lang.Comparable
+     */
+    protected Comparator<E> comparator;
+
+    /**
+     * Identifier of the queue, which is kept by its nodes.
+     */
+    private HeapOwner owner = new HeapOwner();
+
+    /**
+     * Constructor without parameters and elements of a class that
+     * implements java.lang.Comparable.
+     */
+    public PairingHeap() {
+        this(null);
+    }
+
+    /**
+     * Constructor with a parameter and items of a class comparable to
+     * the given comparator.
+     *
+     * @param comparator comparator that allows you to deduce the priority
+     */
+    public PairingHeap(Comparator<E> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Retrieves the number of items in the container.
+     *
+     * @return number of items it currently contains
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Method to check if the container is empty.
+     *
+     * @return true or false, depending on whether it is empty or not
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Add an item to the queue.
+     *
+     * @param elem comparable item to add to queue
+     */
+    public void add(E elem) {
+        insert(elem);
+    }
+
+    /**
+     * Add an item to the queue and return its position, which remains
+     * valid until the item leaves the queue.
+     *
+     * @param elem comparable item to add to queue
+     * @return position of the new item
+     */
+    public Position<E> insert(E elem) {
+        NodeHeap<E> node = new NodeHeap<>(elem);
+        node.owner = owner;
+        root = link(root, node);
+        n++;
+        return node;
+    }
+
+    /**
+     * Delete the lowest priority item, if any.
+     *
+     * @return first item, which is the lowest priority
+     * @throws EmptyContainerException if the queue is empty
+     * @pre! isEmpty(), EmptyContainerException
+     */
+    public E poll() {
+        if (isEmpty())
+            throw new EmptyContainerException();
+        NodeHeap<E> first = root;
+        root = combine(first.child);
+        n--;
+        first.invalidate();
+        return first.elem;
+    }
+
+    /**
+     * Retrieves the lowest priority item, if any.
+     *
+     * @return first item, which is the lowest priority
+     * @throws EmptyContainerException if the queue is empty
+     * @pre! isEmpty(), EmptyContainerException
+     */
+    public E peek() {
+        if (isEmpty())
+            throw new EmptyContainerException();
+        return root.elem;
+    }
+
+    /**
+     * Moves all the items of another queue to this one, in O(1).
+     * The other queue is left empty, and the positions of its items
+     * become positions of this queue.
+     *
+     * @param other queue to meld with the current one; it must order the
+     *              items in the same way
+     */
+    public void meld(PairingHeap<E> other) {
+        if (other == this || other.isEmpty())
+            return;
+        root = link(root, other.root);
+        n += other.n;
+        other.root = null;
+        other.n = 0;
+        // the nodes of the other queue now belong to this one
+        other.owner.meldInto(owner);
+        other.owner = new HeapOwner();
+    }
+
+    /**
+     * Replaces the item of a position by an item with higher or equal
+     * priority (smaller or equal according to the comparator). The subtree
+     * of the position is cut and linked again with the root, in O(1).
+     *
+     * @param pos position of the item, obtained by insert
+     * @param elem new item
+     * @return item in position before replacing
+     * @throws InvalidPositionException if the position is not in the queue
+     * @throws IllegalArgumentException if the new item has lower priority
+     * @pre contains(pos) && compare(elem, pos.getElem()) <= 0
+     */
+    public E decreaseKey(Position<E> pos, E elem) {
+        NodeHeap<E> node = checkPosition(pos);
+        if (compare(elem, node.elem) > 0)
+            throw new IllegalArgumentException("the new item has lower priority");
+        E old = node.elem;
+        node.elem = elem;
+        if (node != root) {
+            detach(node);
+            root = link(root, node);
+        }
+        return old;
+    }
+
+    /**
+     * Delete the item of a position, wherever it is in the queue.
+     *
+     * @param pos position of the item, obtained by insert
+     * @return deleted item
+     * @throws InvalidPositionException if the position is not in the queue
+     * @pre contains(pos)
+     */
+    public E remove(Position<E> pos) {
+        NodeHeap<E> node = checkPosition(pos);
+        if (node == root)
+            return poll();
+        detach(node);
+        root = link(root, combine(node.child));
+        n--;
+        node.invalidate();
+        return node.elem;
+    }
+
+    /**
+     * Check if a position belongs to the queue; that is, it was returned
+     * by insert of this queue, or of a queue melded into it, and its item
+     * has not been polled or removed. The cost is O(1) amortized.
+     *
+     * @param pos reference position
+     * @return true or false, depending on whether the position is in the queue
+     */
+    public boolean contains(Position<E> pos) {
+        if (!(pos instanceof NodeHeap))
+            return false;
+        NodeHeap<E> node = (NodeHeap<E>) pos;
+        if (node.deleted)
+            return false;
+        node.owner = node.owner.find();
+        return node.owner == owner;
+    }
+
+    /**
+     * Retrieves the items in the container, in order of priority, without
+     * altering the current state of the container. The items are sorted
+     * lazily, using an auxiliary heap with the nodes whose parent has
+     * already been returned.
+     *
+     * @return enumeration of the items
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<E> values() {
+        final PriorityQueueArrayImpl<NodeHeap<E>> frontier =
+                new PriorityQueueArrayImpl<>(16, (n1, n2) -> compare(n1.elem, n2.elem));
+        if (root != null)
+            frontier.add(root);
+
+        return new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                return !frontier.isEmpty();
+            }
+
+            @Override
+            public E next() throws InvalidPositionException {
+                if (frontier.isEmpty()) throw new InvalidPositionException();
+                NodeHeap<E> node = frontier.poll();
+                for (NodeHeap<E> child = node.child; child != null; child = child.next)
+                    frontier.add(child);
+                return node.elem;
+            }
+        };
+    }
+
+    /**
+     * Method overwriting Object.toString ().
+     *
+     * @return list of items in order of priority
+     */
+    public String toString() {
+        StringBuilder buffer = new StringBuilder();
+        buffer.append("{PAIRINGHEAP:");
+        for (Iterator<E> it = values(); it.hasNext(); ) {
+            buffer.append(it.next());
+            if (it.hasNext()) buffer.append(',');
+        }
+        buffer.append("}");
+        return buffer.toString();
+    }
+
+
+    /**
+     * Protected method that compares two items. If the constructor has not
+     * defined a comparator, java.lang.Comparable is used to deduce the
+     * priority between both elements.
+     *
+     * @param elem1 first item
+     * @param elem2 second item
+     * @return a negative, zero, or positive integer, depending on whether the
+     * first item has less, equal or more priority than the second one
+     */
+    protected int compare(E elem1, E elem2) {
+        if (comparator == null)
+            return ((Comparable<E>) elem1).compareTo(elem2);
+        return comparator.compare(elem1, elem2);
+    }
+
+
+    /**
+     * Links two trees: the root with lower priority becomes the first
+     * child of the other one.
+     *
+     * @param a first tree; can be null
+     * @param b second tree; can be null
+     * @return root of the resulting tree
+     */
+    private NodeHeap<E> link(NodeHeap<E> a, NodeHeap<E> b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        if (compare(b.elem, a.elem) < 0) {
+            NodeHeap<E> aux = a;
+            a = b;
+            b = aux;
+        }
+        b.next = a.child;
+        if (a.child != null) a.child.prev = b;
+        b.prev = a;
+        a.child = b;
+        a.next = null;
+        a.prev = null;
+        return a;
+    }
+
+    /**
+     * Joins a list of siblings in a single tree, in two passes: first
+     * by pairs from left to right, and then the resulting trees from the
+     * last to the first one.
+     *
+     * @param first first node of the list; can be null
+     * @return root of the resulting tree
+     */
+    private NodeHeap<E> combine(NodeHeap<E> first) {
+        NodeHeap<E> pairs = null;
+        NodeHeap<E> a = first;
+        while (a != null) {
+            NodeHeap<E> b = a.next;
+            NodeHeap<E> rest = null;
+            a.next = a.prev = null;
+            if (b != null) {
+                rest = b.next;
+                b.next = b.prev = null;
+            }
+            NodeHeap<E> tree = link(a, b);
+            tree.next = pairs;
+            pairs = tree;
+            a = rest;
+        }
+        NodeHeap<E> result = null;
+        while (pairs != null) {
+            NodeHeap<E> rest = pairs.next;
+            pairs.next = null;
+            result = link(result, pairs);
+            pairs = rest;
+        }
+        return result;
+    }
+
+    /**
+     * Cuts the subtree of a node (which is not the root) from the list of
+     * children of its parent.
+     *
+     * @param node node to cut
+     */
+    private void detach(NodeHeap<E> node) {
+        if (node.prev.child == node)
+            node.prev.child = node.next;
+        else
+            node.prev.next = node.next;
+        if (node.next != null)
+            node.next.prev = node.prev;
+        node.next = null;
+        node.prev = null;
+    }
+
+
+    private NodeHeap<E> checkPosition(Position<E> pos) {
+        if (!contains(pos))
+            throw new InvalidPositionException("position not in the queue");
+        return (NodeHeap<E>) pos;
+    }
+
+
+    /**
+     * Class that implements a node of the pairing heap.
+     */
+    protected static class NodeHeap<E> implements Position<E> {
+        /**
+         * Attribute that determines compatibility between objects
+         * serializable of the same class. It is calculated
+         * using a method of the Utilities class.
+         */
+        private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+        /**
+         * The element.
+         */
+        protected E elem;
+
+        /**
+         * First child of the node.
+         */
+        protected NodeHeap<E> child;
+
+        /**
+         * Next sibling of the node.
+         */
+        protected NodeHeap<E> next;
+
+        /**
+         * Previous sibling of the node, or its parent if it is the
+         * first child.
+         */
+        protected NodeHeap<E> prev;
+
+        /**
+         * True when the item has left the queue.
+         */
+        protected boolean deleted;
+
+        /**
+         * Identifier of the queue where the node was inserted, or of a
+         * queue that contains it after melding.
+         */
+        private HeapOwner owner;
+
+        /**
+         * Constructor with a parameter.
+         *
+         * @param elem value of the element
+         */
+        public NodeHeap(E elem) {
+            this.elem = elem;
+        }
+
+        /**
+         * Getter for elem
+         *
+         * @return element contained in the node
+         */
+        public E getElem() {
+            return elem;
+        }
+
+        /**
+         * Marks the node as deleted and releases its links.
+         */
+        protected void invalidate() {
+            deleted = true;
+            child = next = prev = null;
+        }
+
+        /**
+         * Method that overrides the conversion of the object to String by
+         * facilitate code debugging.
+         *
+         * @return character string representative of the item
+         */
+        public String toString() {
+            return (elem == null) ? "null" : elem.toString();
+        }
+    }
+
+}
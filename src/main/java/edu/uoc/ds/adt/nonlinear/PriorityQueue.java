@@ -1,6 +1,7 @@
 package edu.uoc.ds.adt.nonlinear;
 
 import edu.uoc.ds.adt.helpers.Position;
+import edu.uoc.ds.adt.sequential.Container;
 import edu.uoc.ds.adt.sequential.Queue;
 import edu.uoc.ds.adt.helpers.Range;
 import edu.uoc.ds.exceptions.EmptyContainerException;
@@ -164,6 +165,26 @@ public class PriorityQueue<E> implements Queue<E> {
         heap = new AlmostCompleteBinaryTree<>(max);
     }
 
+    /**
+     * Constructor that builds the queue with the first n items of a
+     * vector (capacity, the length of the vector). The heap is built
+     * bottom-up (Floyd's method) in linear time, instead of adding the
+     * items one by one.
+     *
+     * @param elems vector with the items to add to the queue
+     * @param n number of items of the vector to add
+     * @param comparator comparator that allows you to deduce the priority;
+     *                   can be null
+     * @pre n <= elems.length
+     */
+    public PriorityQueue(E[] elems, int n, java.util.Comparator<E> comparator) {
+        this.comparator = comparator;
+        heap = new AlmostCompleteBinaryTree<>(elems.length);
+        for (int i = 0; i < n; i++)
+            heap.addLast(elems[i]);
+        heapify();
+    }
+
     /**
      * Retrieves the number of items in the container.
      *
@@ -191,6 +212,18 @@ public class PriorityQueue<E> implements Queue<E> {
         return heap.isFull();
     }
 
+    /**
+     * Increases the capacity of the queue. The positions of the items are
+     * kept, so they remain valid.
+     *
+     * @param capacity new capacity; if it is not greater than the current
+     *                 one, nothing changes
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > heap.elems.length)
+            heap.elems = java.util.Arrays.copyOf(heap.elems, capacity);
+    }
+
     /**
      * Add an item to the appropriate position, if any.
      *
@@ -203,6 +236,41 @@ public class PriorityQueue<E> implements Queue<E> {
     }
 
 
+    /**
+     * Add all the items of a container. When many items are added
+     * at once, the heap is rebuilt bottom-up in linear time; otherwise
+     * every new item is moved up to its place. If the items do not fit,
+     * none of them is added.
+     *
+     * @param container container with the items to add
+     * @pre size() + container.size() <= capacity, FullContainerException
+     */
+    public void addAll(Container<E> container) {
+        if (size() + container.size() > heap.elems.length)
+            throw new FullContainerException();
+        int first = size();
+        Iterator<E> it = container.values();
+        while (it.hasNext())
+            nextLastPosition(it.next());
+        if (size() - first >= first)
+            heapify();
+        else
+            for (int i = first; i < size(); i++)
+                siftUp(heap.elems[i]);
+    }
+
+
+    /**
+     * Sorts the whole vector as a heap, moving down every position that
+     * has children, from the last one to the root (Floyd's method). The
+     * cost is linear on the number of items.
+     */
+    protected void heapify() {
+        for (int i = size() / 2 - 1; i >= 0; i--)
+            siftDown(heap.elems[i]);
+    }
+
+
     protected Position<E> nextLastPosition(E elem) {
         return heap.addLast(elem);
     }
@@ -280,28 +348,66 @@ public class PriorityQueue<E> implements Queue<E> {
      * some sort of order or route, the enumeration must be
      * consequent and offer the items in order (FIFO, LIFO, order,
      * etc.), without altering the current state of the container.
+     * <p>
+     * The items are sorted lazily: an auxiliary heap keeps the positions of
+     * the frontier (the positions whose parent has already been returned),
+     * so the first k items cost O(k log k) and the queue is not copied.
+     * The enumeration is sensitive to alterations of the queue.
      *
-     * @return enumeration of items associated with keys
+     * @return enumeration of items in order of priority
      * @see Iterator#hasNext()
      * @see Iterator#next()
      */
     public Iterator<E> values() {
-        final PriorityQueue<E> pq = clone();
+        final PriorityQueueArrayImpl<Position<E>> frontier =
+                new PriorityQueueArrayImpl<>(16, this::compare);
+        if (!isEmpty())
+            frontier.add(heap.root());
 
-        Iterator<E> it = new Iterator<>(){
+        return new Iterator<>() {
 
             @Override
             public boolean hasNext() {
-                return !pq.isEmpty();
+                return !frontier.isEmpty();
             }
 
             @Override
             public E next() throws InvalidPositionException {
-                return pq.poll();
+                if (frontier.isEmpty()) throw new InvalidPositionException();
+                Position<E> pos = frontier.poll();
+                Position<E> child = heap.leftChild(pos);
+                if (child != null) frontier.add(child);
+                child = heap.rightChild(pos);
+                if (child != null) frontier.add(child);
+                return pos.getElem();
             }
         };
+    }
 
-        return  it;// heap.values();
+    /**
+     * Retrieves the items in the container in the order of the vector of
+     * the heap (by levels), which is not the order of priority. It is
+     * the cheapest way to go through all the items.
+     *
+     * @return enumeration of items, without a specific order
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<E> unorderedValues() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < heap.size();
+            }
+
+            @Override
+            public E next() throws InvalidPositionException {
+                if (!hasNext()) throw new InvalidPositionException();
+                return heap.elems[index++].getElem();
+            }
+        };
     }
 
     /**
@@ -368,13 +474,17 @@ public class PriorityQueue<E> implements Queue<E> {
         return compare(rightChild, leftChild) < 0 ? rightChild : leftChild;
     }
 
+    /**
+     * Copy of the priority queue, with the same capacity. The items are
+     * copied in the order of the vector, which is already a heap, so the
+     * cost is linear.
+     *
+     * @return a new priority queue with the same items
+     */
     public PriorityQueue<E> clone() {
-        PriorityQueue aux = new PriorityQueue(this.comparator);
-        Traversal<E> traversal = this.positions();
-        while (traversal.hasNext()) {
-            aux.add(traversal.next().getElem());
-        }
-
+        PriorityQueue<E> aux = new PriorityQueue<>(heap.elems.length, this.comparator);
+        for (int i = 0; i < heap.size(); i++)
+            aux.heap.addLast(heap.elems[i].getElem());
         return aux;
     }
 
@@ -0,0 +1,360 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.sequential.Queue;
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import edu.uoc.ds.exceptions.InvalidPositionException;
+import edu.uoc.ds.exceptions.NonComparableException;
+import edu.uoc.ds.traversal.Iterator;
+import edu.uoc.ds.util.Utils;
+
+import java.util.Comparator;
+
+/**
+ * Class that implements the operations of the priority queues by means of
+ * a heap stored directly in a vector of elements.
+ * <p>
+ * Unlike PriorityQueue, which organizes Range positions inside a
+ * binary tree, this implementation keeps the elements themselves in the
+ * vector: if an element is at position [k], its children are at
+ * [2 * k + 1] and [2 * k + 2] and its parent at [(k - 1) / 2]. Adding or
+ * deleting an element does not create any object, and the elements are
+ * moved using a "hole": the element that is being placed is kept apart
+ * while the elements that are in its way are moved one level, and it is
+ * written only once when its final place is found.
+ * <p>
+ * The heap can also be d-ary: every node has up to d children, which are
+ * contiguous in the vector (the children of [k] are [d * k + 1] ..
+ * [d * k + d]). A greater arity makes the tree shallower, so adding
+ * an element is cheaper, while deleting one has to compare more children
+ * per level. With big queues, 4 or 8 children per node usually make better
+ * use of the processor cache than a binary heap.
+ * <p>
+ * The vector grows when it is full, so the queue is never full.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+public class PriorityQueueArrayImpl<E> implements Queue<E> {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. It is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * Initial capacity of the container by default.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * Number of children of every node by default (binary heap).
+     */
+    public static final int DEFAULT_ARITY = 2;
+
+    /**
+     * The heap. Positions start at zero.
+     */
+    protected E[] elems;
+
+    /**
+     * Number of items currently in the container.
+     */
+    protected int n;
+
+    /**
+     * Specific comparator that allows to deduce the priority between the
+     * elements. It can have a null value and then the interface is used
+     * java.lang.Comparable
+     */
+    protected Comparator<E> comparator;
+
+    /**
+     * Maximum number of children of every node of the heap.
+     */
+    protected final int arity;
+
+    /**
+     * Constructor without parameters (initial capacity, default) and
+     * elements of a class that implements java.lang.Comparable.
+     */
+    public PriorityQueueArrayImpl() {
+        this(DEFAULT_CAPACITY, null);
+    }
+
+    /**
+     * Constructor with a parameter (given initial capacity) and elements
+     * of a class that implements java.lang.Comparable.
+     *
+     * @param capacity initial number of items the queue can contain
+     *                 before growing
+     */
+    public PriorityQueueArrayImpl(int capacity) {
+        this(capacity, null);
+    }
+
+    /**
+     * Constructor with a parameter (initial capacity, default) and
+     * items of a class comparable to the given comparator.
+     *
+     * @param comparator comparator that allows you to deduce the priority
+     */
+    public PriorityQueueArrayImpl(Comparator<E> comparator) {
+        this(DEFAULT_CAPACITY, comparator);
+    }
+
+    /**
+     * Constructor with two parameters (given initial capacity) and
+     * elements of one class comparable to the given comparator.
+     *
+     * @param capacity initial number of items the queue can contain
+     *                 before growing
+     * @param comparator comparator that allows you to deduce the priority
+     */
+    public PriorityQueueArrayImpl(int capacity, Comparator<E> comparator) {
+        this(capacity, DEFAULT_ARITY, comparator);
+    }
+
+    /**
+     * Constructor with three parameters (given initial capacity and
+     * number of children of every node) and elements of one class
+     * comparable to the given comparator.
+     *
+     * @param capacity initial number of items the queue can contain
+     *                 before growing
+     * @param arity number of children of every node (2, 4, 8...)
+     * @param comparator comparator that allows you to deduce the priority;
+     *                   can be null
+     * @throws IllegalArgumentException if the arity is less than two
+     * @pre arity >= 2, IllegalArgumentException
+     */
+    public PriorityQueueArrayImpl(int capacity, int arity, Comparator<E> comparator) {
+        if (arity < 2)
+            throw new IllegalArgumentException("arity must be at least 2");
+        elems = (E[]) new Object[Math.max(capacity, 1)];
+        n = 0;
+        this.arity = arity;
+        this.comparator = comparator;
+    }
+
+    /**
+     * Retrieves the number of items in the container.
+     *
+     * @return number of items it currently contains
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Method to check if the container is empty.
+     *
+     * @return true or false, depending on whether it is empty or not
+     */
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    /**
+     * Getter of the number of children of every node.
+     *
+     * @return the arity of the heap
+     */
+    public int arity() {
+        return arity;
+    }
+
+    /**
+     * Add an item to the appropriate position. If the vector is full it
+     * is replaced by a bigger one.
+     *
+     * @param elem comparable item to add to queue
+     */
+    public void add(E elem) {
+        if (n == elems.length) grow();
+        siftUp(n, elem);
+        n++;
+    }
+
+    /**
+     * Delete the lowest priority item, if any.
+     *
+     * @return first item, which is the lowest priority
+     * @throws EmptyContainerException if the queue is empty
+     * @pre! isEmpty(), EmptyContainerException
+     */
+    public E poll() {
+        if (isEmpty())
+            throw new EmptyContainerException();
+        E first = elems[0];
+        n--;
+        E last = elems[n];
+        elems[n] = null;
+        if (n > 0)
+            siftDown(0, last);
+        return first;
+    }
+
+    /**
+     * Delete the lowest priority item and add another one. It is equivalent
+     * to poll followed by add, but the new item is placed with a single
+     * descent from the root.
+     *
+     * @param elem comparable item to add to queue
+     * @return first item before adding the new one
+     * @throws EmptyContainerException if the queue is empty
+     * @pre! isEmpty(), EmptyContainerException
+     */
+    public E replaceFirst(E elem) {
+        if (isEmpty())
+            throw new EmptyContainerException();
+        E first = elems[0];
+        siftDown(0, elem);
+        return first;
+    }
+
+    /**
+     * Retrieves the lowest priority item, if any.
+     *
+     * @return first item, which is the lowest priority
+     * @throws EmptyContainerException if the queue is empty
+     * @pre! isEmpty(), EmptyContainerException
+     */
+    public E peek() {
+        if (isEmpty())
+            throw new EmptyContainerException();
+        return elems[0];
+    }
+
+    /**
+     * Retrieves the items in the container, in order of priority, without
+     * altering the current state of the container.
+     *
+     * @return enumeration of the items
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<E> values() {
+        final PriorityQueueArrayImpl<E> pq = clone();
+
+        return new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                return !pq.isEmpty();
+            }
+
+            @Override
+            public E next() throws InvalidPositionException {
+                if (pq.isEmpty()) throw new InvalidPositionException();
+                return pq.poll();
+            }
+        };
+    }
+
+    /**
+     * Copy of the priority queue. The vector is copied as it is, so
+     * it is not necessary to rebuild the heap.
+     *
+     * @return a new priority queue with the same items
+     */
+    public PriorityQueueArrayImpl<E> clone() {
+        PriorityQueueArrayImpl<E> aux = new PriorityQueueArrayImpl<>(elems.length, arity, comparator);
+        System.arraycopy(elems, 0, aux.elems, 0, n);
+        aux.n = n;
+        return aux;
+    }
+
+    /**
+     * Method overwriting Object.toString (). Items in the order of the vector.
+     *
+     * @return list of items
+     */
+    public String toString() {
+        StringBuilder buffer = new StringBuilder();
+        buffer.append("{PRIORITYQUEUE:");
+        for (int i = 0; i < n; i++) {
+            buffer.append(elems[i]);
+            if (i < n - 1) buffer.append(',');
+        }
+        buffer.append("}");
+        return buffer.toString();
+    }
+
+
+    /**
+     * Places an element, that is considered to be at position k (the hole),
+     * moving up the ancestors that have lower priority.
+     *
+     * @param k index of the hole
+     * @param elem element to place
+     */
+    protected void siftUp(int k, E elem) {
+        while (k > 0) {
+            int parent = (k - 1) / arity;
+            E e = elems[parent];
+            if (compare(elem, e) >= 0)
+                break;
+            elems[k] = e;
+            k = parent;
+        }
+        elems[k] = elem;
+    }
+
+    /**
+     * Places an element, that is considered to be at position k (the hole),
+     * moving up the child with the highest priority while it has
+     * higher priority than the element.
+     *
+     * @param k index of the hole
+     * @param elem element to place
+     */
+    protected void siftDown(int k, E elem) {
+        int first;
+        while ((first = arity * k + 1) < n) {
+            int last = Math.min(first + arity, n);
+            int child = first;
+            E c = elems[first];
+            for (int i = first + 1; i < last; i++) {
+                if (compare(c, elems[i]) > 0)
+                    c = elems[child = i];
+            }
+            if (compare(elem, c) <= 0)
+                break;
+            elems[k] = c;
+            k = child;
+        }
+        elems[k] = elem;
+    }
+
+    /**
+     * Protected method that compares two items. If the constructor has not
+     * defined a comparator, java.lang.Comparable is used to deduce the
+     * priority between both elements.
+     *
+     * @param elem1 first item
+     * @param elem2 second item
+     * @return a negative, zero, or positive integer, depending on whether the
+     * first item has less, equal or more priority than the second one
+     * @throws NonComparableException if any of the items is not comparable
+     */
+    protected int compare(E elem1, E elem2) {
+        if (comparator == null)
+            return ((Comparable<E>) elem1).compareTo(elem2);
+        return comparator.compare(elem1, elem2);
+    }
+
+
+    private void grow() {
+        E[] aux = (E[]) new Object[elems.length + (elems.length >> 1) + 1];
+        System.arraycopy(elems, 0, aux, 0, n);
+        elems = aux;
+    }
+
+}
@@ -0,0 +1,463 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.Position;
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import edu.uoc.ds.exceptions.NonComparableException;
+import edu.uoc.ds.util.Utils;
+
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Class that implements a balanced binary search tree red-black, whose
+ * nodes are red or black so that:
+ * <ul>
+ * <li>the root is black;</li>
+ * <li>a red node has no red children;</li>
+ * <li>every path from a node down to an empty subtree has the same number
+ * of black nodes.</li>
+ * </ul>
+ * Therefore, no path is more than twice as long as any other, and the
+ * height is less than 2 * log2(n + 1).
+ * <p>
+ * The balance is less strict than in an AVL tree, so searches may visit
+ * a few more nodes, but updates are cheaper: an insertion does at most
+ * two rotations and a deletion at most three, and the rest of the work
+ * is recolouring nodes while going up. It is a better choice when there
+ * are many insertions and deletions.
+ * <p>
+ * Insertion and deletion are iterative: every node knows its parent.
+ * As in AVLTree, the rotations relink the nodes and a node with two
+ * children that is deleted is replaced by the node of the next item, so
+ * an item never changes of node.
+ * <p>
+ * Element classes are expected to implement java.lang.Comparable
+ * or that a java.util.Comparator is provided as a parameter of the
+ * builder.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+public class RBTree<E> extends BinarySearchTreeLinked<E> {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. The detector is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * Constructor without parameters.
+     */
+    public RBTree() {
+        super();
+    }
+
+    /**
+     * Constructor with a parameter.
+     *
+     * @param comparator comparator that allows you to deduce the priority
+     * @throws IllegalArgumentException if the comparator is null
+     */
+    public RBTree(java.util.Comparator<E> comparator) {
+        super(comparator);
+    }
+
+    /**
+     * Add an item to the appropriate position. If the item was already
+     * there, according to the comparator, it is overwritten.
+     *
+     * @param elemComp comparable item to add to the tree
+     * @throws NonComparableException if item is not comparable
+     */
+    @Override
+    public void add(E elemComp) {
+        NodeRB<E> parent = null;
+        NodeRB<E> node = (NodeRB<E>) root;
+        int comp = 0;
+        while (node != null) {
+            comp = compare(elemComp, node.element);
+            if (comp == 0) {
+                node.element = elemComp;
+                return;
+            }
+            parent = node;
+            node = (NodeRB<E>) ((comp < 0) ? node.leftChild : node.rightChild);
+        }
+        NodeRB<E> added = (NodeRB<E>) newNode(parent, elemComp);
+        if (parent == null) root = added;
+        else if (comp < 0) parent.setLeftChild(added);
+        else parent.setRightChild(added);
+        n++;
+        fixAfterAdd(added);
+    }
+
+    /**
+     * Retrieves an element of the tree. If you can't find it, using
+     * the comparator, returns null.
+     *
+     * @param elemComp comparable item to consult
+     * @return the interested item; or null, if it was not there
+     * @throws NonComparableException if item is not comparable
+     */
+    @Override
+    public E get(E elemComp) {
+        NodeTree<E> node = seek(elemComp);
+        return (node == null) ? null : node.element;
+    }
+
+    /**
+     * Delete the item, if it is found according to the comparator.
+     *
+     * @param elemComp comparable item to delete from tree
+     * @return the deleted item; or null, if it was not there
+     * @throws NonComparableException if item is not comparable
+     */
+    @Override
+    public E delete(E elemComp) {
+        NodeRB<E> node = seek(elemComp);
+        if (node == null)
+            return null;
+        E deleted = node.element;
+        deleteNode(node);
+        n--;
+        return deleted;
+    }
+
+    /**
+     * Delete the item that corresponds to a key, if it is found, with a
+     * single descent.
+     *
+     * @param key the key
+     * @param comparison function that compares a key with an item, in the
+     *                   same order as the comparator of the tree
+     * @return the deleted item; or null, if it was not there
+     */
+    @Override
+    public <K> E deleteByKey(K key, ToIntBiFunction<K, E> comparison) {
+        NodeRB<E> node = (NodeRB<E>) seekByKey(key, comparison);
+        if (node == null)
+            return null;
+        E deleted = node.element;
+        deleteNode(node);
+        n--;
+        return deleted;
+    }
+
+    /**
+     * Overrides the superclass method to create nodes that are red and
+     * know their parent.
+     *
+     * @param parent parent of the new node
+     * @param elemComp comparable element to be saved to the node
+     * @return new red node that stores the item
+     */
+    @Override
+    protected NodeTree<E> newNode(Position<E> parent, E elemComp) {
+        NodeRB<E> node = new NodeRB<>(elemComp);
+        node.parent = (NodeRB<E>) parent;
+        return node;
+    }
+
+
+    /**
+     * Searches the node of an item.
+     *
+     * @param elemComp comparable item to consult
+     * @return node of the item; or null, if it was not there
+     */
+    private NodeRB<E> seek(E elemComp) {
+        NodeTree<E> node = root;
+        int comp;
+        while (node != null && (comp = compare(elemComp, node.element)) != 0)
+            node = (comp < 0) ? node.leftChild : node.rightChild;
+        return (NodeRB<E>) node;
+    }
+
+    /**
+     * Restores the colours after adding a red node: while its parent is
+     * red too, either the parent and the uncle are recoloured and the
+     * problem moves two levels up, or one or two rotations solve it.
+     *
+     * @param node node added
+     */
+    private void fixAfterAdd(NodeRB<E> node) {
+        while (isRed(node.parent)) {
+            NodeRB<E> parent = node.parent;
+            NodeRB<E> grandparent = parent.parent;    // not null: the root is black
+            if (parent == grandparent.leftChild) {
+                NodeRB<E> uncle = (NodeRB<E>) grandparent.rightChild;
+                if (isRed(uncle)) {
+                    parent.red = false;
+                    uncle.red = false;
+                    grandparent.red = true;
+                    node = grandparent;
+                } else {
+                    if (node == parent.rightChild) {
+                        rotateLeft(parent);
+                        NodeRB<E> aux = parent;
+                        parent = node;
+                        node = aux;
+                    }
+                    parent.red = false;
+                    grandparent.red = true;
+                    rotateRight(grandparent);
+                }
+            } else {
+                NodeRB<E> uncle = (NodeRB<E>) grandparent.leftChild;
+                if (isRed(uncle)) {
+                    parent.red = false;
+                    uncle.red = false;
+                    grandparent.red = true;
+                    node = grandparent;
+                } else {
+                    if (node == parent.leftChild) {
+                        rotateRight(parent);
+                        NodeRB<E> aux = parent;
+                        parent = node;
+                        node = aux;
+                    }
+                    parent.red = false;
+                    grandparent.red = true;
+                    rotateLeft(grandparent);
+                }
+            }
+        }
+        ((NodeRB<E>) root).red = false;
+    }
+
+    /**
+     * Unlinks a node of the tree and restores the colours if a black
+     * node has been removed from a path.
+     *
+     * @param node node to delete
+     */
+    private void deleteNode(NodeRB<E> node) {
+        boolean removedRed = node.red;
+        NodeRB<E> child;
+        NodeRB<E> childParent;
+        if (node.leftChild == null || node.rightChild == null) {
+            child = (NodeRB<E>) ((node.leftChild != null) ? node.leftChild : node.rightChild);
+            childParent = node.parent;
+            transplant(node, child);
+        } else {
+            NodeRB<E> next = (NodeRB<E>) node.rightChild;
+            while (next.leftChild != null)
+                next = (NodeRB<E>) next.leftChild;
+            removedRed = next.red;
+            child = (NodeRB<E>) next.rightChild;
+            if (next.parent == node)
+                childParent = next;
+            else {
+                childParent = next.parent;
+                transplant(next, child);
+                next.setRightChild(node.rightChild);
+            }
+            transplant(node, next);
+            next.setLeftChild(node.leftChild);
+            next.red = node.red;
+        }
+        node.parent = null;
+        node.leftChild = null;
+        node.rightChild = null;
+        if (!removedRed)
+            fixAfterDelete(child, childParent);
+    }
+
+    /**
+     * Restores the colours after removing a black node. The node received
+     * has a black node less in its paths than its sibling: either a red
+     * node is painted black, or the sibling is recoloured and the problem
+     * moves one level up, or up to three rotations solve it.
+     *
+     * @param node node with a black node less; can be null
+     * @param parent parent of the node
+     */
+    private void fixAfterDelete(NodeRB<E> node, NodeRB<E> parent) {
+        while (node != root && !isRed(node)) {
+            if (node == parent.leftChild) {
+                NodeRB<E> sibling = (NodeRB<E>) parent.rightChild;
+                if (isRed(sibling)) {
+                    sibling.red = false;
+                    parent.red = true;
+                    rotateLeft(parent);
+                    sibling = (NodeRB<E>) parent.rightChild;
+                }
+                if (!isRed(sibling.leftChild) && !isRed(sibling.rightChild)) {
+                    sibling.red = true;
+                    node = parent;
+                    parent = node.parent;
+                } else {
+                    if (!isRed(sibling.rightChild)) {
+                        ((NodeRB<E>) sibling.leftChild).red = false;
+                        sibling.red = true;
+                        rotateRight(sibling);
+                        sibling = (NodeRB<E>) parent.rightChild;
+                    }
+                    sibling.red = parent.red;
+                    parent.red = false;
+                    ((NodeRB<E>) sibling.rightChild).red = false;
+                    rotateLeft(parent);
+                    node = (NodeRB<E>) root;
+                }
+            } else {
+                NodeRB<E> sibling = (NodeRB<E>) parent.leftChild;
+                if (isRed(sibling)) {
+                    sibling.red = false;
+                    parent.red = true;
+                    rotateRight(parent);
+                    sibling = (NodeRB<E>) parent.leftChild;
+                }
+                if (!isRed(sibling.leftChild) && !isRed(sibling.rightChild)) {
+                    sibling.red = true;
+                    node = parent;
+                    parent = node.parent;
+                } else {
+                    if (!isRed(sibling.leftChild)) {
+                        ((NodeRB<E>) sibling.rightChild).red = false;
+                        sibling.red = true;
+                        rotateLeft(sibling);
+                        sibling = (NodeRB<E>) parent.leftChild;
+                    }
+                    sibling.red = parent.red;
+                    parent.red = false;
+                    ((NodeRB<E>) sibling.leftChild).red = false;
+                    rotateRight(parent);
+                    node = (NodeRB<E>) root;
+                }
+            }
+        }
+        if (node != null)
+            node.red = false;
+    }
+
+    /**
+     * Rotation to the left: the right child takes the place of the node,
+     * which becomes its left child.
+     * <PRE>
+     *       A                   B
+     *     /   \               /   \
+     *    T0    B     ---->   A    T2
+     *        /   \         /   \
+     *       T1   T2       T0   T1
+     * </PRE>
+     *
+     * @param node node A
+     */
+    private void rotateLeft(NodeRB<E> node) {
+        NodeRB<E> b = (NodeRB<E>) node.rightChild;
+        node.setRightChild(b.leftChild);
+        transplant(node, b);
+        b.setLeftChild(node);
+    }
+
+    /**
+     * Rotation to the right, symmetrical to the rotation to the left.
+     *
+     * @param node node A, whose left child takes its place
+     */
+    private void rotateRight(NodeRB<E> node) {
+        NodeRB<E> b = (NodeRB<E>) node.leftChild;
+        node.setLeftChild(b.rightChild);
+        transplant(node, b);
+        b.setRightChild(node);
+    }
+
+    /**
+     * Links a subtree in the place of a node, under its parent.
+     *
+     * @param node node that is replaced
+     * @param subTree new subtree; can be null
+     */
+    private void transplant(NodeRB<E> node, NodeRB<E> subTree) {
+        NodeRB<E> parent = node.parent;
+        if (parent == null) root = subTree;
+        else if (parent.leftChild == node) parent.leftChild = subTree;
+        else parent.rightChild = subTree;
+        if (subTree != null) subTree.parent = parent;
+    }
+
+    private static boolean isRed(NodeTree<?> node) {
+        return node != null && ((NodeRB<?>) node).red;
+    }
+
+
+    /**
+     * Class that extends NodeTree with the colour of the node and a link
+     * to its parent.
+     */
+    protected static class NodeRB<E> extends NodeTree<E> {
+        /**
+         * Attribute that determines compatibility between objects
+         * serializable of the same class. The detector is calculated
+         * using a method of the Utilities class.
+         */
+        private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+        /**
+         * Colour of the node. A new node is red.
+         */
+        protected boolean red = true;
+
+        /**
+         * Parent node; null in the root.
+         */
+        protected NodeRB<E> parent;
+
+        /**
+         * Constructor with a parameter. Assigns the received value to the
+         * item of the node, which is red and has no children.
+         *
+         * @param elem value of the element to go to the node
+         */
+        public NodeRB(E elem) {
+            super();
+            element = elem;
+        }
+
+        /**
+         * Getter for the colour
+         *
+         * @return true if the node is red; false if it is black
+         */
+        public boolean isRed() {
+            return red;
+        }
+
+        /**
+         * Getter for parent
+         *
+         * @return the parent node; null in the root
+         */
+        public NodeRB<E> getParent() {
+            return parent;
+        }
+
+        /**
+         * Setter for leftChild, which also links the child to this node.
+         *
+         * @param leftChild the new left child; can be null
+         */
+        @Override
+        public void setLeftChild(NodeTree<E> leftChild) {
+            this.leftChild = leftChild;
+            if (leftChild != null) ((NodeRB<E>) leftChild).parent = this;
+        }
+
+        /**
+         * Setter for rightChild, which also links the child to this node.
+         *
+         * @param rightChild the new right child; can be null
+         */
+        @Override
+        public void setRightChild(NodeTree<E> rightChild) {
+            this.rightChild = rightChild;
+            if (rightChild != null) ((NodeRB<E>) rightChild).parent = this;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import edu.uoc.ds.util.Utils;
+
+/**
+ * Class that implements a monotone priority queue by means of a radix
+ * heap.
+ * <p>
+ * The items are distributed in 65 buckets according to the highest bit
+ * in which their priority differs from the priority of the last item
+ * deleted (bucket 0 holds the items with the same priority). When bucket
+ * 0 is empty, the minimum of the first non-empty bucket becomes the last
+ * priority and the items of this bucket go to lower buckets. Every item
+ * can only move down, so the amortized cost of poll is O(log C), where C
+ * is the maximum difference between priorities, and add is O(1). The
+ * priorities are never compared with a comparator, only with the
+ * last priority.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+public class RadixHeap implements MonotoneQueue {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. It is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    private static final int BUCKETS = 65;
+
+    /**
+     * Priorities of the items of every bucket.
+     */
+    protected long[][] priorities;
+
+    /**
+     * Items of every bucket.
+     */
+    protected int[][] items;
+
+    /**
+     * Number of items of every bucket.
+     */
+    protected int[] sizes;
+
+    /**
+     * Priority of the last item deleted.
+     */
+    protected long last;
+
+    /**
+     * Number of items currently in the container.
+     */
+    protected int n;
+
+    /**
+     * Constructor without parameters. The priorities of the items must be
+     * non-negative.
+     */
+    public RadixHeap() {
+        this(0);
+    }
+
+    /**
+     * Constructor with a parameter.
+     *
+     * @param min lowest priority allowed
+     */
+    public RadixHeap(long min) {
+        priorities = new long[BUCKETS][];
+        items = new int[BUCKETS][];
+        for (int i = 0; i < BUCKETS; i++) {
+            priorities[i] = new long[4];
+            items[i] = new int[4];
+        }
+        sizes = new int[BUCKETS];
+        last = min;
+        n = 0;
+    }
+
+    /**
+     * Retrieves the number of items in the container.
+     *
+     * @return number of items it currently contains
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Method to check if the container is empty.
+     *
+     * @return true or false, depending on whether it is empty or not
+     */
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    /**
+     * Add an item to the queue, in O(1).
+     *
+     * @param item the item
+     * @param priority its priority
+     * @throws IllegalArgumentException if the priority is lower than the
+     * one of the last item deleted
+     */
+    public void add(int item, long priority) {
+        if (priority < last)
+            throw new IllegalArgumentException("priority lower than the last one deleted");
+        push(bucket(priority), item, priority);
+        n++;
+    }
+
+    /**
+     * Delete the first item (the one with the lowest priority).
+     *
+     * @return first item
+     * @throws EmptyContainerException if the queue is empty
+     * @pre! isEmpty(), EmptyContainerException
+     */
+    public int poll() {
+        if (isEmpty())
+            throw new EmptyContainerException();
+        if (sizes[0] == 0)
+            redistribute();
+        n--;
+        return items[0][--sizes[0]];
+    }
+
+    /**
+     * Retrieves the priority of the first item.
+     *
+     * @return lowest priority of the queue
+     * @throws EmptyContainerException if the queue is empty
+     * @pre! isEmpty(), EmptyContainerException
+     */
+    public long peekPriority() {
+        if (isEmpty())
+            throw new EmptyContainerException();
+        if (sizes[0] == 0)
+            redistribute();
+        return last;
+    }
+
+    /**
+     * Method overwriting Object.toString ().
+     *
+     * @return list of items with their priorities, by buckets
+     */
+    public String toString() {
+        StringBuilder buffer = new StringBuilder();
+        buffer.append("{RADIXHEAP:");
+        boolean first = true;
+        for (int b = 0; b < BUCKETS; b++) {
+            for (int i = 0; i < sizes[b]; i++) {
+                if (!first) buffer.append(',');
+                buffer.append(items[b][i]).append('=').append(priorities[b][i]);
+                first = false;
+            }
+        }
+        buffer.append("}");
+        return buffer.toString();
+    }
+
+
+    private int bucket(long priority) {
+        return (priority == last) ? 0 : 64 - Long.numberOfLeadingZeros(priority ^ last);
+    }
+
+    /**
+     * Empties the first non-empty bucket, taking its minimum priority
+     * as the last one.
+     */
+    private void redistribute() {
+        int b = 1;
+        while (sizes[b] == 0)
+            b++;
+        long[] p = priorities[b];
+        int[] it = items[b];
+        int size = sizes[b];
+        long min = p[0];
+        for (int i = 1; i < size; i++)
+            if (p[i] < min) min = p[i];
+        last = min;
+        sizes[b] = 0;
+        for (int i = 0; i < size; i++)
+            push(bucket(p[i]), it[i], p[i]);
+    }
+
+    private void push(int b, int item, long priority) {
+        int size = sizes[b];
+        if (size == items[b].length) {
+            items[b] = java.util.Arrays.copyOf(items[b], size * 2);
+            priorities[b] = java.util.Arrays.copyOf(priorities[b], size * 2);
+        }
+        items[b][size] = item;
+        priorities[b][size] = priority;
+        sizes[b] = size + 1;
+    }
+
+}
@@ -1,6 +1,7 @@
 package edu.uoc.ds.adt.nonlinear;
 
 import edu.uoc.ds.adt.sequential.AbstractSet;
+import edu.uoc.ds.exceptions.EmptyContainerException;
 import edu.uoc.ds.traversal.Iterator;
 import edu.uoc.ds.util.Utils;
 
@@ -84,6 +85,20 @@ public class SetAVLImpl<E> extends AbstractSet<E> {
         avl.add(elem);
     }
 
+    /**
+     * Adds the items of a sorted batch. A big batch is merged with the
+     * items of the set in O(n + m), and the tree is rebuilt perfectly
+     * balanced; if the set is empty, it is built in O(m).
+     *
+     * @param sorted iterator of items in ascending order
+     * @throws edu.uoc.ds.exceptions.IllegalArgumentException if the items
+     *         are not sorted
+     * @see AVLTree#addAll(Iterator)
+     */
+    public void addAll(Iterator<E> sorted) {
+        avl.addAll(sorted);
+    }
+
     /**
      * Check for an item.
      *
@@ -104,6 +119,150 @@ public class SetAVLImpl<E> extends AbstractSet<E> {
         return avl.delete(elem);
     }
 
+    /**
+     * Retrieves the lowest item.
+     *
+     * @return the first item
+     * @throws EmptyContainerException if the set is empty
+     * @pre !isEmpty(), EmptyContainerException
+     */
+    public E first() {
+        return avl.first();
+    }
+
+    /**
+     * Retrieves the greatest item.
+     *
+     * @return the last item
+     * @throws EmptyContainerException if the set is empty
+     * @pre !isEmpty(), EmptyContainerException
+     */
+    public E last() {
+        return avl.last();
+    }
+
+    /**
+     * Deletes the lowest item.
+     *
+     * @return the first item
+     * @throws EmptyContainerException if the set is empty
+     * @pre !isEmpty(), EmptyContainerException
+     */
+    public E pollFirst() {
+        return avl.pollFirst();
+    }
+
+    /**
+     * Retrieves the greatest item less than or equal to the given one.
+     *
+     * @param elem reference element
+     * @return the item; or null, if there is none
+     */
+    public E floor(E elem) {
+        return avl.floor(elem);
+    }
+
+    /**
+     * Retrieves the lowest item greater than or equal to the given one.
+     *
+     * @param elem reference element
+     * @return the item; or null, if there is none
+     */
+    public E ceiling(E elem) {
+        return avl.ceiling(elem);
+    }
+
+    /**
+     * Retrieves the greatest item strictly less than the given one.
+     *
+     * @param elem reference element
+     * @return the item; or null, if there is none
+     */
+    public E lower(E elem) {
+        return avl.lower(elem);
+    }
+
+    /**
+     * Retrieves the lowest item strictly greater than the given one.
+     *
+     * @param elem reference element
+     * @return the item; or null, if there is none
+     */
+    public E higher(E elem) {
+        return avl.higher(elem);
+    }
+
+    /**
+     * Retrieves the items in the range [from, to), in order, in O(log n)
+     * plus the number of items retrieved.
+     *
+     * @param from lowest item (included)
+     * @param to highest item (excluded)
+     * @return enumeration of the items
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<E> range(E from, E to) {
+        return avl.range(from, true, to, false);
+    }
+
+    /**
+     * Retrieves the items strictly less than a given one, in order.
+     *
+     * @param to highest item (excluded)
+     * @return enumeration of the items
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<E> headSet(E to) {
+        return avl.range(null, false, to, false);
+    }
+
+    /**
+     * Retrieves the items greater than or equal to a given one, in order.
+     *
+     * @param from lowest item (included)
+     * @return enumeration of the items
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<E> tailSet(E from) {
+        return avl.range(from, true, null, false);
+    }
+
+    /**
+     * Retrieves the k-th item, in order, starting from zero, in O(log n).
+     *
+     * @param k index of the item
+     * @return the item whose rank is k
+     * @throws IllegalArgumentException if k is not between 0 and size() - 1
+     */
+    public E select(int k) {
+        return avl.select(k);
+    }
+
+    /**
+     * Retrieves the number of items strictly less than a given one, in
+     * O(log n).
+     *
+     * @param elem reference element
+     * @return the rank of the item
+     */
+    public int rank(E elem) {
+        return avl.rank(elem);
+    }
+
+    /**
+     * Retrieves the number of items in the range [lo, hi), in O(log n).
+     *
+     * @param lo lowest item (included)
+     * @param hi highest item (excluded)
+     * @return number of items within the range
+     */
+    public int countRange(E lo, E hi) {
+        return avl.countRange(lo, hi);
+    }
+
     /**
      * Retrieves the items in the container.
      * Returns an enumeration. You can get a list with a couple of
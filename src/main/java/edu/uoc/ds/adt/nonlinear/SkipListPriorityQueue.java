@@ -0,0 +1,231 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.sequential.Queue;
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.exceptions.InvalidPositionException;
+import edu.uoc.ds.traversal.Iterator;
+import edu.uoc.ds.util.Utils;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Class that implements a concurrent priority queue by means of a
+ * lock-free skip list, which keeps the items sorted by priority.
+ * <p>
+ * Unlike MultiQueue, the order is exact: poll deletes the first item of
+ * the list that is not deleted yet. If no other thread is adding items,
+ * it is the item with the highest priority; an item that is being added
+ * at the same time may be overtaken by items with lower priority (the
+ * queue is quiescently consistent). Items with the same priority leave
+ * the queue in the order in which they were added.
+ * <p>
+ * No operation blocks: add costs O(log n) expected, and poll O(log n)
+ * expected, but all the threads that poll compete for the first item of
+ * the list, so it scales worse than MultiQueue when many threads poll.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+public class SkipListPriorityQueue<E> implements Queue<E> {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. It is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * The skip list; the keys are the items together with their order
+     * of arrival.
+     */
+    private final ConcurrentSkipList<Entry<E>, Boolean> list;
+
+    /**
+     * Counter of the items added, which breaks the ties between items with
+     * the same priority.
+     */
+    private final AtomicLong sequence;
+
+    /**
+     * Specific comparator that allows to deduce the priority between the
+     * elements. It can have a null value and then the interface is used
+     * java.lang.Comparable
+     */
+    protected final Comparator<E> comparator;
+
+    /**
+     * Constructor without parameters and elements of a class that
+     * implements java.lang.Comparable.
+     */
+    public SkipListPriorityQueue() {
+        this(null);
+    }
+
+    /**
+     * Constructor with a parameter and items of a class comparable to
+     * the given comparator.
+     *
+     * @param comparator comparator that allows you to deduce the priority
+     */
+    public SkipListPriorityQueue(Comparator<E> comparator) {
+        this.comparator = comparator;
+        sequence = new AtomicLong();
+        list = new ConcurrentSkipList<>((e1, e2) -> {
+            int c = compare(e1.elem, e2.elem);
+            return (c != 0) ? c : Long.compare(e1.seq, e2.seq);
+        });
+    }
+
+    /**
+     * Retrieves the number of items in the container. It is exact only if
+     * no other thread is changing the queue.
+     *
+     * @return number of items it currently contains
+     */
+    public int size() {
+        return list.size();
+    }
+
+    /**
+     * Method to check if the container is empty.
+     *
+     * @return true or false, depending on whether it is empty or not
+     */
+    public boolean isEmpty() {
+        return list.first() == null;
+    }
+
+    /**
+     * Add an item to the queue.
+     *
+     * @param elem comparable item to add to queue
+     */
+    public void add(E elem) {
+        list.insert(new Entry<>(elem, sequence.getAndIncrement()), Boolean.TRUE);
+    }
+
+    /**
+     * Delete the first item, if any. Since other threads can empty the
+     * queue between a call to isEmpty and a call to poll, concurrent
+     * callers should use tryPoll.
+     *
+     * @return first item, which is the lowest priority
+     * @throws EmptyContainerException if the queue is empty
+     * @pre! isEmpty(), EmptyContainerException
+     */
+    public E poll() {
+        ConcurrentSkipList.Node<Entry<E>, Boolean> node = list.pollFirst();
+        if (node == null)
+            throw new EmptyContainerException();
+        return node.key.elem;
+    }
+
+    /**
+     * Delete the first item, if any.
+     *
+     * @return first item, or null if the queue is empty
+     */
+    public E tryPoll() {
+        ConcurrentSkipList.Node<Entry<E>, Boolean> node = list.pollFirst();
+        return (node == null) ? null : node.key.elem;
+    }
+
+    /**
+     * Retrieves the first item, if any.
+     *
+     * @return first item, which is the lowest priority
+     * @throws EmptyContainerException if the queue is empty
+     * @pre! isEmpty(), EmptyContainerException
+     */
+    public E peek() {
+        ConcurrentSkipList.Node<Entry<E>, Boolean> node = list.first();
+        if (node == null)
+            throw new EmptyContainerException();
+        return node.key.elem;
+    }
+
+    /**
+     * Retrieves the items in the container, in order of priority. The
+     * iteration does not block the other threads: it returns the items that
+     * are in the queue when it reaches their place.
+     *
+     * @return enumeration of the items
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<E> values() {
+        return new Iterator<>() {
+            private ConcurrentSkipList.Node<Entry<E>, Boolean> next = list.first();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public E next() throws InvalidPositionException {
+                if (next == null) throw new InvalidPositionException();
+                E elem = next.key.elem;
+                next = list.next(next);
+                return elem;
+            }
+        };
+    }
+
+    /**
+     * Method overwriting Object.toString ().
+     *
+     * @return list of items in order of priority
+     */
+    public String toString() {
+        StringBuilder buffer = new StringBuilder();
+        buffer.append("{PRIORITYQUEUE:");
+        for (Iterator<E> it = values(); it.hasNext(); ) {
+            buffer.append(it.next());
+            if (it.hasNext()) buffer.append(',');
+        }
+        buffer.append("}");
+        return buffer.toString();
+    }
+
+
+    /**
+     * Protected method that compares two items. If the constructor has not
+     * defined a comparator, java.lang.Comparable is used to deduce the
+     * priority between both elements.
+     *
+     * @param elem1 first item
+     * @param elem2 second item
+     * @return a negative, zero, or positive integer, depending on whether the
+     * first item has less, equal or more priority than the second one
+     */
+    protected int compare(E elem1, E elem2) {
+        if (comparator == null)
+            return ((Comparable<E>) elem1).compareTo(elem2);
+        return comparator.compare(elem1, elem2);
+    }
+
+
+    /**
+     * Item together with its order of arrival.
+     */
+    private static class Entry<E> implements Serializable {
+        private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+        private final E elem;
+        private final long seq;
+
+        private Entry(E elem, long seq) {
+            this.elem = elem;
+            this.seq = seq;
+        }
+    }
+
+}
@@ -0,0 +1,238 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import edu.uoc.ds.exceptions.NonComparableException;
+import edu.uoc.ds.util.Utils;
+
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Class that implements a splay tree: a binary search tree that is not
+ * balanced, but moves every item that is searched, added or deleted to
+ * the root (splaying), by means of rotations along its path.
+ * <p>
+ * A single operation can cost O(n), but any sequence of m operations
+ * costs O(m log n), and the items that are used often stay close to the
+ * root. When the accesses are skewed (a few items receive most of them),
+ * a splay tree visits fewer nodes than a balanced tree, whose depth is
+ * the same for all the items.
+ * <p>
+ * The splaying is top-down: the tree is split into the items less and
+ * greater than the searched one while going down, so no parent links are
+ * needed. Searches change the shape of the tree, so a splay tree cannot
+ * be shared by several threads even if they only read it.
+ * <p>
+ * Element classes are expected to implement java.lang.Comparable
+ * or that a java.util.Comparator is provided as a parameter of the
+ * builder.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+public class SplayTree<E> extends BinarySearchTreeLinked<E> {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. The detector is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * Constructor without parameters.
+     */
+    public SplayTree() {
+        super();
+    }
+
+    /**
+     * Constructor with a parameter.
+     *
+     * @param comparator comparator that allows you to deduce the priority
+     * @throws IllegalArgumentException if the comparator is null
+     */
+    public SplayTree(java.util.Comparator<E> comparator) {
+        super(comparator);
+    }
+
+    /**
+     * Add an item, which becomes the root. If the item was already
+     * there, according to the comparator, it is overwritten.
+     *
+     * @param elemComp comparable item to add to the tree
+     * @throws NonComparableException if item is not comparable
+     */
+    @Override
+    public void add(E elemComp) {
+        if (root == null) {
+            root = newNode(null, elemComp);
+            n++;
+            return;
+        }
+        int comp = splay(elemComp, this::compare);
+        if (comp == 0) {
+            root.element = elemComp;
+            return;
+        }
+        NodeTree<E> node = newNode(null, elemComp);
+        if (comp < 0) {
+            node.leftChild = root.leftChild;
+            node.rightChild = root;
+            root.leftChild = null;
+        } else {
+            node.rightChild = root.rightChild;
+            node.leftChild = root;
+            root.rightChild = null;
+        }
+        root = node;
+        n++;
+    }
+
+    /**
+     * Retrieves an element of the tree, which becomes the root. If you
+     * can't find it, using the comparator, returns null.
+     *
+     * @param elemComp comparable item to consult
+     * @return the interested item; or null, if it was not there
+     * @throws NonComparableException if item is not comparable
+     */
+    @Override
+    public E get(E elemComp) {
+        return getByKey(elemComp, this::compare);
+    }
+
+    /**
+     * Delete the item, if it is found according to the comparator.
+     *
+     * @param elemComp comparable item to delete from tree
+     * @return the deleted item; or null, if it was not there
+     * @throws NonComparableException if item is not comparable
+     */
+    @Override
+    public E delete(E elemComp) {
+        return deleteByKey(elemComp, this::compare);
+    }
+
+    /**
+     * Delete the item that corresponds to a key, if it is found. The item
+     * is splayed to the root, and then the greatest item of its left
+     * subtree takes its place.
+     *
+     * @param key the key
+     * @param comparison function that compares a key with an item, in the
+     *                   same order as the comparator of the tree
+     * @return the deleted item; or null, if it was not there
+     */
+    @Override
+    public <K> E deleteByKey(K key, ToIntBiFunction<K, E> comparison) {
+        if (root == null || splay(key, comparison) != 0)
+            return null;
+        E deleted = root.element;
+        NodeTree<E> right = root.rightChild;
+        root = root.leftChild;
+        if (root == null)
+            root = right;
+        else {
+            // every item on the left is less than the key: the greatest one goes up
+            splay(key, comparison);
+            root.rightChild = right;
+        }
+        n--;
+        return deleted;
+    }
+
+    /**
+     * Searches the node of the item that corresponds to a key, and
+     * splays it to the root.
+     *
+     * @param key the key
+     * @param comparison function that compares a key with an item
+     * @return the node; or null, if it was not there
+     */
+    @Override
+    protected <K> NodeTree<E> seekByKey(K key, ToIntBiFunction<K, E> comparison) {
+        if (root == null || splay(key, comparison) != 0)
+            return null;
+        return root;
+    }
+
+
+    /**
+     * Top-down splaying: moves to the root the node of a key or, if it is
+     * not in the tree, the last node of its search path. While going
+     * down, the nodes less than the key are linked to a left tree and the
+     * greater ones to a right tree; a zig-zig case rotates first, so the
+     * path is roughly halved. At the end, both trees become the children
+     * of the new root. The tree must not be empty.
+     *
+     * @param key the key
+     * @param comparison function that compares a key with an item
+     * @return comparison of the key with the item of the new root
+     */
+    private <K> int splay(K key, ToIntBiFunction<K, E> comparison) {
+        NodeTree<E> header = new NodeTree<>();
+        NodeTree<E> left = header;
+        NodeTree<E> right = header;
+        NodeTree<E> node = root;
+        int comp = comparison.applyAsInt(key, node.element);
+        while (comp != 0) {
+            if (comp < 0) {
+                NodeTree<E> child = node.leftChild;
+                if (child == null)
+                    break;
+                int childComp = comparison.applyAsInt(key, child.element);
+                if (childComp < 0) {
+                    // zig-zig: rotation to the right
+                    node.leftChild = child.rightChild;
+                    child.rightChild = node;
+                    node = child;
+                    comp = childComp;
+                    if (node.leftChild == null)
+                        break;
+                    right.leftChild = node;
+                    right = node;
+                    node = node.leftChild;
+                    comp = comparison.applyAsInt(key, node.element);
+                } else {
+                    right.leftChild = node;
+                    right = node;
+                    node = child;
+                    comp = childComp;
+                }
+            } else {
+                NodeTree<E> child = node.rightChild;
+                if (child == null)
+                    break;
+                int childComp = comparison.applyAsInt(key, child.element);
+                if (childComp > 0) {
+                    // zag-zag: rotation to the left
+                    node.rightChild = child.leftChild;
+                    child.leftChild = node;
+                    node = child;
+                    comp = childComp;
+                    if (node.rightChild == null)
+                        break;
+                    left.rightChild = node;
+                    left = node;
+                    node = node.rightChild;
+                    comp = comparison.applyAsInt(key, node.element);
+                } else {
+                    left.rightChild = node;
+                    left = node;
+                    node = child;
+                    comp = childComp;
+                }
+            }
+        }
+        left.rightChild = node.leftChild;
+        right.leftChild = node.rightChild;
+        node.leftChild = header.rightChild;
+        node.rightChild = header.leftChild;
+        root = node;
+        return comp;
+    }
+}
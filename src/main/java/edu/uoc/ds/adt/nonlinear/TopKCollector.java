@@ -0,0 +1,256 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.sequential.Container;
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import edu.uoc.ds.traversal.Iterator;
+import edu.uoc.ds.traversal.IteratorArrayImpl;
+import edu.uoc.ds.util.Utils;
+
+import java.util.Comparator;
+import java.util.function.IntFunction;
+
+/**
+ * Class that keeps the K items with the highest priority of a stream,
+ * with O(K) memory.
+ * <p>
+ * As in the priority queues of the library, an item has higher priority
+ * when it is smaller according to the comparator (or to
+ * java.lang.Comparable). The items kept are in a heap ordered the other
+ * way round, so its root is the worst of them: when the collector is
+ * full, an item that is not better than the root is rejected with a
+ * single comparison, and otherwise it replaces the root in O(log K).
+ * Collecting n items costs O(n log K) in the worst case and O(n) when
+ * most of them are rejected.
+ * <p>
+ * Several collectors (for example, one per thread) can be merged, and
+ * values returns the items sorted from the best one.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+public class TopKCollector<E> implements Container<E> {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. It is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * Maximum number of items kept.
+     */
+    protected final int k;
+
+    /**
+     * Heap with the items kept; the first one is the worst.
+     */
+    protected final PriorityQueueArrayImpl<E> heap;
+
+    /**
+     * Specific comparator that allows to deduce the priority between the
+     * elements. It can have a null value and then the interface is used
+     * java.lang.Comparable
+     */
+    protected final Comparator<E> comparator;
+
+    /**
+     * Constructor with a parameter and elements of a class that
+     * implements java.lang.Comparable.
+     *
+     * @param k number of items to keep
+     * @throws IllegalArgumentException if k is less than one
+     */
+    public TopKCollector(int k) {
+        this(k, null);
+    }
+
+    /**
+     * Constructor with two parameters and items of a class comparable to
+     * the given comparator.
+     *
+     * @param k number of items to keep
+     * @param comparator comparator that allows you to deduce the priority;
+     *                   can be null
+     * @throws IllegalArgumentException if k is less than one
+     * @pre k >= 1, IllegalArgumentException
+     */
+    public TopKCollector(int k, Comparator<E> comparator) {
+        if (k < 1)
+            throw new IllegalArgumentException("k must be at least 1");
+        this.k = k;
+        this.comparator = comparator;
+        heap = new PriorityQueueArrayImpl<>(k, (e1, e2) -> compare(e2, e1));
+    }
+
+    /**
+     * Getter of the maximum number of items kept.
+     *
+     * @return k
+     */
+    public int k() {
+        return k;
+    }
+
+    /**
+     * Retrieves the number of items in the container.
+     *
+     * @return number of items it currently contains
+     */
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * Method to check if the container is empty.
+     *
+     * @return true or false, depending on whether it is empty or not
+     */
+    public boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
+    /**
+     * Method to check if the collector already has k items, so that new
+     * items have to be better than the threshold to be kept.
+     *
+     * @return true if it is full
+     */
+    public boolean isFull() {
+        return heap.size() == k;
+    }
+
+    /**
+     * Retrieves the worst of the items kept, which is the one that a new
+     * item has to improve when the collector is full.
+     *
+     * @return worst item kept
+     * @throws edu.uoc.ds.exceptions.EmptyContainerException if the collector is empty
+     */
+    public E threshold() {
+        return heap.peek();
+    }
+
+    /**
+     * Offers an item to the collector.
+     *
+     * @param elem item
+     * @return true if the item is kept (for now)
+     */
+    public boolean add(E elem) {
+        if (heap.size() < k) {
+            heap.add(elem);
+            return true;
+        }
+        if (compare(elem, heap.peek()) >= 0)
+            return false;
+        heap.replaceFirst(elem);
+        return true;
+    }
+
+    /**
+     * Offers all the items of an iterator to the collector.
+     *
+     * @param it iterator of items
+     */
+    public void addAll(Iterator<E> it) {
+        while (it.hasNext())
+            add(it.next());
+    }
+
+    /**
+     * Adds the items kept by another collector, which is not modified.
+     * The result is the top K of the union of both streams, as long as
+     * the other collector had, at least, the same k.
+     *
+     * @param other collector with the same comparator
+     */
+    public void merge(TopKCollector<E> other) {
+        E[] items = other.heap.elems;
+        for (int i = 0, n = other.heap.size(); i < n; i++)
+            add(items[i]);
+    }
+
+    /**
+     * Deletes all the items.
+     */
+    public void clear() {
+        while (!heap.isEmpty())
+            heap.poll();
+    }
+
+    /**
+     * Retrieves the items kept, sorted from the best one, without altering
+     * the current state of the container.
+     *
+     * @return enumeration of the items
+     * @see Iterator#hasNext()
+     * @see Iterator#next()
+     */
+    public Iterator<E> values() {
+        E[] sorted = sort((E[]) new Object[heap.size()]);
+        return new IteratorArrayImpl<>(sorted, sorted.length, 0);
+    }
+
+    /**
+     * Retrieves the items kept, sorted from the best one, in a new vector.
+     *
+     * @param generator function that creates a vector of the type of the
+     *                  items with a given length; for example, Integer[]::new
+     * @return the items
+     */
+    public E[] toArray(IntFunction<E[]> generator) {
+        return sort(generator.apply(heap.size()));
+    }
+
+    /**
+     * Fills a vector with the items kept, sorted from the best one.
+     *
+     * @param sorted vector with the length of the number of items
+     * @return the same vector
+     */
+    private E[] sort(E[] sorted) {
+        PriorityQueueArrayImpl<E> aux = heap.clone();
+        for (int i = sorted.length - 1; i >= 0; i--)
+            sorted[i] = aux.poll();
+        return sorted;
+    }
+
+    /**
+     * Method overwriting Object.toString ().
+     *
+     * @return list of items, from the best one
+     */
+    public String toString() {
+        StringBuilder buffer = new StringBuilder();
+        buffer.append("{TOPK:");
+        for (Iterator<E> it = values(); it.hasNext(); ) {
+            buffer.append(it.next());
+            if (it.hasNext()) buffer.append(',');
+        }
+        buffer.append("}");
+        return buffer.toString();
+    }
+
+
+    /**
+     * Protected method that compares two items. If the constructor has not
+     * defined a comparator, java.lang.Comparable is used to deduce the
+     * priority between both elements.
+     *
+     * @param elem1 first item
+     * @param elem2 second item
+     * @return a negative, zero, or positive integer, depending on whether the
+     * first item has less, equal or more priority than the second one
+     */
+    protected int compare(E elem1, E elem2) {
+        if (comparator == null)
+            return ((Comparable<E>) elem1).compareTo(elem2);
+        return comparator.compare(elem1, elem2);
+    }
+
+}
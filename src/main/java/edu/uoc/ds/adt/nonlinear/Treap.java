@@ -0,0 +1,368 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.Position;
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import edu.uoc.ds.exceptions.NonComparableException;
+import edu.uoc.ds.util.Utils;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Class that implements a treap: a binary search tree whose nodes also
+ * have a random priority, and are ordered as a heap by priority (a node
+ * has more priority than its children). Its shape is the one of a binary
+ * search tree where the items have been added in random order, so its
+ * expected height is O(log n) whatever the order of the operations.
+ * <p>
+ * Besides adding and deleting items, a treap can be split by an item, in
+ * O(log n) expected, into the items less than it and the rest; and two
+ * treaps can be joined, also in O(log n) expected, if all the items of
+ * the second one are greater than those of the first one. Therefore, all
+ * the items of a range can be moved from a treap to another one without
+ * traversing them.
+ * <p>
+ * Every node keeps the size of its subtree, so size() is O(1).
+ * <p>
+ * Element classes are expected to implement java.lang.Comparable
+ * or that a java.util.Comparator is provided as a parameter of the
+ * builder.
+ *
+ * @author Jordi Àlvarez Canal
+ * @author Esteve Mariné Gallisà
+ * <p>
+ * Data Structures
+ * Universitat Oberta de Catalunya (UOC)
+ * @version 2.1.0
+ */
+public class Treap<E> extends BinarySearchTreeLinked<E> {
+    /**
+     * Attribute that determines compatibility between objects
+     * serializable of the same class. The detector is calculated
+     * using a method of the Utilities class.
+     */
+    private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+    /**
+     * Constructor without parameters.
+     */
+    public Treap() {
+        super();
+    }
+
+    /**
+     * Constructor with a parameter.
+     *
+     * @param comparator comparator that allows you to deduce the priority
+     * @throws IllegalArgumentException if the comparator is null
+     */
+    public Treap(java.util.Comparator<E> comparator) {
+        super(comparator);
+    }
+
+    /**
+     * Retrieves the number of items in the container, in O(1).
+     *
+     * @return number of items it currently contains
+     */
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Retrieves the number of items of the subtree of a position, in
+     * O(1), from the size kept by its node.
+     *
+     * @param node reference position
+     * @return number of items of the subtree
+     */
+    @Override
+    public int size(Position<E> node) {
+        return sizeOf((NodeTree<E>) node);
+    }
+
+    /**
+     * Add an item to the appropriate position. If the item was already
+     * there, according to the comparator, it is overwritten.
+     *
+     * @param elemComp comparable item to add to the tree
+     * @throws NonComparableException if item is not comparable
+     */
+    @Override
+    public void add(E elemComp) {
+        NodeTree<E> node = seekByKey(elemComp, this::compare);
+        if (node != null)
+            node.element = elemComp;
+        else {
+            root = insert((NodeTreap<E>) root, (NodeTreap<E>) newNode(null, elemComp));
+            n++;
+        }
+    }
+
+    /**
+     * Retrieves an element of the tree. If you can't find it, using
+     * the comparator, returns null.
+     *
+     * @param elemComp comparable item to consult
+     * @return the interested item; or null, if it was not there
+     * @throws NonComparableException if item is not comparable
+     */
+    @Override
+    public E get(E elemComp) {
+        return getByKey(elemComp, this::compare);
+    }
+
+    /**
+     * Delete the item, if it is found according to the comparator.
+     *
+     * @param elemComp comparable item to delete from tree
+     * @return the deleted item; or null, if it was not there
+     * @throws NonComparableException if item is not comparable
+     */
+    @Override
+    public E delete(E elemComp) {
+        return deleteByKey(elemComp, this::compare);
+    }
+
+    /**
+     * Delete the item that corresponds to a key, if it is found. Its
+     * node is replaced by the join of its subtrees.
+     *
+     * @param key the key
+     * @param comparison function that compares a key with an item, in the
+     *                   same order as the comparator of the tree
+     * @return the deleted item; or null, if it was not there
+     */
+    @Override
+    public <K> E deleteByKey(K key, ToIntBiFunction<K, E> comparison) {
+        NodeTree<E> node = seekByKey(key, comparison);
+        if (node == null)
+            return null;
+        root = delete((NodeTreap<E>) root, key, comparison);
+        n--;
+        return node.element;
+    }
+
+    /**
+     * Moves the items greater than or equal to a given one to a new
+     * treap, in O(log n) expected. This treap keeps the items less than
+     * the given one.
+     *
+     * @param elemComp comparable item of reference
+     * @return a treap, with the same comparator, with the items greater
+     * than or equal to the given one
+     * @throws NonComparableException if item is not comparable
+     */
+    public Treap<E> split(E elemComp) {
+        return split(elemComp, this::compare);
+    }
+
+    /**
+     * Moves the items greater than or equal to a key to a new treap, in
+     * O(log n) expected. This treap keeps the items less than the key.
+     *
+     * @param key the key
+     * @param comparison function that compares a key with an item, in the
+     *                   same order as the comparator of the tree
+     * @return a treap, with the same comparator, with the items greater
+     * than or equal to the key
+     */
+    public <K> Treap<E> split(K key, ToIntBiFunction<K, E> comparison) {
+        NodeTreap<E>[] parts = new NodeTreap[2];
+        split((NodeTreap<E>) root, key, comparison, parts);
+        root = parts[0];
+        Treap<E> greater = new Treap<>(comparator);
+        greater.root = parts[1];
+        greater.n = sizeOf(parts[1]);
+        n -= greater.n;
+        return greater;
+    }
+
+    /**
+     * Moves all the items of a treap to the end of this one, in
+     * O(log n) expected. The other treap becomes empty.
+     *
+     * @param greater treap whose items are all greater than the ones of
+     *                this treap
+     * @throws IllegalArgumentException if an item of the other treap is not
+     * greater than all the items of this one
+     */
+    public void join(Treap<E> greater) {
+        if (greater == this)
+            throw new IllegalArgumentException("a treap cannot be joined to itself");
+        if (root != null && greater.root != null && compare(last(), greater.first()) >= 0)
+            throw new IllegalArgumentException("items not sorted");
+        root = merge((NodeTreap<E>) root, (NodeTreap<E>) greater.root);
+        n += greater.n;
+        greater.root = null;
+        greater.n = 0;
+    }
+
+    /**
+     * Overrides the superclass method to create nodes with a random
+     * priority.
+     *
+     * @param parent parent of the new node
+     * @param elemComp comparable element to be saved to the node
+     * @return new leaf node
+     */
+    @Override
+    protected NodeTree<E> newNode(Position<E> parent, E elemComp) {
+        return new NodeTreap<>(elemComp, ThreadLocalRandom.current().nextInt());
+    }
+
+
+    /**
+     * Adds a new node to a subtree: it goes down while the nodes have
+     * more priority, and then the rest of the subtree is split by its item.
+     *
+     * @return the new root of the subtree
+     */
+    private NodeTreap<E> insert(NodeTreap<E> node, NodeTreap<E> added) {
+        if (node == null)
+            return added;
+        if (added.priority > node.priority) {
+            NodeTreap<E>[] parts = new NodeTreap[2];
+            split(node, added.element, this::compare, parts);
+            added.leftChild = parts[0];
+            added.rightChild = parts[1];
+            added.update();
+            return added;
+        }
+        if (compare(added.element, node.element) < 0)
+            node.leftChild = insert((NodeTreap<E>) node.leftChild, added);
+        else
+            node.rightChild = insert((NodeTreap<E>) node.rightChild, added);
+        node.update();
+        return node;
+    }
+
+    /**
+     * Deletes the node of a key, which must be in the subtree.
+     *
+     * @return the new root of the subtree
+     */
+    private <K> NodeTreap<E> delete(NodeTreap<E> node, K key, ToIntBiFunction<K, E> comparison) {
+        int comp = comparison.applyAsInt(key, node.element);
+        if (comp == 0)
+            return merge((NodeTreap<E>) node.leftChild, (NodeTreap<E>) node.rightChild);
+        if (comp < 0)
+            node.leftChild = delete((NodeTreap<E>) node.leftChild, key, comparison);
+        else
+            node.rightChild = delete((NodeTreap<E>) node.rightChild, key, comparison);
+        node.update();
+        return node;
+    }
+
+    /**
+     * Splits a subtree into the items less than a key (parts[0]) and the
+     * rest (parts[1]), following the search path of the key.
+     */
+    private static <K, E> void split(NodeTreap<E> node, K key, ToIntBiFunction<K, E> comparison,
+                                     NodeTreap<E>[] parts) {
+        if (node == null) {
+            parts[0] = null;
+            parts[1] = null;
+        } else if (comparison.applyAsInt(key, node.element) > 0) {
+            split((NodeTreap<E>) node.rightChild, key, comparison, parts);
+            node.rightChild = parts[0];
+            node.update();
+            parts[0] = node;
+        } else {
+            split((NodeTreap<E>) node.leftChild, key, comparison, parts);
+            node.leftChild = parts[1];
+            node.update();
+            parts[1] = node;
+        }
+    }
+
+    /**
+     * Joins two subtrees, all of whose items of the first one are less
+     * than those of the second one, along the right border of the first
+     * one and the left border of the second one.
+     *
+     * @return the root of the joined subtree
+     */
+    private static <E> NodeTreap<E> merge(NodeTreap<E> less, NodeTreap<E> greater) {
+        if (less == null)
+            return greater;
+        if (greater == null)
+            return less;
+        if (less.priority > greater.priority) {
+            less.rightChild = merge((NodeTreap<E>) less.rightChild, greater);
+            less.update();
+            return less;
+        }
+        greater.leftChild = merge(less, (NodeTreap<E>) greater.leftChild);
+        greater.update();
+        return greater;
+    }
+
+    private static int sizeOf(NodeTree<?> node) {
+        return (node == null) ? 0 : ((NodeTreap<?>) node).size;
+    }
+
+
+    /**
+     * Class that extends NodeTree with a priority and the size of its
+     * subtree.
+     */
+    protected static class NodeTreap<E> extends NodeTree<E> {
+        /**
+         * Attribute that determines compatibility between objects
+         * serializable of the same class. The detector is calculated
+         * using a method of the Utilities class.
+         */
+        private static final long serialVersionUID = Utils.getSerialVersionUID();
+
+
+        /**
+         * Random priority of the node.
+         */
+        protected final int priority;
+
+        /**
+         * Number of nodes of the subtree.
+         */
+        protected int size = 1;
+
+        /**
+         * Constructor with two parameters.
+         *
+         * @param elem value of the element to go to the node
+         * @param priority priority of the node
+         */
+        public NodeTreap(E elem, int priority) {
+            super(elem);
+            this.priority = priority;
+        }
+
+        /**
+         * Getter for priority
+         *
+         * @return the priority of the node
+         */
+        public int getPriority() {
+            return priority;
+        }
+
+        /**
+         * Getter for size
+         *
+         * @return the number of nodes of the subtree
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Method that updates the size of the node from the ones of its
+         * children.
+         */
+        public void update() {
+            size = 1 + sizeOf(leftChild) + sizeOf(rightChild);
+        }
+    }
+}
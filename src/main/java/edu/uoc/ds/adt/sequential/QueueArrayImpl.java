@@ -115,6 +115,24 @@ public class QueueArrayImpl<E> implements Queue<E>, FiniteContainer<E> {
         return (n == elems.length);
     }
 
+    /**
+     * Increases the capacity of the queue. The items are kept in the
+     * same order, and the first one is moved to the beginning of the
+     * array.
+     *
+     * @param capacity new capacity; if it is not greater than the current
+     *                 one, nothing changes
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > elems.length) {
+            E[] aux = (E[]) new Object[capacity];
+            for (int i = 0, pos = first; i < n; i++, pos = next(pos))
+                aux[i] = elems[pos];
+            elems = aux;
+            first = 0;
+        }
+    }
+
     /**
      * Add an item to the queue
      *
@@ -98,6 +98,18 @@ public class StackArrayImpl<E> implements Stack<E>, FiniteContainer<E> {
         return (n == elems.length);
     }
 
+    /**
+     * Increases the capacity of the stack. The items are kept in the
+     * same order.
+     *
+     * @param capacity new capacity; if it is not greater than the current
+     *                 one, nothing changes
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > elems.length)
+            elems = java.util.Arrays.copyOf(elems, capacity);
+    }
+
     /**
      * Add an item to the stack, if any.
      *
@@ -27,9 +27,7 @@ public class HeapSort<E> implements SortingAlgorithm<E> {
     }
 
     public void sort(E[] vector, int n) {
-        PriorityQueue<E> c = new PriorityQueue<>(vector.length);
-        for (int i = 0; i < n; i++)
-            c.add(vector[i]);
+        PriorityQueue<E> c = new PriorityQueue<>(vector, n, null);
         for (int i = 0; i < n; i++)
             vector[i] = c.poll();
     }
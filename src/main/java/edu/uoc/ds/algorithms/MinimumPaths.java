@@ -2,12 +2,38 @@ package edu.uoc.ds.algorithms;
 
 
 import edu.uoc.ds.adt.helpers.KeyValue;
+import edu.uoc.ds.adt.nonlinear.BucketQueue;
+import edu.uoc.ds.adt.nonlinear.DoubleIntHeap;
+import edu.uoc.ds.adt.nonlinear.HashTable;
+import edu.uoc.ds.adt.nonlinear.MonotoneQueue;
+import edu.uoc.ds.adt.nonlinear.RadixHeap;
+import edu.uoc.ds.adt.nonlinear.graphs.DirectedEdge;
 import edu.uoc.ds.adt.nonlinear.graphs.DirectedGraph;
 import edu.uoc.ds.adt.nonlinear.graphs.Edge;
 import edu.uoc.ds.adt.nonlinear.graphs.Vertex;
 import edu.uoc.ds.traversal.Iterator;
 
+import java.util.Arrays;
+
 /**
+ * Dijkstra's algorithm: minimum distance from a vertex to all the
+ * vertexs of a directed graph whose labels are non-negative numbers.
+ * <p>
+ * The vertexs are numbered in the order of graph.vertexs(), and the
+ * distances are kept in a vector of doubles. The vertexs that have been
+ * reached but whose distance is not final yet are in a DoubleIntHeap, so
+ * every step takes the closest one in O(log V) and only its outgoing
+ * edges are examined. The total cost is O((V + E) log V), and no
+ * priority is boxed.
+ * <p>
+ * When all the labels are non-negative integers (Integer, Long, Short or
+ * Byte) the distances are integers too, and they are calculated with a
+ * monotone queue that does not compare priorities: a BucketQueue (Dial's
+ * algorithm) if the maximum label is at most MAX_BUCKETS, and a RadixHeap
+ * otherwise. This is done only if the longest possible path, the maximum
+ * label times V - 1, is less than Long.MAX_VALUE; if not, the distances
+ * are calculated as doubles.
+ *
  * @author Jordi Àlvarez Canal
  * @author Esteve Mariné Gallisà
  * <p>
@@ -17,110 +43,137 @@ import edu.uoc.ds.traversal.Iterator;
  */
 public class MinimumPaths<E, L extends Number> {
 
-
-    protected static class VCM<E> {
-        private Vertex<E> vertex;
-        private double distance;
-        private boolean isMinimunDistance;
-
-        public VCM(Vertex<E> vertex, double d) {
-            this.vertex = vertex;
-            this.distance = d;
-            this.isMinimunDistance = false;
-        }
-
-        public void hasMinimunDistance() {
-            isMinimunDistance = true;
-        }
-
-        public boolean isMinimunDistance() {
-            return isMinimunDistance;
-        }
-
-        public double getDistance() {
-            return distance;
-        }
-
-        public Vertex<E> getVertex() {
-            return vertex;
-        }
-
-        public void setDistance(double distance) {
-            this.distance = distance;
+    /**
+     * Maximum label of the edges for which a BucketQueue is used; it is
+     * also the number of buckets.
+     */
+    public static final int MAX_BUCKETS = 1 << 16;
+
+
+    /**
+     * Calculates the minimum distance from a vertex to all the vertexs of
+     * the graph.
+     *
+     * @param graph directed graph with non-negative labels
+     * @param vertex source vertex
+     * @return a vector with every vertex of the graph (in the order of
+     * graph.vertexs()) and its distance from the source, which is infinite
+     * if it can not be reached
+     */
+    public KeyValue<Vertex<E>, Number>[] calculate(DirectedGraph<E, L> graph, Vertex<E> vertex) {
+        int n = graph.numVertexs();
+        Vertex<E>[] vertexs = new Vertex[n];
+        HashTable<Vertex<E>, Integer> indexes = new HashTable<>(Math.max(n, 1));
+        Iterator<Vertex<E>> it = graph.vertexs();
+        for (int i = 0; it.hasNext(); i++) {
+            vertexs[i] = it.next();
+            indexes.put(vertexs[i], i);
         }
 
-        public String toString() {
-            return "[" + vertex + "," + distance + "," + isMinimunDistance + "]";
+        double[] distance;
+        Integer source = indexes.get(vertex);
+        long maxLabel = maxIntegerLabel(graph, vertexs);
+        if (source == null) {
+            distance = new double[n];
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        } else if (maxLabel < 0 || (n > 1 && maxLabel > (Long.MAX_VALUE - 1) / (n - 1)))
+            // a path could overflow a long, or reach the value of infinity
+            distance = calculateWithHeap(graph, vertexs, indexes, source);
+        else {
+            MonotoneQueue pending = (maxLabel <= MAX_BUCKETS) ?
+                    new BucketQueue((int) maxLabel) : new RadixHeap();
+            distance = calculateWithMonotoneQueue(graph, vertexs, indexes, source, pending);
         }
 
+        KeyValue<Vertex<E>, Number>[] result = new KeyValue[n];
+        for (int i = 0; i < n; i++)
+            result[i] = new KeyValue<>(vertexs[i], distance[i]);
+        return result;
     }
 
 
-    public KeyValue<Vertex<E>, Number>[] calculate(DirectedGraph<E, L> graph, Vertex<E> vertex) {
-        VCM<E>[] d = new VCM[graph.numVertexs()];
-        int vertexsWithFinalDistance = 0;
-        Iterator<Vertex<E>> vertexs = graph.vertexs();
-        // calculem dist�ncies incials
-        for (int i = 0; vertexs.hasNext(); i++) {
-            Vertex<E> v = vertexs.next();
-            d[i] = new VCM<>(v, directDistance(graph, vertex, v));
-            if (d[i].getDistance() == 0) {
-                d[i].hasMinimunDistance();
-                vertexsWithFinalDistance++;
-            }
-        }
-
-        int positionW = 0;
-        while (vertexsWithFinalDistance < graph.numVertexs() - 1 && positionW != -1) {
-            positionW = closerVertex(graph, d);
-
-            if (positionW >= 0) {
-                d[positionW].hasMinimunDistance();
-                vertexsWithFinalDistance++;
-
-                double distanceAW = d[positionW].getDistance();
-                for (int i = 0; i < d.length; i++) {
-                    if (!d[i].isMinimunDistance()) {
-                        double distanceFromW = directDistance(graph, d[positionW].getVertex(), d[i].getVertex());
-                        if (distanceAW + distanceFromW < d[i].getDistance())
-                            d[i].setDistance(distanceAW + distanceFromW);
-                    }
+    /**
+     * Dijkstra's algorithm with a DoubleIntHeap and decrease-key.
+     */
+    private double[] calculateWithHeap(DirectedGraph<E, L> graph, Vertex<E>[] vertexs,
+                                       HashTable<Vertex<E>, Integer> indexes, int source) {
+        double[] distance = new double[vertexs.length];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        DoubleIntHeap pending = new DoubleIntHeap(vertexs.length);
+        distance[source] = 0;
+        pending.add(source, 0);
+        while (!pending.isEmpty()) {
+            int w = pending.poll();
+            Iterator<Edge<L, E>> edges = graph.edgesWithSource(vertexs[w]);
+            while (edges.hasNext()) {
+                DirectedEdge<L, E> edge = (DirectedEdge<L, E>) edges.next();
+                int v = indexes.get(edge.getVertexDst());
+                double d = distance[w] + edge.getLabel().doubleValue();
+                if (d < distance[v]) {
+                    distance[v] = d;
+                    pending.addOrDecrease(v, d);
                 }
             }
         }
-        KeyValue<Vertex<E>, Number>[] result = new KeyValue[d.length];
-        for (int i = 0; i < d.length; i++)
-            result[i] = new KeyValue<>(d[i].getVertex(), d[i].getDistance());
-        return result;
+        return distance;
     }
 
 
-    private int closerVertex(DirectedGraph<E, L> graph, VCM<E>[] currentDistance) {
-        double minim = Double.POSITIVE_INFINITY;
-        int positioW = -1;
-        // we choose vertex with less direct distance than not s
-        for (int i = 0; i < currentDistance.length; i++)
-            if (!currentDistance[i].isMinimunDistance() &&
-                 (currentDistance[i].getDistance() < minim)) {
-                    minim = currentDistance[i].getDistance();
-                    positioW = i;
+    /**
+     * Dijkstra's algorithm with integer distances and a monotone queue. A
+     * vertex is added again every time its distance improves, and the
+     * obsolete copies are ignored when they leave the queue.
+     */
+    private double[] calculateWithMonotoneQueue(DirectedGraph<E, L> graph, Vertex<E>[] vertexs,
+                                                HashTable<Vertex<E>, Integer> indexes, int source,
+                                                MonotoneQueue pending) {
+        long[] distance = new long[vertexs.length];
+        Arrays.fill(distance, Long.MAX_VALUE);
+        distance[source] = 0;
+        pending.add(source, 0);
+        while (!pending.isEmpty()) {
+            long dw = pending.peekPriority();
+            int w = pending.poll();
+            if (dw > distance[w])
+                continue;
+            Iterator<Edge<L, E>> edges = graph.edgesWithSource(vertexs[w]);
+            while (edges.hasNext()) {
+                DirectedEdge<L, E> edge = (DirectedEdge<L, E>) edges.next();
+                int v = indexes.get(edge.getVertexDst());
+                long d = dw + edge.getLabel().longValue();
+                if (d < distance[v]) {
+                    distance[v] = d;
+                    pending.add(v, d);
                 }
-        return positioW;
+            }
+        }
+
+        double[] result = new double[vertexs.length];
+        for (int i = 0; i < result.length; i++)
+            result[i] = (distance[i] == Long.MAX_VALUE) ? Double.POSITIVE_INFINITY : distance[i];
+        return result;
     }
 
 
-    private double directDistance(DirectedGraph<E, L> graph, Vertex<E> src, Vertex<E> dest) {
-        double value;
-        if (src == dest)
-            value = 0;
-        else {
-            Edge<L, E> edge = graph.getEdge(src, dest);
-            if (edge != null)
-                value = edge.getLabel().doubleValue();
-            else
-                value = Double.POSITIVE_INFINITY;
+    /**
+     * Maximum label of the graph, if all of them are non-negative integers.
+     *
+     * @return the maximum label (0 if there are no edges), or -1 if any
+     * label is not a non-negative integer
+     */
+    private long maxIntegerLabel(DirectedGraph<E, L> graph, Vertex<E>[] vertexs) {
+        long max = 0;
+        for (Vertex<E> vertex : vertexs) {
+            Iterator<Edge<L, E>> edges = graph.edgesWithSource(vertex);
+            while (edges.hasNext()) {
+                L label = edges.next().getLabel();
+                if (!(label instanceof Integer || label instanceof Long ||
+                        label instanceof Short || label instanceof Byte) || label.longValue() < 0)
+                    return -1;
+                max = Math.max(max, label.longValue());
+            }
         }
-        return value;
+        return max;
     }
 
 }
@@ -0,0 +1,119 @@
+package edu.uoc.ds.adt.algorithms;
+
+import edu.uoc.ds.adt.helpers.KeyValue;
+import edu.uoc.ds.adt.nonlinear.graphs.DirectedGraph;
+import edu.uoc.ds.adt.nonlinear.graphs.DirectedGraphImpl;
+import edu.uoc.ds.adt.nonlinear.graphs.Vertex;
+import edu.uoc.ds.algorithms.MinimumPaths;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class MinimumPathsTest {
+
+    private static final int VERTEXS = 150;
+
+    private static final int EDGES = 900;
+
+    private static final long SCALE = 1L << 20;
+
+    private int[][] weights;
+
+    private double[] expected;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(7);
+        weights = new int[VERTEXS][VERTEXS];
+        for (int[] row : weights)
+            java.util.Arrays.fill(row, -1);
+        for (int e = 0; e < EDGES; e++)
+            weights[random.nextInt(VERTEXS)][random.nextInt(VERTEXS)] = random.nextInt(20);
+
+        // Bellman-Ford from vertex 0
+        expected = new double[VERTEXS];
+        java.util.Arrays.fill(expected, Double.POSITIVE_INFINITY);
+        expected[0] = 0;
+        for (int round = 0; round < VERTEXS; round++)
+            for (int i = 0; i < VERTEXS; i++)
+                for (int j = 0; j < VERTEXS; j++)
+                    if (weights[i][j] >= 0 && expected[i] + weights[i][j] < expected[j])
+                        expected[j] = expected[i] + weights[i][j];
+    }
+
+
+    private <L extends Number> KeyValue<Vertex<Integer>, Number>[] calculate(java.util.function.IntFunction<L> label) {
+        DirectedGraph<Integer, L> graph = new DirectedGraphImpl<>();
+        Vertex<Integer>[] vertexs = new Vertex[VERTEXS];
+        for (int i = 0; i < VERTEXS; i++)
+            vertexs[i] = graph.newVertex(i);
+        for (int i = 0; i < VERTEXS; i++)
+            for (int j = 0; j < VERTEXS; j++)
+                if (weights[i][j] >= 0)
+                    graph.newEdge(vertexs[i], vertexs[j]).setLabel(label.apply(weights[i][j]));
+        return new MinimumPaths<Integer, L>().calculate(graph, vertexs[0]);
+    }
+
+
+    @Test
+    public void bucketQueueTest() {
+        KeyValue<Vertex<Integer>, Number>[] result = calculate(w -> w);
+        for (KeyValue<Vertex<Integer>, Number> kv : result)
+            Assert.assertEquals(expected[kv.getKey().getValue()], kv.getValue().doubleValue(), 0);
+    }
+
+
+    @Test
+    public void radixHeapTest() {
+        KeyValue<Vertex<Integer>, Number>[] result = calculate(w -> w * SCALE);
+        for (KeyValue<Vertex<Integer>, Number> kv : result)
+            Assert.assertEquals(expected[kv.getKey().getValue()] * SCALE, kv.getValue().doubleValue(), 0);
+    }
+
+
+    @Test
+    public void doubleHeapTest() {
+        KeyValue<Vertex<Integer>, Number>[] result = calculate(w -> w + 0.5);
+        KeyValue<Vertex<Integer>, Number>[] integers = calculate(w -> 2 * w + 1);
+        for (int i = 0; i < result.length; i++)
+            Assert.assertEquals(integers[i].getValue().doubleValue() / 2, result[i].getValue().doubleValue(), 1e-9);
+    }
+
+
+    @Test
+    public void hugeLabelsTest() {
+        // the sum of two labels does not fit in a long
+        long huge = 6_000_000_000_000_000_000L;
+        DirectedGraph<Integer, Long> graph = new DirectedGraphImpl<>();
+        Vertex<Integer> a = graph.newVertex(0);
+        Vertex<Integer> b = graph.newVertex(1);
+        Vertex<Integer> c = graph.newVertex(2);
+        Vertex<Integer> d = graph.newVertex(3);
+        graph.newEdge(a, b).setLabel(huge);
+        graph.newEdge(b, c).setLabel(huge);
+        graph.newEdge(a, d).setLabel(huge + 1);
+        graph.newEdge(b, d).setLabel(huge);
+        double[] distance = distances(new MinimumPaths<Integer, Long>().calculate(graph, a));
+        Assert.assertEquals(0, distance[0], 0);
+        Assert.assertEquals((double) huge, distance[1], 0);
+        Assert.assertEquals(2.0 * huge, distance[2], 0);
+        Assert.assertEquals((double) (huge + 1), distance[3], 0);
+
+        // a distance of Long.MAX_VALUE is reachable
+        DirectedGraph<Integer, Long> pair = new DirectedGraphImpl<>();
+        Vertex<Integer> x = pair.newVertex(0);
+        pair.newEdge(x, pair.newVertex(1)).setLabel(Long.MAX_VALUE);
+        distance = distances(new MinimumPaths<Integer, Long>().calculate(pair, x));
+        Assert.assertEquals((double) Long.MAX_VALUE, distance[1], 0);
+    }
+
+
+    private double[] distances(KeyValue<Vertex<Integer>, Number>[] result) {
+        double[] distance = new double[result.length];
+        for (KeyValue<Vertex<Integer>, Number> kv : result)
+            distance[kv.getKey().getValue()] = kv.getValue().doubleValue();
+        return distance;
+    }
+}
@@ -1,6 +1,7 @@
 package edu.uoc.ds.adt.nonlinear;
 
 import edu.uoc.ds.adt.sequential.ContainerTest;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import edu.uoc.ds.traversal.Traversal;
@@ -78,4 +79,264 @@ public class AVLTreeTest extends ContainerTest {
         checkTraversal(expected2, traversal);
     }
 
+
+    @Test
+    public void randomAddDeleteTest() {
+        java.util.Random random = new java.util.Random(42);
+        java.util.TreeSet<Integer> expected = new java.util.TreeSet<>();
+        for (int i = 0; i < 20000; i++) {
+            int value = random.nextInt(2000);
+            if (random.nextInt(3) > 0) {
+                avl.add(value);
+                expected.add(value);
+            } else
+                Assert.assertEquals(expected.remove(value) ? Integer.valueOf(value) : null, avl.delete(value));
+            if (i % 500 == 0)
+                checkAVL(avl.root, expected);
+        }
+        checkAVL(avl.root, expected);
+        Assert.assertEquals(expected.size(), avl.size());
+    }
+
+
+    @Test
+    public void sequentialKeysTest() {
+        int n = 1 << 20;
+        for (int i = 0; i < n; i++)
+            avl.add(i);
+        Assert.assertEquals(21, ((AVLTree.NodeAVL<Integer>) avl.root).getHeight());
+        for (int i = 0; i < n; i += 2)
+            Assert.assertEquals(i, avl.delete(i), 0);
+        Assert.assertNull(avl.delete(0));
+        Assert.assertEquals(n / 2, avl.size());
+        Assert.assertTrue(((AVLTree.NodeAVL<Integer>) avl.root).getHeight() <= 21);
+    }
+
+
+    @Test
+    public void stablePositionsTest() {
+        java.util.Map<Integer, edu.uoc.ds.adt.helpers.Position<Integer>> positions = new java.util.HashMap<>();
+        java.util.TreeSet<Integer> expected = new java.util.TreeSet<>();
+        for (int i = 0; i < 1000; i++) {
+            positions.put(i, avl.insert(i));
+            expected.add(i);
+        }
+        java.util.Random random = new java.util.Random(7);
+        for (int i = 0; i < 500; i++) {
+            int value = random.nextInt(1000);
+            if (expected.remove(value))
+                Assert.assertEquals(value, avl.remove(positions.remove(value)), 0);
+            else
+                Assert.assertNull(avl.delete(value));
+        }
+        checkAVL(avl.root, expected);
+        for (java.util.Map.Entry<Integer, edu.uoc.ds.adt.helpers.Position<Integer>> e : positions.entrySet()) {
+            Assert.assertEquals(e.getKey(), e.getValue().getElem());
+            Assert.assertSame(e.getValue(), avl.seek(e.getKey()));
+        }
+        Assert.assertNull(avl.seek(-1));
+    }
+
+
+    @Test(expected = edu.uoc.ds.exceptions.InvalidPositionException.class)
+    public void removeDeletedPositionTest() {
+        avl.add(1);
+        edu.uoc.ds.adt.helpers.Position<Integer> pos = avl.insert(2);
+        avl.add(3);
+        Assert.assertEquals(2, avl.delete(2), 0);
+        avl.remove(pos);
+    }
+
+
+    @Test
+    public void orderedQueriesTest() {
+        java.util.Random random = new java.util.Random(3);
+        java.util.TreeSet<Integer> expected = new java.util.TreeSet<>();
+        for (int i = 0; i < 2000; i++) {
+            int value = random.nextInt(10000);
+            avl.add(value);
+            expected.add(value);
+        }
+        Assert.assertEquals(expected.first(), avl.first());
+        Assert.assertEquals(expected.last(), avl.last());
+        for (int i = -1; i <= 10001; i += 7) {
+            Assert.assertEquals(expected.floor(i), avl.floor(i));
+            Assert.assertEquals(expected.ceiling(i), avl.ceiling(i));
+            Assert.assertEquals(expected.lower(i), avl.lower(i));
+            Assert.assertEquals(expected.higher(i), avl.higher(i));
+        }
+        for (int i = 0; i < 50; i++) {
+            int from = random.nextInt(10000);
+            int to = from + random.nextInt(500);
+            boolean fromInclusive = random.nextBoolean();
+            boolean toInclusive = random.nextBoolean();
+            edu.uoc.ds.traversal.Iterator<Integer> it = avl.range(from, fromInclusive, to, toInclusive);
+            for (Integer value : expected.subSet(from, fromInclusive, to, toInclusive))
+                Assert.assertEquals(value, it.next());
+            Assert.assertFalse(it.hasNext());
+        }
+        edu.uoc.ds.traversal.Iterator<Integer> it = avl.range(null, false, null, false);
+        for (Integer value : expected)
+            Assert.assertEquals(value, it.next());
+        Assert.assertFalse(it.hasNext());
+        while (!expected.isEmpty())
+            Assert.assertEquals(expected.pollFirst(), avl.pollFirst());
+        Assert.assertTrue(avl.isEmpty());
+    }
+
+
+    @Test
+    public void orderStatisticsTest() {
+        java.util.Random random = new java.util.Random(11);
+        java.util.TreeSet<Integer> expected = new java.util.TreeSet<>();
+        for (int i = 0; i < 5000; i++) {
+            int value = random.nextInt(3000);
+            if (random.nextInt(4) > 0) {
+                avl.add(value);
+                expected.add(value);
+            } else {
+                avl.delete(value);
+                expected.remove(value);
+            }
+        }
+        checkAVL(avl.root, expected);
+        Assert.assertEquals(expected.size(), avl.size());
+        int k = 0;
+        for (Integer value : expected) {
+            Assert.assertEquals(value, avl.select(k));
+            Assert.assertEquals(k, avl.rank(value));
+            k++;
+        }
+        for (int i = 0; i < 100; i++) {
+            int lo = random.nextInt(3000);
+            int hi = random.nextInt(3000);
+            int count = (lo < hi) ? expected.subSet(lo, hi).size() : 0;
+            Assert.assertEquals(count, avl.countRange(lo, hi));
+        }
+        Assert.assertEquals(0, avl.rank(-1));
+        Assert.assertEquals(expected.size(), avl.rank(3000));
+    }
+
+
+    @Test(expected = edu.uoc.ds.exceptions.IllegalArgumentException.class)
+    public void selectOutOfRangeTest() {
+        avl.add(1);
+        avl.select(1);
+    }
+
+
+    @Test
+    public void buildTest() {
+        Integer[] elems = new Integer[1000];
+        for (int i = 0; i < elems.length; i++)
+            elems[i] = i / 2;
+        avl.build(elems, elems.length);
+        java.util.TreeSet<Integer> expected = new java.util.TreeSet<>(java.util.Arrays.asList(elems));
+        checkAVL(avl.root, expected);
+        Assert.assertEquals(500, avl.size());
+        Assert.assertEquals(9, ((AVLTree.NodeAVL<Integer>) avl.root).getHeight());
+        avl.add(1000);
+        avl.delete(0);
+        expected.add(1000);
+        expected.remove(0);
+        checkAVL(avl.root, expected);
+    }
+
+
+    @Test(expected = edu.uoc.ds.exceptions.IllegalArgumentException.class)
+    public void buildNotSortedTest() {
+        avl.build(new Integer[]{1, 3, 2}, 3);
+    }
+
+
+    @Test
+    public void addAllTest() {
+        java.util.TreeSet<Integer> expected = new java.util.TreeSet<>();
+        java.util.Map<Integer, edu.uoc.ds.adt.helpers.Position<Integer>> positions = new java.util.HashMap<>();
+        for (int i = 0; i < 3000; i += 3) {
+            positions.put(i, avl.insert(i));
+            expected.add(i);
+        }
+        // big batch: merged
+        java.util.List<Integer> batch = new java.util.ArrayList<>();
+        for (int i = 0; i < 3000; i += 2)
+            batch.add(i);
+        avl.addAll(new edu.uoc.ds.traversal.IteratorArrayImpl<>(batch.toArray(new Integer[0]), batch.size(), 0));
+        expected.addAll(batch);
+        checkAVL(avl.root, expected);
+        // small batch: added one by one
+        avl.addAll(new edu.uoc.ds.traversal.IteratorArrayImpl<>(new Integer[]{-5, 1, 5000}, 3, 0));
+        expected.addAll(java.util.Arrays.asList(-5, 1, 5000));
+        checkAVL(avl.root, expected);
+        Assert.assertEquals(expected.size(), avl.size());
+        for (java.util.Map.Entry<Integer, edu.uoc.ds.adt.helpers.Position<Integer>> e : positions.entrySet())
+            Assert.assertSame(e.getValue(), avl.seek(e.getKey()));
+    }
+
+
+    @Test
+    public void largeTraversalsTest() {
+        // the stacks and queues of the traversals start small and grow
+        int n = 5000;
+        for (int i = 0; i < n; i++)
+            avl.add(i);
+        java.util.List<Integer> preorder = new java.util.ArrayList<>();
+        java.util.List<Integer> inorder = new java.util.ArrayList<>();
+        java.util.List<Integer> postorder = new java.util.ArrayList<>();
+        visit(avl.root, preorder, inorder, postorder);
+        checkTraversal(preorder, avl.preOrderTraversal());
+        checkTraversal(inorder, avl.inOrderTraversal());
+        checkTraversal(postorder, avl.postOrderTraversal());
+
+        int visited = 0;
+        for (Traversal<Integer> it = avl.levelOrderTraversal(); it.hasNext(); visited++)
+            it.next();
+        Assert.assertEquals(n, visited);
+    }
+
+    private void checkTraversal(java.util.List<Integer> expected, Traversal<Integer> traversal) {
+        for (Integer elem : expected)
+            Assert.assertEquals(elem, traversal.next().getElem());
+        Assert.assertFalse(traversal.hasNext());
+    }
+
+    private void visit(BinaryTreeLinkedImpl.NodeTree<Integer> node, java.util.List<Integer> preorder,
+                       java.util.List<Integer> inorder, java.util.List<Integer> postorder) {
+        if (node == null) return;
+        preorder.add(node.getElem());
+        visit(node.leftChild, preorder, inorder, postorder);
+        inorder.add(node.getElem());
+        visit(node.rightChild, preorder, inorder, postorder);
+        postorder.add(node.getElem());
+    }
+
+
+    /**
+     * Checks the order, the heights and the balance of every node.
+     */
+    private void checkAVL(BinaryTreeLinkedImpl.NodeTree<Integer> root, java.util.TreeSet<Integer> expected) {
+        java.util.List<Integer> inorder = new java.util.ArrayList<>();
+        if (root != null)
+            Assert.assertNull(((AVLTree.NodeAVL<Integer>) root).getParent());
+        checkNode((AVLTree.NodeAVL<Integer>) root, inorder);
+        Assert.assertEquals(new java.util.ArrayList<>(expected), inorder);
+    }
+
+    private int checkNode(AVLTree.NodeAVL<Integer> node, java.util.List<Integer> inorder) {
+        if (node == null) return 0;
+        int left = checkNode((AVLTree.NodeAVL<Integer>) node.leftChild, inorder);
+        inorder.add(node.getElem());
+        int right = checkNode((AVLTree.NodeAVL<Integer>) node.rightChild, inorder);
+        if (node.leftChild != null)
+            Assert.assertSame(node, ((AVLTree.NodeAVL<Integer>) node.leftChild).getParent());
+        if (node.rightChild != null)
+            Assert.assertSame(node, ((AVLTree.NodeAVL<Integer>) node.rightChild).getParent());
+        Assert.assertTrue(Math.abs(left - right) <= 1);
+        Assert.assertEquals(1 + Math.max(left, right), node.getHeight());
+        int leftSize = (node.leftChild == null) ? 0 : ((AVLTree.NodeAVL<Integer>) node.leftChild).getSize();
+        int rightSize = (node.rightChild == null) ? 0 : ((AVLTree.NodeAVL<Integer>) node.rightChild).getSize();
+        Assert.assertEquals(1 + leftSize + rightSize, node.getSize());
+        return node.getHeight();
+    }
+
 }
@@ -0,0 +1,91 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AggregateAVLTreeTest {
+
+    @Test
+    public void sumTest() {
+        AggregateAVLTree<Integer, Long> tree = new AggregateAVLTree<>(
+                Aggregator.of(0L, (Integer e) -> (long) e, Long::sum));
+        java.util.TreeSet<Integer> expected = new java.util.TreeSet<>();
+        java.util.Random random = new java.util.Random(5);
+        for (int i = 0; i < 5000; i++) {
+            int value = random.nextInt(2000);
+            if (random.nextInt(3) > 0) {
+                tree.add(value);
+                expected.add(value);
+            } else {
+                tree.delete(value);
+                expected.remove(value);
+            }
+            if (i % 100 == 0) {
+                int from = random.nextInt(2000);
+                int to = from + random.nextInt(500);
+                long sum = 0;
+                for (int e : expected.subSet(from, to))
+                    sum += e;
+                Assert.assertEquals(sum, (long) tree.aggregate(from, to));
+            }
+        }
+        long sum = 0;
+        for (int e : expected)
+            sum += e;
+        Assert.assertEquals(sum, (long) tree.aggregate());
+        Assert.assertEquals(sum, (long) tree.aggregate(null, null));
+        Assert.assertEquals(0L, (long) tree.aggregate(5000, 6000));
+    }
+
+    @Test
+    public void orderTest() {
+        // concatenation is not commutative: the aggregate must keep the order
+        AggregateAVLTree<String, String> tree = new AggregateAVLTree<>(
+                Aggregator.of("", (String e) -> e, String::concat));
+        for (char c = 'z'; c >= 'a'; c--)
+            tree.add(String.valueOf(c));
+        Assert.assertEquals("abcdefghijklmnopqrstuvwxyz", tree.aggregate());
+        Assert.assertEquals("defg", tree.aggregate("d", "h"));
+        Assert.assertEquals("xyz", tree.aggregate("x", null));
+        Assert.assertEquals("ab", tree.aggregate(null, "c"));
+        tree.delete("e");
+        Assert.assertEquals("dfg", tree.aggregate("d", "h"));
+    }
+
+    @Test
+    public void dictionaryTest() {
+        DictionaryAggregateAVLImpl<Integer, Integer, Integer> volumes =
+                new DictionaryAggregateAVLImpl<>(Aggregator.of(0, (Integer v) -> v, Integer::sum));
+        DictionaryAggregateAVLImpl<Integer, Integer, Integer> maxima =
+                new DictionaryAggregateAVLImpl<>(Aggregator.of(Integer.MIN_VALUE, (Integer v) -> v, Math::max));
+        for (int price = 100; price < 200; price++) {
+            volumes.put(price, price % 7);
+            maxima.put(price, price % 7);
+        }
+        volumes.put(150, 100);
+        maxima.put(150, 100);
+        int sum = 0;
+        for (int price = 140; price < 160; price++)
+            sum += (price == 150) ? 100 : price % 7;
+        Assert.assertEquals(sum, (int) volumes.aggregate(140, 160));
+        Assert.assertEquals(100, (int) maxima.aggregate(140, 160));
+        Assert.assertEquals(6, (int) maxima.aggregate(151, 200));
+        Assert.assertEquals(100, volumes.size());
+        Assert.assertEquals(100, (int) volumes.delete(150));
+        Assert.assertEquals(sum - 100, (int) volumes.aggregate(140, 160));
+
+        // half-open ranges
+        int below = 0;
+        int from = 0;
+        for (int price = 100; price < 200; price++)
+            if (price != 150) {
+                if (price < 120) below += price % 7;
+                if (price >= 180) from += price % 7;
+            }
+        Assert.assertEquals(below, (int) volumes.aggregate(null, 120));
+        Assert.assertEquals(from, (int) volumes.aggregate(180, null));
+        Assert.assertEquals(volumes.aggregate(), volumes.aggregate(null, null));
+        Assert.assertEquals(100, (int) maxima.aggregate(null, 151));
+    }
+
+}
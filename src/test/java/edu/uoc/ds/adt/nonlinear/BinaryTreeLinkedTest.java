@@ -0,0 +1,133 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.Position;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BinaryTreeLinkedTest {
+
+    @Test
+    public void sizeTest() {
+        BinaryTreeLinkedImpl<Integer> tree = new BinaryTreeLinkedImpl<>();
+        Assert.assertEquals(0, tree.size());
+        Position<Integer> pos7 = tree.add(null, 7);
+        Position<Integer> pos4 = tree.addLeftChild(pos7, 4);
+        Position<Integer> pos2 = tree.addRightChild(pos7, 2);
+        Position<Integer> pos1 = tree.add(pos4, 1);
+        tree.add(pos1, 6);
+        tree.add(pos2, 8);
+        Position<Integer> pos15 = tree.add(pos2, 15);
+        tree.add(pos15, 9);
+        Assert.assertEquals(8, tree.size());
+        Assert.assertEquals(8, tree.size(pos7));
+        Assert.assertEquals(4, tree.size(pos2));
+
+        tree.delete(pos2, pos15);
+        Assert.assertEquals(6, tree.size());
+        tree.delete(pos7, pos4);
+        Assert.assertEquals(3, tree.size());
+        Assert.assertEquals(3, tree.size(pos7));
+        tree.delete(null, pos7);
+        Assert.assertEquals(0, tree.size());
+        tree.add(null, 3);
+        Assert.assertEquals(1, tree.size());
+    }
+
+
+    @Test
+    public void generalTreeSizeTest() {
+        GeneralTreeDelImpl<Integer> tree = new GeneralTreeDelImpl<>();
+        Position<Integer> root = tree.add(null, 0);
+        Position<Integer> pos1 = tree.add(root, 1);
+        Position<Integer> pos2 = tree.add(root, 2);
+        tree.add(root, 3);
+        tree.add(pos1, 4);
+        tree.add(pos1, 5);
+        tree.add(pos2, 6);
+        Assert.assertEquals(7, tree.size());
+        // the subtree of 1 has three items
+        tree.delete(root, pos1);
+        Assert.assertEquals(4, tree.size());
+        tree.delete(root, pos2);
+        Assert.assertEquals(2, tree.size());
+        Assert.assertEquals(2, tree.size(root));
+    }
+
+
+    @Test
+    public void searchTreeSizeTest() {
+        // the search tree without balance
+        BinarySearchTreeLinked<Integer> bst = new BinarySearchTreeLinked<>() {
+            @Override
+            protected void balance(Position<Integer> node) {
+            }
+        };
+        java.util.TreeSet<Integer> expected = new java.util.TreeSet<>();
+        java.util.Random random = new java.util.Random(11);
+        for (int i = 0; i < 5000; i++) {
+            int value = random.nextInt(500);
+            if (random.nextBoolean()) {
+                bst.add(value);
+                expected.add(value);
+            } else if (!bst.isEmpty())
+                Assert.assertEquals(expected.remove(value) ? value : null, bst.delete(value));
+            Assert.assertEquals(expected.size(), bst.size());
+        }
+        Assert.assertEquals(bst.size(), bst.size(bst.root()));
+    }
+
+
+    @Test
+    public void balancedTreesSizeTest() {
+        java.util.Random random = new java.util.Random(13);
+        AVLTree<Integer> avl = new AVLTree<>();
+        Treap<Integer> treap = new Treap<>();
+        java.util.TreeSet<Integer> expected = new java.util.TreeSet<>();
+        for (int i = 0; i < 3000; i++) {
+            int value = random.nextInt(400);
+            switch (random.nextInt(3)) {
+                case 0:
+                    avl.add(value);
+                    treap.add(value);
+                    expected.add(value);
+                    break;
+                case 1:
+                    avl.delete(value);
+                    treap.delete(value);
+                    expected.remove(value);
+                    break;
+                default:
+                    Position<Integer> pos = avl.seek(value);
+                    if (pos != null)
+                        avl.remove(pos);
+                    Treap<Integer> greater = treap.split(value);
+                    treap.join(greater);
+                    Assert.assertEquals(0, greater.n);
+                    expected.remove(value);
+                    treap.delete(value);
+            }
+            Assert.assertEquals(expected.size(), avl.n);
+            Assert.assertEquals(avl.n, avl.size());
+            Assert.assertEquals(expected.size(), treap.n);
+            Assert.assertEquals(treap.n, treap.size());
+        }
+
+        // the trees rebuilt from sorted items
+        Integer[] sorted = expected.toArray(new Integer[0]);
+        avl.build(sorted, sorted.length);
+        Assert.assertEquals(sorted.length, avl.n);
+        avl.addAll(new edu.uoc.ds.traversal.IteratorArrayImpl<>(new Integer[]{-3, -2, -1}, 3, 0));
+        Assert.assertEquals(sorted.length + 3, avl.n);
+        Assert.assertEquals(avl.n, avl.size());
+        Treap<Integer> greater = treap.split(200);
+        Assert.assertEquals(expected.headSet(200).size(), treap.n);
+        Assert.assertEquals(expected.tailSet(200).size(), greater.n);
+        treap.join(greater);
+        Assert.assertEquals(expected.size(), treap.n);
+        avl.delete(null, avl.root());
+        Assert.assertEquals(0, avl.n);
+        avl.add(1);
+        Assert.assertEquals(1, avl.n);
+    }
+
+}
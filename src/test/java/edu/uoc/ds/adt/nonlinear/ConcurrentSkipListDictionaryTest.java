@@ -0,0 +1,191 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.KeyValue;
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.traversal.Iterator;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConcurrentSkipListDictionaryTest {
+
+    private static final int THREADS = 4;
+
+    private static final int KEYS_PER_THREAD = 5000;
+
+    private ConcurrentSkipListDictionary<Integer, String> dictionary;
+
+    @Before
+    public void setUp() {
+        dictionary = new ConcurrentSkipListDictionary<>();
+    }
+
+
+    @Test
+    public void basicTest() {
+        Assert.assertTrue(dictionary.isEmpty());
+        Assert.assertThrows(EmptyContainerException.class, () -> dictionary.first());
+        Assert.assertNull(dictionary.pollFirst());
+        Assert.assertNull(dictionary.get(1));
+
+        int[] keys = {50, 20, 80, 10, 30, 70, 90};
+        for (int key : keys)
+            dictionary.put(key, "v" + key);
+        Assert.assertEquals(7, dictionary.size());
+        Assert.assertEquals("v30", dictionary.get(30));
+        Assert.assertNull(dictionary.get(40));
+
+        dictionary.put(30, "w30");
+        Assert.assertEquals(7, dictionary.size());
+        Assert.assertEquals("w30", dictionary.get(30));
+
+        dictionary.put(60, null);
+        Assert.assertTrue(dictionary.containsKey(60));
+        Assert.assertNull(dictionary.delete(60));
+        Assert.assertFalse(dictionary.containsKey(60));
+
+        Assert.assertEquals("v80", dictionary.delete(80));
+        Assert.assertNull(dictionary.delete(80));
+        Assert.assertEquals(6, dictionary.size());
+        Assert.assertEquals("{CONCURRENTSKIPLIST:[10: v10],[20: v20],[30: w30],[50: v50],[70: v70],[90: v90]}",
+                dictionary.toString());
+
+        int[] expected = {10, 20, 30, 50, 70, 90};
+        Iterator<Integer> it = dictionary.keys();
+        for (int key : expected)
+            Assert.assertEquals(key, it.next(), 0);
+        Assert.assertFalse(it.hasNext());
+    }
+
+
+    @Test
+    public void orderedTest() {
+        for (int key = 10; key <= 90; key += 10)
+            dictionary.put(key, "v" + key);
+
+        Assert.assertEquals(10, dictionary.first().getKey(), 0);
+        Assert.assertEquals(40, dictionary.floor(40).getKey(), 0);
+        Assert.assertEquals(40, dictionary.floor(45).getKey(), 0);
+        Assert.assertNull(dictionary.floor(5));
+        Assert.assertEquals(50, dictionary.ceiling(45).getKey(), 0);
+        Assert.assertNull(dictionary.ceiling(95));
+        Assert.assertEquals(30, dictionary.lower(40).getKey(), 0);
+        Assert.assertNull(dictionary.lower(10));
+        Assert.assertEquals(50, dictionary.higher(40).getKey(), 0);
+        Assert.assertNull(dictionary.higher(90));
+
+        Iterator<KeyValue<Integer, String>> it = dictionary.range(25, 60);
+        for (int key = 30; key < 60; key += 10)
+            Assert.assertEquals(key, it.next().getKey(), 0);
+        Assert.assertFalse(it.hasNext());
+        Assert.assertFalse(dictionary.range(91, null).hasNext());
+
+        Assert.assertEquals(10, dictionary.pollFirst().getKey(), 0);
+        Assert.assertEquals(20, dictionary.first().getKey(), 0);
+        Assert.assertEquals(8, dictionary.size());
+    }
+
+
+    @Test
+    public void concurrentTest() throws InterruptedException {
+        final java.util.concurrent.atomic.AtomicBoolean unordered = new java.util.concurrent.atomic.AtomicBoolean();
+        final java.util.concurrent.atomic.AtomicBoolean done = new java.util.concurrent.atomic.AtomicBoolean();
+        Thread[] writers = new Thread[THREADS];
+        Thread[] readers = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            final int thread = t;
+            // every writer owns the keys k such that k % THREADS == thread
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < KEYS_PER_THREAD; i++)
+                    dictionary.put(i * THREADS + thread, "a");
+                for (int i = 0; i < KEYS_PER_THREAD; i++) {
+                    int key = i * THREADS + thread;
+                    if (i % 3 == 0)
+                        dictionary.delete(key);
+                    else if (i % 3 == 1)
+                        dictionary.put(key, "b");
+                }
+            });
+            readers[t] = new Thread(() -> {
+                while (!done.get()) {
+                    Integer previous = null;
+                    for (Iterator<Integer> it = dictionary.keys(); it.hasNext(); ) {
+                        Integer key = it.next();
+                        if (previous != null && previous >= key)
+                            unordered.set(true);
+                        previous = key;
+                    }
+                }
+            });
+        }
+        for (Thread thread : readers)
+            thread.start();
+        for (Thread thread : writers)
+            thread.start();
+        for (Thread thread : writers)
+            thread.join();
+        done.set(true);
+        for (Thread thread : readers)
+            thread.join();
+        Assert.assertFalse(unordered.get());
+
+        DictionaryAVLImpl<Integer, String> expected = new DictionaryAVLImpl<>();
+        for (int t = 0; t < THREADS; t++)
+            for (int i = 0; i < KEYS_PER_THREAD; i++)
+                if (i % 3 != 0)
+                    expected.put(i * THREADS + t, (i % 3 == 1) ? "b" : "a");
+        Assert.assertEquals(expected.size(), dictionary.size());
+        Iterator<Integer> it1 = expected.keys();
+        Iterator<KeyValue<Integer, String>> it2 = dictionary.range(null, null);
+        while (it1.hasNext()) {
+            Integer key = it1.next();
+            KeyValue<Integer, String> pair = it2.next();
+            Assert.assertEquals(key, pair.getKey());
+            Assert.assertEquals(expected.get(key), pair.getValue());
+        }
+        Assert.assertFalse(it2.hasNext());
+    }
+
+
+    @Test
+    public void putDeleteRaceTest() throws InterruptedException {
+        // few keys, so that the puts and the deletes of a key overlap
+        final int keys = 2;
+        final int operations = 200000;
+        ConcurrentSkipListDictionary<Integer, Integer> race = new ConcurrentSkipListDictionary<>();
+        java.util.Set<Integer> deleted = java.util.concurrent.ConcurrentHashMap.newKeySet();
+        final java.util.concurrent.atomic.AtomicBoolean twice = new java.util.concurrent.atomic.AtomicBoolean();
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            final int thread = t;
+            threads[t] = new Thread(() -> {
+                java.util.Random random = new java.util.Random(thread);
+                for (int i = 0; i < operations; i++) {
+                    int key = random.nextInt(keys);
+                    if (random.nextBoolean())
+                        // every value is put only once
+                        race.put(key, i * THREADS + thread);
+                    else {
+                        Integer value = race.delete(key);
+                        if (value != null && !deleted.add(value))
+                            twice.set(true);
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads)
+            thread.start();
+        for (Thread thread : threads)
+            thread.join();
+        Assert.assertFalse(twice.get());
+
+        // a value returned by delete cannot be in the dictionary
+        int size = 0;
+        for (Iterator<KeyValue<Integer, Integer>> it = race.range(null, null); it.hasNext(); size++) {
+            KeyValue<Integer, Integer> pair = it.next();
+            Assert.assertFalse(deleted.contains(pair.getValue()));
+            Assert.assertEquals(pair.getValue(), race.get(pair.getKey()));
+        }
+        Assert.assertEquals(size, race.size());
+    }
+}
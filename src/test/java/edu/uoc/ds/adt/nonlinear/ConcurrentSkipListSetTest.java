@@ -0,0 +1,139 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.traversal.Iterator;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConcurrentSkipListSetTest {
+
+    private static final int THREADS = 4;
+
+    private static final int ITEMS = 20000;
+
+    private ConcurrentSkipListSet<Integer> set;
+
+    @Before
+    public void setUp() {
+        set = new ConcurrentSkipListSet<>();
+    }
+
+
+    @Test
+    public void basicTest() {
+        Assert.assertTrue(set.isEmpty());
+        Assert.assertThrows(EmptyContainerException.class, () -> set.first());
+
+        int[] values = {5, 3, 8, 1, 4, 7, 9, 3};
+        for (int value : values)
+            set.add(value);
+        Assert.assertEquals(7, set.size());
+        Assert.assertTrue(set.contains(4));
+        Assert.assertFalse(set.contains(6));
+        Assert.assertEquals("{CONCURRENTSKIPLISTSET:1,3,4,5,7,8,9}", set.toString());
+
+        Assert.assertEquals(4, set.delete(4), 0);
+        Assert.assertNull(set.delete(4));
+        Assert.assertEquals(3, set.floor(4), 0);
+        Assert.assertEquals(5, set.ceiling(4), 0);
+        Assert.assertEquals(3, set.lower(5), 0);
+        Assert.assertEquals(7, set.higher(5), 0);
+        Assert.assertNull(set.lower(1));
+        Assert.assertNull(set.higher(9));
+
+        Iterator<Integer> it = set.range(3, 8);
+        int[] expected = {3, 5, 7};
+        for (int e : expected)
+            Assert.assertEquals(e, it.next(), 0);
+        Assert.assertFalse(it.hasNext());
+
+        Assert.assertEquals(1, set.pollFirst(), 0);
+        Assert.assertEquals(3, set.first(), 0);
+    }
+
+
+    @Test
+    public void setOperationsTest() {
+        ConcurrentSkipListSet<Integer> other = new ConcurrentSkipListSet<>();
+        for (int i = 0; i < 10; i++)
+            set.add(i);
+        for (int i = 5; i < 15; i++)
+            other.add(i);
+
+        set.intersection(other);
+        Assert.assertEquals("{CONCURRENTSKIPLISTSET:5,6,7,8,9}", set.toString());
+        set.union(other);
+        Assert.assertEquals(10, set.size());
+        set.difference(other);
+        Assert.assertTrue(set.isEmpty());
+    }
+
+
+    @Test
+    public void concurrentTest() throws InterruptedException {
+        // all the threads add all the items, and then delete the even ones
+        final java.util.concurrent.atomic.AtomicInteger deleted = new java.util.concurrent.atomic.AtomicInteger();
+        final java.util.concurrent.CyclicBarrier barrier = new java.util.concurrent.CyclicBarrier(THREADS);
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            final int offset = t * (ITEMS / THREADS);
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < ITEMS; i++)
+                    set.add((i + offset) % ITEMS);
+                try {
+                    barrier.await();
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+                for (int i = 0; i < ITEMS; i += 2)
+                    if (set.delete((i + offset) % ITEMS) != null)
+                        deleted.incrementAndGet();
+            });
+        }
+        for (Thread thread : threads)
+            thread.start();
+        for (Thread thread : threads)
+            thread.join();
+
+        Assert.assertEquals(ITEMS / 2, deleted.get());
+        Assert.assertEquals(ITEMS / 2, set.size());
+        Iterator<Integer> it = set.values();
+        for (int i = 1; i < ITEMS; i += 2)
+            Assert.assertEquals(i, it.next(), 0);
+        Assert.assertFalse(it.hasNext());
+    }
+
+
+    @Test
+    public void nestedOperationTest() {
+        // the comparator uses another set while the search is in progress
+        ConcurrentSkipListSet<Integer> seen = new ConcurrentSkipListSet<>();
+        ConcurrentSkipListSet<Integer> nested = new ConcurrentSkipListSet<>((o1, o2) -> {
+            seen.add(o1);
+            seen.add(o2);
+            seen.delete(o1 + 1000);
+            return o1.compareTo(o2);
+        });
+        java.util.Random random = new java.util.Random(5);
+        java.util.TreeSet<Integer> expected = new java.util.TreeSet<>();
+        for (int i = 0; i < 2000; i++) {
+            int value = random.nextInt(300);
+            if (random.nextInt(3) == 0)
+                Assert.assertEquals(expected.remove(value) ? value : null, nested.delete(value));
+            else {
+                nested.add(value);
+                expected.add(value);
+            }
+            seen.add(value + 1000);
+        }
+        Assert.assertEquals(expected.size(), nested.size());
+        Iterator<Integer> it = nested.values();
+        for (Integer value : expected)
+            Assert.assertEquals(value, it.next());
+        Assert.assertFalse(it.hasNext());
+        Assert.assertEquals(expected.floor(150), nested.floor(150));
+        Assert.assertEquals(expected.ceiling(150), nested.ceiling(150));
+    }
+
+}
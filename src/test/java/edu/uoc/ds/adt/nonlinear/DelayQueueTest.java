@@ -0,0 +1,92 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.Position;
+import edu.uoc.ds.adt.sequential.LinkedList;
+import edu.uoc.ds.adt.sequential.List;
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.traversal.Iterator;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class DelayQueueTest {
+
+    private DelayQueue<String> queue;
+
+    @Before
+    public void setUp() {
+        queue = new DelayQueue<>(2);
+    }
+
+
+    @Test
+    public void drainExpiredTest() {
+        long now = System.nanoTime();
+        queue.add("c", now + 30);
+        queue.add("a", now + 10);
+        queue.add("d", now + 40);
+        queue.add("b", now + 10);
+        queue.add("e", now + 50);
+        Assert.assertEquals(5, queue.size());
+        Assert.assertEquals(now + 10, queue.nextDeadline());
+        Assert.assertEquals("{DELAYQUEUE:a,b,c,d,e}", queue.toString());
+
+        List<String> buf = new LinkedList<>();
+        Assert.assertEquals(0, queue.drainExpired(now, buf));
+        Assert.assertEquals(3, queue.drainExpired(now + 30, buf));
+        Iterator<String> it = buf.values();
+        Assert.assertEquals("a", it.next());
+        Assert.assertEquals("b", it.next());
+        Assert.assertEquals("c", it.next());
+        Assert.assertFalse(it.hasNext());
+        Assert.assertEquals(2, queue.size());
+    }
+
+
+    @Test
+    public void cancelTest() {
+        long now = System.nanoTime();
+        Position<String> a = queue.add("a", now - 10);
+        Position<String> b = queue.add("b", now - 20);
+        Position<String> c = queue.add("c", now + TimeUnit.HOURS.toNanos(1));
+
+        Assert.assertTrue(queue.cancel(b));
+        Assert.assertFalse(queue.cancel(b));
+        Assert.assertEquals("a", queue.poll());
+        Assert.assertFalse(queue.cancel(a));
+        Assert.assertNull(queue.poll());
+        Assert.assertTrue(queue.cancel(c));
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertNull(queue.poll());
+        Assert.assertThrows(EmptyContainerException.class, () -> queue.nextDeadline());
+    }
+
+
+    @Test
+    public void takeTest() throws InterruptedException {
+        long start = System.nanoTime();
+        queue.add("late", 200, TimeUnit.MILLISECONDS);
+        queue.add("soon", 20, TimeUnit.MILLISECONDS);
+        Assert.assertEquals("soon", queue.take());
+        Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+
+        // a waiting thread is woken up by an earlier item
+        final String[] taken = new String[1];
+        Thread consumer = new Thread(() -> {
+            try {
+                taken[0] = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+        Thread.sleep(10);
+        queue.add("now", 0, TimeUnit.MILLISECONDS);
+        consumer.join(1000);
+        Assert.assertEquals("now", taken[0]);
+        Assert.assertEquals("late", queue.take());
+        Assert.assertTrue(queue.isEmpty());
+    }
+}
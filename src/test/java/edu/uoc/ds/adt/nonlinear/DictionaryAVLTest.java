@@ -45,5 +45,107 @@ public class DictionaryAVLTest extends DictionaryTest {
         Assert.assertEquals("Miss Piggy", it.next().name());
     }
 
+    @Test
+    public void orderedQueriesTest() {
+        Assert.assertEquals("ELM1980", ((DictionaryAVLImpl<String, Muppet>) dictionary).first().getKey());
+        Assert.assertEquals("PIG1974", ((DictionaryAVLImpl<String, Muppet>) dictionary).last().getKey());
+        DictionaryAVLImpl<Integer, String> avl = new DictionaryAVLImpl<>();
+        for (int i = 0; i < 100; i += 10)
+            avl.put(i, "v" + i);
+        Assert.assertEquals(20, avl.floor(25).getKey(), 0);
+        Assert.assertEquals(20, avl.floor(20).getKey(), 0);
+        Assert.assertEquals(10, avl.lower(20).getKey(), 0);
+        Assert.assertEquals(30, avl.ceiling(25).getKey(), 0);
+        Assert.assertEquals(30, avl.higher(20).getKey(), 0);
+        Assert.assertNull(avl.higher(90));
+        Assert.assertNull(avl.floor(-1));
+
+        Iterator<edu.uoc.ds.adt.helpers.KeyValue<Integer, String>> it = avl.range(20, 50);
+        Assert.assertEquals("v20", it.next().getValue());
+        Assert.assertEquals("v30", it.next().getValue());
+        Assert.assertEquals("v40", it.next().getValue());
+        Assert.assertFalse(it.hasNext());
+        it = avl.headMap(20);
+        Assert.assertEquals(0, it.next().getKey(), 0);
+        Assert.assertEquals(10, it.next().getKey(), 0);
+        Assert.assertFalse(it.hasNext());
+        it = avl.tailMap(85);
+        Assert.assertEquals(90, it.next().getKey(), 0);
+        Assert.assertFalse(it.hasNext());
+
+        Assert.assertEquals(0, avl.pollFirst().getKey(), 0);
+        Assert.assertEquals(10, avl.first().getKey(), 0);
+        Assert.assertEquals(9, avl.size());
+    }
+
+    @Test
+    public void orderStatisticsTest() {
+        DictionaryAVLImpl<Integer, String> avl = new DictionaryAVLImpl<>();
+        for (int i = 0; i < 100; i += 10)
+            avl.put(i, "v" + i);
+        Assert.assertEquals("v30", avl.select(3).getValue());
+        Assert.assertEquals(3, avl.rank(30));
+        Assert.assertEquals(4, avl.rank(31));
+        Assert.assertEquals(3, avl.countRange(15, 45));
+        Assert.assertEquals(10, avl.countRange(0, 100));
+    }
+
+    @Test
+    public void nullValueTest() {
+        dictionary.put("GON1970", null);
+        Assert.assertTrue(dictionary.containsKey("GON1970"));
+        Assert.assertNull(dictionary.get("GON1970"));
+        Assert.assertFalse(dictionary.containsKey("ANI1975"));
+        Assert.assertNull(dictionary.delete("GON1970"));
+        Assert.assertFalse(dictionary.containsKey("GON1970"));
+        Assert.assertEquals(3, dictionary.size());
+    }
+
+    @Test
+    public void keyComparatorTest() {
+        DictionaryAVLImpl<String, Integer> reversed =
+                new DictionaryAVLImpl<>((kv1, kv2) -> kv2.getKey().compareTo(kv1.getKey()));
+        reversed.put("a", 1);
+        reversed.put("b", 2);
+        reversed.put("c", 3);
+        Assert.assertEquals("c", reversed.keys().next());
+        Assert.assertEquals(2, (int) reversed.get("b"));
+        Assert.assertTrue(reversed.containsKey("a"));
+        Assert.assertEquals(3, (int) reversed.delete("c"));
+        Assert.assertFalse(reversed.containsKey("c"));
+    }
+
+
+    @Test
+    public void keyComparatorProbeTest() {
+        // the pairs that the comparator receives as first argument
+        java.util.Set<Object> probes = java.util.Collections.newSetFromMap(new java.util.IdentityHashMap<>());
+        java.util.Comparator<edu.uoc.ds.adt.helpers.KeyValue<Integer, Integer>> comparator = (kv1, kv2) -> {
+            probes.add(kv1);
+            return kv1.getKey().compareTo(kv2.getKey());
+        };
+        java.util.List<Dictionary<Integer, Integer>> dictionaries = java.util.List.of(
+                new DictionaryAVLImpl<>(comparator), new DictionaryRBImpl<>(comparator),
+                new DictionarySplayImpl<>(comparator), new DictionaryTreapImpl<>(comparator),
+                new DictionaryConcurrentAVLImpl<>(comparator));
+        for (Dictionary<Integer, Integer> d : dictionaries) {
+            for (int key = 0; key < 200; key++)
+                d.put(key, key * 2);
+            // every search wraps the key once, whatever its depth
+            probes.clear();
+            Assert.assertEquals(150, (int) d.get(75));
+            Assert.assertEquals(1, probes.size());
+            probes.clear();
+            Assert.assertTrue(d.containsKey(199));
+            Assert.assertEquals(1, probes.size());
+            probes.clear();
+            Assert.assertNull(d.get(500));
+            Assert.assertEquals(1, probes.size());
+            probes.clear();
+            Assert.assertEquals(20, (int) d.delete(10));
+            Assert.assertFalse(d.containsKey(10));
+            Assert.assertEquals(199, d.size());
+        }
+    }
 
 }
@@ -0,0 +1,104 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.KeyValue;
+import edu.uoc.ds.adt.modelstest.Gender;
+import edu.uoc.ds.adt.modelstest.Muppet;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import edu.uoc.ds.traversal.Iterator;
+
+public class DictionaryBPlusTreeTest extends DictionaryTest {
+
+
+    @Before
+    public void setUp() {
+        dictionary = new DictionaryBPlusTreeImpl<String, Muppet>(4);
+        dictionary.put("ELM1980", new Muppet("ELM1980", "Elmo", Gender.Male));
+        dictionary.put("PIG1974", new Muppet("PIG1974", "Miss Piggy", Gender.Female));
+        dictionary.put("KERM1955", new Muppet("KERM1955", "Kermit the Frog", Gender.Female));
+    }
+
+    @Test
+    public void putTest() {
+        Assert.assertEquals(3, dictionary.size());
+        dictionary.put("Rowlf1962", new Muppet("Rowlf1962", "Rowlf the Dog", Gender.Female));
+        Assert.assertEquals(4, dictionary.size());
+    }
+
+    @Test
+    public void keysTest() {
+        Assert.assertEquals(3, dictionary.size());
+        Iterator<String> it = dictionary.keys();
+
+        Assert.assertEquals("ELM1980", it.next());
+        Assert.assertEquals("KERM1955", it.next());
+        Assert.assertEquals("PIG1974", it.next());
+    }
+
+    @Test
+    public void valuesTest() {
+        Assert.assertEquals(3, dictionary.size());
+        Iterator<Muppet> it = dictionary.values();
+
+        Assert.assertEquals("Elmo", it.next().name());
+        Assert.assertEquals("Kermit the Frog", it.next().name());
+        Assert.assertEquals("Miss Piggy", it.next().name());
+    }
+
+    @Test
+    public void randomPutDeleteTest() {
+        for (int order : new int[]{3, 4, 5, 16}) {
+            DictionaryBPlusTreeImpl<Integer, String> tree = new DictionaryBPlusTreeImpl<>(order);
+            java.util.TreeMap<Integer, String> expected = new java.util.TreeMap<>();
+            java.util.Random random = new java.util.Random(order);
+            for (int i = 0; i < 20000; i++) {
+                int key = random.nextInt(1500);
+                if (random.nextInt(5) < 3) {
+                    tree.put(key, "v" + i);
+                    expected.put(key, "v" + i);
+                } else
+                    Assert.assertEquals(expected.remove(key), tree.delete(key));
+                if (i % 1000 == 0)
+                    Assert.assertEquals(expected.get(key), tree.get(key));
+            }
+            Assert.assertEquals(expected.size(), tree.size());
+            Iterator<Integer> keys = tree.keys();
+            Iterator<String> values = tree.values();
+            for (java.util.Map.Entry<Integer, String> e : expected.entrySet()) {
+                Assert.assertEquals(e.getKey(), keys.next());
+                Assert.assertEquals(e.getValue(), values.next());
+                Assert.assertTrue(tree.containsKey(e.getKey()));
+            }
+            Assert.assertFalse(keys.hasNext());
+            for (Integer key : new java.util.ArrayList<>(expected.keySet()))
+                Assert.assertEquals(expected.remove(key), tree.delete(key));
+            Assert.assertTrue(tree.isEmpty());
+            Assert.assertFalse(tree.keys().hasNext());
+        }
+    }
+
+    @Test
+    public void rangeTest() {
+        DictionaryBPlusTreeImpl<Integer, Integer> tree = new DictionaryBPlusTreeImpl<>(4);
+        for (int i = 0; i < 100; i += 2)
+            tree.put(i, i * 10);
+        Iterator<KeyValue<Integer, Integer>> it = tree.range(11, 19);
+        for (int i = 12; i < 19; i += 2) {
+            KeyValue<Integer, Integer> kv = it.next();
+            Assert.assertEquals(i, kv.getKey(), 0);
+            Assert.assertEquals(i * 10, kv.getValue(), 0);
+        }
+        Assert.assertFalse(it.hasNext());
+        Assert.assertFalse(tree.range(99, null).hasNext());
+        Assert.assertEquals(0, tree.range(null, 1).next().getKey(), 0);
+        it = tree.range(90, null);
+        int count = 0;
+        while (it.hasNext()) {
+            it.next();
+            count++;
+        }
+        Assert.assertEquals(5, count);
+    }
+
+}
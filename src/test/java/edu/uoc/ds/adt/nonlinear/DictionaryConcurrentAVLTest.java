@@ -0,0 +1,111 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.KeyValue;
+import edu.uoc.ds.traversal.Iterator;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DictionaryConcurrentAVLTest {
+
+    private static final int READERS = 4;
+
+    private static final int KEYS = 2000;
+
+    private static final int ROUNDS = 20;
+
+    private DictionaryConcurrentAVLImpl<Integer, String> dictionary;
+
+    @Before
+    public void setUp() {
+        dictionary = new DictionaryConcurrentAVLImpl<>();
+    }
+
+
+    @Test
+    public void basicTest() {
+        Assert.assertTrue(dictionary.isEmpty());
+        for (int key = 10; key <= 90; key += 10)
+            dictionary.put(key, "v" + key);
+        Assert.assertEquals(9, dictionary.size());
+        Assert.assertEquals("v40", dictionary.get(40));
+        Assert.assertNull(dictionary.get(45));
+        Assert.assertTrue(dictionary.containsKey(90));
+        Assert.assertFalse(dictionary.containsKey(95));
+
+        dictionary.put(40, "w40");
+        Assert.assertEquals("w40", dictionary.get(40));
+        Assert.assertEquals("v50", dictionary.delete(50));
+        Assert.assertNull(dictionary.delete(50));
+        Assert.assertEquals(8, dictionary.size());
+
+        Assert.assertEquals(10, dictionary.first().getKey(), 0);
+        Assert.assertEquals(90, dictionary.last().getKey(), 0);
+        Assert.assertEquals(40, dictionary.floor(45).getKey(), 0);
+        Assert.assertEquals(60, dictionary.ceiling(45).getKey(), 0);
+        Assert.assertEquals(2, dictionary.rank(30));
+        Assert.assertEquals(30, dictionary.select(2).getKey(), 0);
+
+        Iterator<KeyValue<Integer, String>> it = dictionary.range(20, 70);
+        int[] expected = {20, 30, 40, 60};
+        for (int key : expected)
+            Assert.assertEquals(key, it.next().getKey(), 0);
+        Assert.assertFalse(it.hasNext());
+
+        // the enumerations are copies
+        Iterator<Integer> keys = dictionary.keys();
+        dictionary.delete(10);
+        Assert.assertEquals(10, keys.next(), 0);
+        Assert.assertEquals(20, dictionary.pollFirst().getKey(), 0);
+    }
+
+
+    @Test
+    public void concurrentTest() throws InterruptedException {
+        // the even keys never change; a writer adds and deletes the odd ones
+        for (int key = 0; key < KEYS; key += 2)
+            dictionary.put(key, "v" + key);
+
+        final java.util.concurrent.atomic.AtomicBoolean done = new java.util.concurrent.atomic.AtomicBoolean();
+        final java.util.concurrent.atomic.AtomicInteger errors = new java.util.concurrent.atomic.AtomicInteger();
+        Thread[] readers = new Thread[READERS];
+        for (int t = 0; t < READERS; t++) {
+            final int seed = t;
+            readers[t] = new Thread(() -> {
+                java.util.Random random = new java.util.Random(seed);
+                while (!done.get()) {
+                    int key = 2 * random.nextInt(KEYS / 2);
+                    if (!("v" + key).equals(dictionary.get(key)) || !dictionary.containsKey(key))
+                        errors.incrementAndGet();
+                    int size = dictionary.size();
+                    if (size < KEYS / 2 || size > KEYS)
+                        errors.incrementAndGet();
+                }
+            });
+        }
+        Thread writer = new Thread(() -> {
+            for (int round = 0; round < ROUNDS; round++) {
+                for (int key = 1; key < KEYS; key += 2)
+                    dictionary.put(key, "w" + key);
+                for (int key = 1; key < KEYS; key += 2)
+                    dictionary.delete(key);
+            }
+            for (int key = 1; key < KEYS; key += 4)
+                dictionary.put(key, "w" + key);
+        });
+        for (Thread thread : readers)
+            thread.start();
+        writer.start();
+        writer.join();
+        done.set(true);
+        for (Thread thread : readers)
+            thread.join();
+
+        Assert.assertEquals(0, errors.get());
+        Assert.assertEquals(KEYS / 2 + KEYS / 4, dictionary.size());
+        for (int key = 0; key < KEYS; key++) {
+            String expected = (key % 2 == 0) ? "v" + key : (key % 4 == 1) ? "w" + key : null;
+            Assert.assertEquals(expected, dictionary.get(key));
+        }
+    }
+}
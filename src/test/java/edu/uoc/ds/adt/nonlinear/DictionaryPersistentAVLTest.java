@@ -0,0 +1,109 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.KeyValue;
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.traversal.Iterator;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DictionaryPersistentAVLTest {
+
+    private DictionaryPersistentAVLImpl<Integer, String> dictionary;
+
+    @Before
+    public void setUp() {
+        dictionary = new DictionaryPersistentAVLImpl<>();
+    }
+
+
+    @Test
+    public void basicTest() {
+        Assert.assertTrue(dictionary.isEmpty());
+        Assert.assertThrows(EmptyContainerException.class, () -> dictionary.first());
+        for (int key = 10; key <= 90; key += 10)
+            dictionary.put(key, "v" + key);
+        Assert.assertEquals(9, dictionary.size());
+        Assert.assertEquals("v40", dictionary.get(40));
+        Assert.assertNull(dictionary.get(45));
+
+        dictionary.put(40, "w40");
+        Assert.assertEquals(9, dictionary.size());
+        Assert.assertEquals("w40", dictionary.get(40));
+        dictionary.put(45, null);
+        Assert.assertTrue(dictionary.containsKey(45));
+        Assert.assertNull(dictionary.delete(45));
+        Assert.assertFalse(dictionary.containsKey(45));
+        Assert.assertEquals("v50", dictionary.delete(50));
+        Assert.assertNull(dictionary.delete(50));
+
+        Assert.assertEquals(10, dictionary.first().getKey(), 0);
+        Assert.assertEquals(90, dictionary.last().getKey(), 0);
+        Assert.assertEquals(40, dictionary.floor(45).getKey(), 0);
+        Assert.assertNull(dictionary.floor(5));
+        Assert.assertEquals(60, dictionary.ceiling(45).getKey(), 0);
+        Assert.assertNull(dictionary.ceiling(95));
+
+        Iterator<KeyValue<Integer, String>> it = dictionary.range(20, 70);
+        int[] expected = {20, 30, 40, 60};
+        for (int key : expected)
+            Assert.assertEquals(key, it.next().getKey(), 0);
+        Assert.assertFalse(it.hasNext());
+
+        for (int key = 40; key <= 90; key += 10)
+            dictionary.delete(key);
+        Assert.assertEquals("{PERSISTENTAVL:[10: v10],[20: v20],[30: v30]}", dictionary.toString());
+    }
+
+
+    @Test
+    public void snapshotTest() {
+        for (int key = 0; key < 1000; key++)
+            dictionary.put(key, "a" + key);
+        DictionaryPersistentAVLImpl<Integer, String> snapshot = dictionary.snapshot();
+        Iterator<Integer> keys = dictionary.keys();
+
+        for (int key = 0; key < 1000; key += 2)
+            dictionary.delete(key);
+        for (int key = 1; key < 1000; key += 2)
+            dictionary.put(key, "b" + key);
+        snapshot.put(1000, "a1000");
+
+        // the snapshot and the enumeration keep the old version
+        Assert.assertEquals(1001, snapshot.size());
+        for (int key = 0; key < 1000; key++)
+            Assert.assertEquals("a" + key, snapshot.get(key));
+        for (int key = 0; key < 1000; key++)
+            Assert.assertEquals(key, keys.next(), 0);
+        Assert.assertFalse(keys.hasNext());
+
+        Assert.assertEquals(500, dictionary.size());
+        Assert.assertFalse(dictionary.containsKey(1000));
+        for (int key = 0; key < 1000; key++)
+            Assert.assertEquals((key % 2 == 0) ? null : "b" + key, dictionary.get(key));
+    }
+
+
+    @Test
+    public void randomTest() {
+        java.util.Random random = new java.util.Random(7);
+        java.util.TreeMap<Integer, String> expected = new java.util.TreeMap<>();
+        for (int i = 0; i < 20000; i++) {
+            int key = random.nextInt(2000);
+            if (random.nextInt(3) == 0)
+                Assert.assertEquals(expected.remove(key), dictionary.delete(key));
+            else {
+                expected.put(key, "v" + i);
+                dictionary.put(key, "v" + i);
+            }
+        }
+        Assert.assertEquals(expected.size(), dictionary.size());
+        Iterator<KeyValue<Integer, String>> it = dictionary.range(null, null);
+        for (java.util.Map.Entry<Integer, String> entry : expected.entrySet()) {
+            KeyValue<Integer, String> pair = it.next();
+            Assert.assertEquals(entry.getKey(), pair.getKey());
+            Assert.assertEquals(entry.getValue(), pair.getValue());
+        }
+        Assert.assertFalse(it.hasNext());
+    }
+}
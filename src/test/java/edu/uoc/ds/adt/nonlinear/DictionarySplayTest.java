@@ -0,0 +1,90 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.modelstest.Gender;
+import edu.uoc.ds.adt.modelstest.Muppet;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import edu.uoc.ds.traversal.Iterator;
+
+public class DictionarySplayTest extends DictionaryTest {
+
+
+    @Before
+    public void setUp() {
+        dictionary = new DictionarySplayImpl<String, Muppet>();
+        dictionary.put("ELM1980", new Muppet("ELM1980", "Elmo", Gender.Male));
+        dictionary.put("PIG1974", new Muppet("PIG1974", "Miss Piggy", Gender.Female));
+        dictionary.put("KERM1955", new Muppet("KERM1955", "Kermit the Frog", Gender.Female));
+    }
+
+    @Test
+    public void putTest() {
+        Assert.assertEquals(3, dictionary.size());
+        dictionary.put("Rowlf1962", new Muppet("Rowlf1962", "Rowlf the Dog", Gender.Female));
+        Assert.assertEquals(4, dictionary.size());
+    }
+
+    @Test
+    public void keysTest() {
+        Assert.assertEquals(3, dictionary.size());
+        Iterator<String> it = dictionary.keys();
+
+        Assert.assertEquals("ELM1980", it.next());
+        Assert.assertEquals("KERM1955", it.next());
+        Assert.assertEquals("PIG1974", it.next());
+    }
+
+    @Test
+    public void valuesTest() {
+        Assert.assertEquals(3, dictionary.size());
+        Iterator<Muppet> it = dictionary.values();
+
+        Assert.assertEquals("Elmo", it.next().name());
+        Assert.assertEquals("Kermit the Frog", it.next().name());
+        Assert.assertEquals("Miss Piggy", it.next().name());
+    }
+
+    @Test
+    public void nullValueTest() {
+        dictionary.put("GON1970", null);
+        Assert.assertTrue(dictionary.containsKey("GON1970"));
+        Assert.assertNull(dictionary.get("GON1970"));
+        Assert.assertFalse(dictionary.containsKey("ANI1975"));
+        Assert.assertNull(dictionary.delete("GON1970"));
+        Assert.assertFalse(dictionary.containsKey("GON1970"));
+        Assert.assertEquals(3, dictionary.size());
+    }
+
+    @Test
+    public void keyComparatorTest() {
+        DictionarySplayImpl<String, Integer> reversed =
+                new DictionarySplayImpl<>((kv1, kv2) -> kv2.getKey().compareTo(kv1.getKey()));
+        reversed.put("a", 1);
+        reversed.put("b", 2);
+        reversed.put("c", 3);
+        Assert.assertEquals("c", reversed.keys().next());
+        Assert.assertEquals(2, (int) reversed.get("b"));
+        Assert.assertTrue(reversed.containsKey("a"));
+        Assert.assertEquals(3, (int) reversed.delete("c"));
+        Assert.assertFalse(reversed.containsKey("c"));
+    }
+
+    @Test
+    public void skewedAccessTest() {
+        DictionarySplayImpl<Integer, String> splay = new DictionarySplayImpl<>();
+        for (int key = 0; key < 1000; key++)
+            splay.put(key, "v" + key);
+        // the last key used is at the root
+        for (int i = 0; i < 100; i++) {
+            int key = (i % 3 == 0) ? 500 : i;
+            Assert.assertEquals("v" + key, splay.get(key));
+            Assert.assertEquals(key, splay.splay.root().getElem().getKey(), 0);
+        }
+        Assert.assertEquals(1000, splay.size());
+        Assert.assertEquals("v500", splay.delete(500));
+        Assert.assertNull(splay.get(500));
+        Assert.assertEquals(999, splay.size());
+    }
+
+}
@@ -0,0 +1,95 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.modelstest.Gender;
+import edu.uoc.ds.adt.modelstest.Muppet;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import edu.uoc.ds.traversal.Iterator;
+
+public class DictionaryTreapTest extends DictionaryTest {
+
+
+    @Before
+    public void setUp() {
+        dictionary = new DictionaryTreapImpl<String, Muppet>();
+        dictionary.put("ELM1980", new Muppet("ELM1980", "Elmo", Gender.Male));
+        dictionary.put("PIG1974", new Muppet("PIG1974", "Miss Piggy", Gender.Female));
+        dictionary.put("KERM1955", new Muppet("KERM1955", "Kermit the Frog", Gender.Female));
+    }
+
+    @Test
+    public void putTest() {
+        Assert.assertEquals(3, dictionary.size());
+        dictionary.put("Rowlf1962", new Muppet("Rowlf1962", "Rowlf the Dog", Gender.Female));
+        Assert.assertEquals(4, dictionary.size());
+    }
+
+    @Test
+    public void keysTest() {
+        Assert.assertEquals(3, dictionary.size());
+        Iterator<String> it = dictionary.keys();
+
+        Assert.assertEquals("ELM1980", it.next());
+        Assert.assertEquals("KERM1955", it.next());
+        Assert.assertEquals("PIG1974", it.next());
+    }
+
+    @Test
+    public void valuesTest() {
+        Assert.assertEquals(3, dictionary.size());
+        Iterator<Muppet> it = dictionary.values();
+
+        Assert.assertEquals("Elmo", it.next().name());
+        Assert.assertEquals("Kermit the Frog", it.next().name());
+        Assert.assertEquals("Miss Piggy", it.next().name());
+    }
+
+    @Test
+    public void nullValueTest() {
+        dictionary.put("GON1970", null);
+        Assert.assertTrue(dictionary.containsKey("GON1970"));
+        Assert.assertNull(dictionary.get("GON1970"));
+        Assert.assertFalse(dictionary.containsKey("ANI1975"));
+        Assert.assertNull(dictionary.delete("GON1970"));
+        Assert.assertFalse(dictionary.containsKey("GON1970"));
+        Assert.assertEquals(3, dictionary.size());
+    }
+
+    @Test
+    public void keyComparatorTest() {
+        DictionaryTreapImpl<String, Integer> reversed =
+                new DictionaryTreapImpl<>((kv1, kv2) -> kv2.getKey().compareTo(kv1.getKey()));
+        reversed.put("a", 1);
+        reversed.put("b", 2);
+        reversed.put("c", 3);
+        Assert.assertEquals("c", reversed.keys().next());
+        Assert.assertEquals(2, (int) reversed.get("b"));
+        Assert.assertTrue(reversed.containsKey("a"));
+        Assert.assertEquals(3, (int) reversed.delete("c"));
+        Assert.assertFalse(reversed.containsKey("c"));
+    }
+
+    @Test
+    public void splitJoinTest() {
+        DictionaryTreapImpl<Integer, String> treap = new DictionaryTreapImpl<>();
+        for (int key = 0; key < 1000; key++)
+            treap.put(key, "v" + key);
+
+        DictionaryTreapImpl<Integer, String> greater = treap.split(600);
+        Assert.assertEquals(600, treap.size());
+        Assert.assertEquals(400, greater.size());
+        Assert.assertNull(treap.get(600));
+        Assert.assertEquals("v600", greater.get(600));
+        Assert.assertEquals(600, greater.keys().next(), 0);
+
+        Assert.assertThrows(edu.uoc.ds.exceptions.IllegalArgumentException.class, () -> greater.join(treap));
+        treap.join(greater);
+        Assert.assertTrue(greater.isEmpty());
+        Assert.assertEquals(1000, treap.size());
+        Iterator<Integer> it = treap.keys();
+        for (int key = 0; key < 1000; key++)
+            Assert.assertEquals(key, it.next(), 0);
+    }
+
+}
@@ -0,0 +1,62 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DoubleIntHeapTest {
+
+    private DoubleIntHeap heap;
+
+    @Before
+    public void setUp() {
+        heap = new DoubleIntHeap(10);
+        double[] priorities = {7.5, 3.5, 5.5, 1.5, 9.5, 0.5, 8.5, 6.5, 4.5, 2.5};
+        for (int item = 0; item < priorities.length; item++)
+            heap.add(item, priorities[item]);
+    }
+
+
+    @Test
+    public void addAndPollTest() {
+        Assert.assertEquals(10, heap.size());
+        Assert.assertEquals(5, heap.peek());
+        Assert.assertEquals(0.5, heap.peekPriority(), 0);
+        Assert.assertThrows(IllegalArgumentException.class, () -> heap.add(3, 1.0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> heap.add(10, 1.0));
+
+        int[] expected = {5, 3, 9, 1, 8, 2, 7, 0, 6, 4};
+        for (int item : expected) {
+            Assert.assertTrue(heap.contains(item));
+            Assert.assertEquals(item, heap.poll());
+            Assert.assertFalse(heap.contains(item));
+        }
+        Assert.assertTrue(heap.isEmpty());
+        Assert.assertThrows(EmptyContainerException.class, () -> heap.poll());
+    }
+
+
+    @Test
+    public void decreaseKeyTest() {
+        heap.decreaseKey(4, 0.0);
+        Assert.assertEquals(4, heap.peek());
+        Assert.assertEquals(0.0, heap.priority(4), 0);
+        Assert.assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(0, 20.0));
+
+        Assert.assertFalse(heap.addOrDecrease(6, 9.0));
+        Assert.assertTrue(heap.addOrDecrease(6, 1.0));
+        Assert.assertEquals(4, heap.poll());
+        Assert.assertEquals(5, heap.poll());
+        Assert.assertEquals(6, heap.poll());
+        Assert.assertTrue(heap.addOrDecrease(4, 3.0));
+        Assert.assertEquals(3, heap.poll());
+        Assert.assertEquals(9, heap.poll());
+        Assert.assertEquals(4, heap.poll());
+
+        heap.clear();
+        Assert.assertTrue(heap.isEmpty());
+        Assert.assertFalse(heap.contains(0));
+    }
+}
@@ -0,0 +1,124 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.Position;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Comparator;
+
+public class FibonacciHeapTest extends MeldableHeapTest<FibonacciHeap<Integer>> {
+
+    @Override
+    protected FibonacciHeap<Integer> create(Comparator<Integer> comparator) {
+        return new FibonacciHeap<>(comparator);
+    }
+
+    @Override
+    protected String name() {
+        return "FIBONACCIHEAP";
+    }
+
+    @Override
+    protected Position<Integer> insert(FibonacciHeap<Integer> heap, Integer elem) {
+        return heap.insert(elem);
+    }
+
+    @Override
+    protected Integer decreaseKey(FibonacciHeap<Integer> heap, Position<Integer> pos, Integer elem) {
+        return heap.decreaseKey(pos, elem);
+    }
+
+    @Override
+    protected Integer remove(FibonacciHeap<Integer> heap, Position<Integer> pos) {
+        return heap.remove(pos);
+    }
+
+    @Override
+    protected boolean contains(FibonacciHeap<Integer> heap, Position<Integer> pos) {
+        return heap.contains(pos);
+    }
+
+    @Override
+    protected void meld(FibonacciHeap<Integer> heap, FibonacciHeap<Integer> other) {
+        heap.meld(other);
+    }
+
+
+    @Test
+    public void consolidateTest() {
+        FibonacciHeap<Integer> fib = new FibonacciHeap<>();
+        for (int i = 0; i < 32; i++)
+            fib.insert(i);
+        // 32 roots before the first poll; then, one tree for every bit of 31
+        Assert.assertEquals(32, roots(fib).size());
+        Assert.assertEquals(0, fib.poll(), 0);
+        java.util.List<FibonacciHeap.NodeFib<Integer>> roots = roots(fib);
+        java.util.Set<Integer> degrees = new java.util.TreeSet<>();
+        for (FibonacciHeap.NodeFib<Integer> root : roots) {
+            Assert.assertNull(root.parent);
+            degrees.add(root.degree);
+            Assert.assertEquals(1 << root.degree, count(root));
+        }
+        Assert.assertEquals(java.util.Set.of(0, 1, 2, 3, 4), degrees);
+        Assert.assertEquals(1, fib.min.elem, 0);
+    }
+
+
+    @Test
+    public void cascadingCutTest() {
+        FibonacciHeap<Integer> fib = new FibonacciHeap<>();
+        for (int i = 0; i < 17; i++)
+            fib.insert(i * 10);
+        fib.poll();
+        // a single tree of degree 4: take a child with two children of its own
+        FibonacciHeap.NodeFib<Integer> root = fib.min;
+        Assert.assertEquals(4, root.degree);
+        FibonacciHeap.NodeFib<Integer> middle = root.child;
+        while (middle.degree < 2)
+            middle = middle.right;
+        FibonacciHeap.NodeFib<Integer> first = middle.child;
+        FibonacciHeap.NodeFib<Integer> second = first.right;
+
+        // losing a child marks the node
+        fib.decreaseKey(first, -1);
+        Assert.assertNull(first.parent);
+        Assert.assertTrue(middle.mark);
+        Assert.assertSame(root, middle.parent);
+        Assert.assertSame(first, fib.min);
+
+        // losing a second child cuts it too
+        fib.decreaseKey(second, -2);
+        Assert.assertNull(second.parent);
+        Assert.assertNull(middle.parent);
+        Assert.assertFalse(middle.mark);
+        Assert.assertSame(second, fib.min);
+        Assert.assertEquals(4, roots(fib).size());
+
+        Assert.assertEquals(-2, fib.poll(), 0);
+        Assert.assertEquals(-1, fib.poll(), 0);
+        Assert.assertEquals(14, fib.size());
+    }
+
+
+    private java.util.List<FibonacciHeap.NodeFib<Integer>> roots(FibonacciHeap<Integer> fib) {
+        java.util.List<FibonacciHeap.NodeFib<Integer>> roots = new java.util.ArrayList<>();
+        FibonacciHeap.NodeFib<Integer> node = fib.min;
+        do {
+            roots.add(node);
+            node = node.right;
+        } while (node != fib.min);
+        return roots;
+    }
+
+    private int count(FibonacciHeap.NodeFib<Integer> node) {
+        int count = 1;
+        FibonacciHeap.NodeFib<Integer> child = node.child;
+        if (child != null) {
+            do {
+                count += count(child);
+                child = child.right;
+            } while (child != node.child);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,82 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.Position;
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import edu.uoc.ds.exceptions.InvalidPositionException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IndexedPriorityQueueTest {
+
+    private IndexedPriorityQueue<Integer> priorityQueue;
+
+    private Position<Integer>[] positions;
+
+    @Before
+    public void setUp() {
+        priorityQueue = new IndexedPriorityQueue<>(10);
+        positions = new Position[10];
+        int[] values = {7, 3, 5, 1, 9, 0, 8, 6, 4, 2};
+        for (int i = 0; i < values.length; i++)
+            positions[values[i]] = priorityQueue.insert(values[i]);
+    }
+
+
+    @Test
+    public void insertTest() {
+        Assert.assertEquals(10, priorityQueue.size());
+        Assert.assertEquals(0, priorityQueue.peek(), 0);
+        for (int i = 0; i < positions.length; i++) {
+            Assert.assertTrue(priorityQueue.contains(positions[i]));
+            Assert.assertEquals(i, positions[i].getElem(), 0);
+        }
+    }
+
+
+    @Test
+    public void decreaseKeyTest() {
+        Assert.assertEquals(9, priorityQueue.decreaseKey(positions[9], -1), 0);
+        Assert.assertEquals(-1, priorityQueue.peek(), 0);
+        Assert.assertEquals(-1, positions[9].getElem(), 0);
+
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> priorityQueue.decreaseKey(positions[4], 20));
+
+        Assert.assertEquals(-1, priorityQueue.poll(), 0);
+        Assert.assertFalse(priorityQueue.contains(positions[9]));
+        Assert.assertEquals(0, priorityQueue.poll(), 0);
+    }
+
+
+    @Test
+    public void increaseKeyTest() {
+        Assert.assertEquals(0, priorityQueue.increaseKey(positions[0], 10), 0);
+        Assert.assertEquals(1, priorityQueue.peek(), 0);
+
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> priorityQueue.increaseKey(positions[5], 2));
+
+        for (int i = 1; i <= 9; i++)
+            Assert.assertEquals(i, priorityQueue.poll(), 0);
+        Assert.assertEquals(10, priorityQueue.poll(), 0);
+        Assert.assertTrue(priorityQueue.isEmpty());
+    }
+
+
+    @Test
+    public void removeTest() {
+        Assert.assertEquals(4, priorityQueue.remove(positions[4]), 0);
+        Assert.assertEquals(0, priorityQueue.remove(positions[0]), 0);
+        Assert.assertEquals(8, priorityQueue.size());
+        Assert.assertThrows(InvalidPositionException.class,
+                () -> priorityQueue.remove(positions[4]));
+
+        int[] expected = {1, 2, 3, 5, 6, 7, 8, 9};
+        for (int e : expected) {
+            Assert.assertTrue(priorityQueue.contains(positions[e]));
+            Assert.assertEquals(e, priorityQueue.poll(), 0);
+        }
+        Assert.assertTrue(priorityQueue.isEmpty());
+    }
+}
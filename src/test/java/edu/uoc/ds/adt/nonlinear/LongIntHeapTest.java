@@ -0,0 +1,62 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LongIntHeapTest {
+
+    private LongIntHeap heap;
+
+    @Before
+    public void setUp() {
+        heap = new LongIntHeap(10);
+        long[] priorities = {75, 35, 55, 15, 95, 5, 85, 65, 45, 25};
+        for (int item = 0; item < priorities.length; item++)
+            heap.add(item, priorities[item]);
+    }
+
+
+    @Test
+    public void addAndPollTest() {
+        Assert.assertEquals(10, heap.size());
+        Assert.assertEquals(5, heap.peek());
+        Assert.assertEquals(5L, heap.peekPriority());
+        Assert.assertThrows(IllegalArgumentException.class, () -> heap.add(3, 1L));
+        Assert.assertThrows(IllegalArgumentException.class, () -> heap.add(10, 1L));
+
+        int[] expected = {5, 3, 9, 1, 8, 2, 7, 0, 6, 4};
+        for (int item : expected) {
+            Assert.assertTrue(heap.contains(item));
+            Assert.assertEquals(item, heap.poll());
+            Assert.assertFalse(heap.contains(item));
+        }
+        Assert.assertTrue(heap.isEmpty());
+        Assert.assertThrows(EmptyContainerException.class, () -> heap.poll());
+    }
+
+
+    @Test
+    public void decreaseKeyTest() {
+        heap.decreaseKey(4, 0L);
+        Assert.assertEquals(4, heap.peek());
+        Assert.assertEquals(0L, heap.priority(4));
+        Assert.assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(0, 200L));
+
+        Assert.assertFalse(heap.addOrDecrease(6, 90L));
+        Assert.assertTrue(heap.addOrDecrease(6, 10L));
+        Assert.assertEquals(4, heap.poll());
+        Assert.assertEquals(5, heap.poll());
+        Assert.assertEquals(6, heap.poll());
+        Assert.assertTrue(heap.addOrDecrease(4, 30L));
+        Assert.assertEquals(3, heap.poll());
+        Assert.assertEquals(9, heap.poll());
+        Assert.assertEquals(4, heap.poll());
+
+        heap.clear();
+        Assert.assertTrue(heap.isEmpty());
+        Assert.assertFalse(heap.contains(0));
+    }
+}
@@ -0,0 +1,179 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.Position;
+import edu.uoc.ds.adt.sequential.Queue;
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import edu.uoc.ds.exceptions.InvalidPositionException;
+import edu.uoc.ds.traversal.Iterator;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Comparator;
+
+/**
+ * Tests shared by the heaps with positions and meld (FibonacciHeap and
+ * PairingHeap). The subclasses create the heaps and call their operations.
+ */
+public abstract class MeldableHeapTest<H extends Queue<Integer>> {
+
+    protected H heap;
+
+    protected Position<Integer>[] positions;
+
+    protected abstract H create(Comparator<Integer> comparator);
+
+    protected abstract String name();
+
+    protected abstract Position<Integer> insert(H heap, Integer elem);
+
+    protected abstract Integer decreaseKey(H heap, Position<Integer> pos, Integer elem);
+
+    protected abstract Integer remove(H heap, Position<Integer> pos);
+
+    protected abstract boolean contains(H heap, Position<Integer> pos);
+
+    protected abstract void meld(H heap, H other);
+
+
+    @Before
+    public void setUp() {
+        heap = create(null);
+        positions = new Position[10];
+        int[] values = {7, 3, 5, 1, 9, 0, 8, 6, 4, 2};
+        for (int value : values)
+            positions[value] = insert(heap, value);
+    }
+
+
+    @Test
+    public void insertAndValuesTest() {
+        Assert.assertEquals(10, heap.size());
+        Assert.assertEquals(0, heap.peek(), 0);
+        Iterator<Integer> it = heap.values();
+        for (int i = 0; i < 10; i++)
+            Assert.assertEquals(i, it.next(), 0);
+        Assert.assertFalse(it.hasNext());
+        Assert.assertEquals(10, heap.size());
+        Assert.assertEquals("{" + name() + ":0,1,2,3,4,5,6,7,8,9}", heap.toString());
+    }
+
+
+    @Test
+    public void pollTest() {
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(i, heap.poll(), 0);
+            Assert.assertFalse(contains(heap, positions[i]));
+        }
+        Assert.assertTrue(heap.isEmpty());
+        Assert.assertThrows(EmptyContainerException.class, () -> heap.poll());
+        Assert.assertThrows(EmptyContainerException.class, () -> heap.peek());
+    }
+
+
+    @Test
+    public void decreaseKeyAndRemoveTest() {
+        Assert.assertEquals(9, decreaseKey(heap, positions[9], -1), 0);
+        Assert.assertEquals(-1, heap.peek(), 0);
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> decreaseKey(heap, positions[4], 20));
+
+        Assert.assertEquals(5, remove(heap, positions[5]), 0);
+        Assert.assertEquals(-1, remove(heap, positions[9]), 0);
+        Assert.assertThrows(InvalidPositionException.class, () -> remove(heap, positions[5]));
+
+        int[] expected = {0, 1, 2, 3, 4, 6, 7, 8};
+        for (int e : expected)
+            Assert.assertEquals(e, heap.poll(), 0);
+        Assert.assertTrue(heap.isEmpty());
+    }
+
+
+    @Test
+    public void meldTest() {
+        H other = create(null);
+        Position<Integer> p = insert(other, 15);
+        for (int i = 10; i < 20; i++)
+            if (i != 15) other.add(i);
+        meld(heap, other);
+        Assert.assertTrue(other.isEmpty());
+        Assert.assertEquals(20, heap.size());
+        Assert.assertEquals(15, decreaseKey(heap, p, -5), 0);
+        Assert.assertEquals(-5, heap.poll(), 0);
+        for (int i = 0; i < 20; i++)
+            if (i != 15) Assert.assertEquals(i, heap.poll(), 0);
+        Assert.assertTrue(heap.isEmpty());
+    }
+
+
+    @Test
+    public void foreignPositionTest() {
+        H other = create(null);
+        Position<Integer> p = insert(other, 3);
+        insert(other, 1);
+        Assert.assertFalse(contains(heap, p));
+        Assert.assertThrows(InvalidPositionException.class, () -> remove(heap, p));
+        Assert.assertThrows(InvalidPositionException.class, () -> decreaseKey(heap, p, -1));
+        Assert.assertThrows(InvalidPositionException.class, () -> remove(other, positions[4]));
+        // nothing has changed
+        Assert.assertEquals(10, heap.size());
+        Assert.assertEquals(2, other.size());
+        Assert.assertEquals(1, other.peek(), 0);
+
+        // after two melds, the position belongs to the last heap
+        H third = create(null);
+        meld(third, other);
+        meld(heap, third);
+        Assert.assertFalse(contains(other, p));
+        Assert.assertFalse(contains(third, p));
+        Assert.assertTrue(contains(heap, p));
+        // the melded heaps can be used again, with new positions
+        Position<Integer> q = insert(other, 8);
+        Assert.assertTrue(contains(other, q));
+        Assert.assertFalse(contains(heap, q));
+
+        Assert.assertEquals(3, remove(heap, p), 0);
+        Assert.assertEquals(11, heap.size());
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(i, heap.poll(), 0);
+            if (i == 1) Assert.assertEquals(1, heap.poll(), 0);
+        }
+        Assert.assertTrue(heap.isEmpty());
+    }
+
+
+    @Test
+    public void randomTest() {
+        H pq = create((o1, o2) -> o2.compareTo(o1));
+        java.util.Random random = new java.util.Random(42);
+        java.util.PriorityQueue<Integer> expected = new java.util.PriorityQueue<>((o1, o2) -> o2.compareTo(o1));
+        java.util.List<Position<Integer>> live = new java.util.ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int op = random.nextInt(4);
+            if (op < 2 || live.isEmpty()) {
+                int value = random.nextInt(1000);
+                live.add(insert(pq, value));
+                expected.add(value);
+            } else if (op == 2) {
+                Position<Integer> pos = live.remove(random.nextInt(live.size()));
+                if (!contains(pq, pos)) continue;
+                int value = pos.getElem();
+                Assert.assertEquals(value, decreaseKey(pq, pos, value + 100), 0);
+                expected.remove(value);
+                expected.add(value + 100);
+                live.add(pos);
+            } else {
+                Position<Integer> pos = live.remove(random.nextInt(live.size()));
+                if (!contains(pq, pos)) continue;
+                Assert.assertTrue(expected.remove(remove(pq, pos)));
+            }
+            if (random.nextInt(5) == 0 && !expected.isEmpty())
+                Assert.assertEquals(expected.poll(), pq.poll());
+            Assert.assertEquals(expected.size(), pq.size());
+        }
+        while (!expected.isEmpty())
+            Assert.assertEquals(expected.poll(), pq.poll());
+        Assert.assertTrue(pq.isEmpty());
+    }
+}
@@ -0,0 +1,66 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class MonotoneQueueTest {
+
+    private void monotoneTest(MonotoneQueue queue, int maxSpread) {
+        Random random = new Random(42);
+        java.util.PriorityQueue<long[]> expected = new java.util.PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        long last = 0;
+        for (int step = 0; step < 20000; step++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                long priority = last + random.nextInt(maxSpread + 1);
+                queue.add(step, priority);
+                expected.add(new long[]{priority, step});
+            } else {
+                long priority = queue.peekPriority();
+                Assert.assertEquals(expected.peek()[0], priority);
+                queue.poll();
+                expected.poll();
+                last = priority;
+            }
+            Assert.assertEquals(expected.size(), queue.size());
+        }
+        while (!expected.isEmpty()) {
+            Assert.assertEquals(expected.poll()[0], queue.peekPriority());
+            queue.poll();
+        }
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertThrows(EmptyContainerException.class, () -> queue.poll());
+    }
+
+
+    @Test
+    public void radixHeapTest() {
+        monotoneTest(new RadixHeap(), 1000000);
+        RadixHeap heap = new RadixHeap();
+        heap.add(1, 10);
+        heap.add(2, 5);
+        Assert.assertEquals(2, heap.poll());
+        Assert.assertThrows(IllegalArgumentException.class, () -> heap.add(3, 4));
+    }
+
+
+    @Test
+    public void bucketQueueTest() {
+        monotoneTest(new BucketQueue(15), 15);
+        BucketQueue queue = new BucketQueue(10);
+        queue.add(1, 3);
+        queue.add(2, 10);
+        queue.add(3, 8);
+        Assert.assertEquals("{BUCKETQUEUE:1=3,3=8,2=10}", queue.toString());
+        Assert.assertThrows(IllegalArgumentException.class, () -> queue.add(4, 11));
+        Assert.assertEquals(1, queue.poll());
+        Assert.assertEquals(3, queue.poll());
+        Assert.assertEquals(10, queue.peekPriority());
+        queue.add(4, 18);
+        Assert.assertEquals(2, queue.poll());
+        Assert.assertEquals(4, queue.poll());
+    }
+}
@@ -0,0 +1,102 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import edu.uoc.ds.traversal.Iterator;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MultiQueueTest {
+
+    private static final int THREADS = 4;
+
+    private static final int ITEMS_PER_THREAD = 5000;
+
+
+    @Test
+    public void singleHeapTest() {
+        MultiQueue<Integer> queue = new MultiQueue<>(1, 1, null);
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertThrows(EmptyContainerException.class, () -> queue.poll());
+        Assert.assertNull(queue.tryPoll());
+
+        int[] values = {7, 3, 5, 1, 9, 0, 8, 6, 4, 2};
+        for (int value : values)
+            queue.add(value);
+        Assert.assertEquals(10, queue.size());
+        Assert.assertEquals(0, queue.peek(), 0);
+        Assert.assertEquals("{PRIORITYQUEUE:0,1,2,3,4,5,6,7,8,9}", queue.toString());
+        for (int i = 0; i < 10; i++)
+            Assert.assertEquals(i, queue.poll(), 0);
+        Assert.assertTrue(queue.isEmpty());
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> new MultiQueue<Integer>(0, 2, null));
+    }
+
+
+    @Test
+    public void relaxedOrderTest() {
+        MultiQueue<Integer> queue = new MultiQueue<>(4, 2, null);
+        Assert.assertEquals(8, queue.numHeaps());
+        for (int i = 0; i < 10000; i++)
+            queue.add(i);
+
+        Iterator<Integer> it = queue.values();
+        for (int i = 0; i < 10000; i++)
+            Assert.assertEquals(i, it.next(), 0);
+
+        // the items polled so far are always among the first ones
+        boolean[] polled = new boolean[10000];
+        int firstLeft = 0;
+        long totalRank = 0;
+        for (int i = 0; i < 10000; i++) {
+            int elem = queue.poll();
+            Assert.assertFalse(polled[elem]);
+            polled[elem] = true;
+            totalRank += elem - firstLeft;
+            while (firstLeft < 10000 && polled[firstLeft]) firstLeft++;
+        }
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertTrue(totalRank / 10000 < 8 * queue.numHeaps());
+    }
+
+
+    @Test
+    public void concurrentTest() throws InterruptedException {
+        MultiQueue<Integer> queue = new MultiQueue<>(THREADS, 2, null);
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            final int base = t * ITEMS_PER_THREAD;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < ITEMS_PER_THREAD; i++)
+                    queue.add(base + i);
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+        Assert.assertEquals(THREADS * ITEMS_PER_THREAD, queue.size());
+
+        final boolean[] polled = new boolean[THREADS * ITEMS_PER_THREAD];
+        final java.util.concurrent.atomic.AtomicInteger duplicates = new java.util.concurrent.atomic.AtomicInteger();
+        for (int t = 0; t < THREADS; t++) {
+            threads[t] = new Thread(() -> {
+                Integer elem;
+                while ((elem = queue.tryPoll()) != null) {
+                    synchronized (polled) {
+                        if (polled[elem]) duplicates.incrementAndGet();
+                        polled[elem] = true;
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+
+        Assert.assertEquals(0, duplicates.get());
+        for (boolean p : polled)
+            Assert.assertTrue(p);
+        Assert.assertTrue(queue.isEmpty());
+    }
+}
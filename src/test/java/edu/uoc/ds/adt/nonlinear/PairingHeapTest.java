@@ -0,0 +1,89 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.adt.helpers.Position;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Comparator;
+
+public class PairingHeapTest extends MeldableHeapTest<PairingHeap<Integer>> {
+
+    @Override
+    protected PairingHeap<Integer> create(Comparator<Integer> comparator) {
+        return new PairingHeap<>(comparator);
+    }
+
+    @Override
+    protected String name() {
+        return "PAIRINGHEAP";
+    }
+
+    @Override
+    protected Position<Integer> insert(PairingHeap<Integer> heap, Integer elem) {
+        return heap.insert(elem);
+    }
+
+    @Override
+    protected Integer decreaseKey(PairingHeap<Integer> heap, Position<Integer> pos, Integer elem) {
+        return heap.decreaseKey(pos, elem);
+    }
+
+    @Override
+    protected Integer remove(PairingHeap<Integer> heap, Position<Integer> pos) {
+        return heap.remove(pos);
+    }
+
+    @Override
+    protected boolean contains(PairingHeap<Integer> heap, Position<Integer> pos) {
+        return heap.contains(pos);
+    }
+
+    @Override
+    protected void meld(PairingHeap<Integer> heap, PairingHeap<Integer> other) {
+        heap.meld(other);
+    }
+
+
+    @Test
+    public void linkTest() {
+        PairingHeap<Integer> pairing = new PairingHeap<>();
+        for (int i = 0; i < 9; i++)
+            pairing.insert(i);
+        // every item is linked as the first child of the root
+        Assert.assertEquals("[8, 7, 6, 5, 4, 3, 2, 1]", children(pairing.root).toString());
+        Position<Integer> pos5 = pairing.root.child.next.next.next;
+        pairing.decreaseKey(pos5, -1);
+        Assert.assertSame(pos5, pairing.root);
+        Assert.assertEquals("[0]", children(pairing.root).toString());
+        Assert.assertEquals("[8, 7, 6, 4, 3, 2, 1]", children(pairing.root.child).toString());
+    }
+
+
+    @Test
+    public void twoPassCombineTest() {
+        PairingHeap<Integer> pairing = new PairingHeap<>();
+        for (int i = 0; i < 9; i++)
+            pairing.insert(i);
+        Assert.assertEquals(0, pairing.poll(), 0);
+        // first pass, from left to right: (8,7) (6,5) (4,3) (2,1);
+        // second pass, from right to left: 1 takes 3, then 5, then 7
+        Assert.assertEquals(1, pairing.root.elem, 0);
+        Assert.assertEquals("[7, 5, 3, 2]", children(pairing.root).toString());
+        PairingHeap.NodeHeap<Integer> child = pairing.root.child;
+        Assert.assertEquals("[8]", children(child).toString());
+        Assert.assertEquals("[6]", children(child.next).toString());
+        Assert.assertEquals("[4]", children(child.next.next).toString());
+        Assert.assertEquals("[]", children(child.next.next.next).toString());
+        // the first child points back to its parent
+        Assert.assertSame(pairing.root, child.prev);
+        Assert.assertSame(child, child.next.prev);
+    }
+
+
+    private java.util.List<Integer> children(PairingHeap.NodeHeap<Integer> node) {
+        java.util.List<Integer> children = new java.util.ArrayList<>();
+        for (PairingHeap.NodeHeap<Integer> child = node.child; child != null; child = child.next)
+            children.add(child.elem);
+        return children;
+    }
+}
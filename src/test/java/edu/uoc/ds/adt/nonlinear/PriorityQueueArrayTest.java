@@ -0,0 +1,100 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.traversal.Iterator;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Comparator;
+
+public class PriorityQueueArrayTest {
+
+    private PriorityQueueArrayImpl<Integer> priorityQueue;
+
+    private Comparator<Integer> CMP = (o1, o2) -> o2.compareTo(o1);
+
+    @Before
+    public void setUp() {
+        priorityQueue = new PriorityQueueArrayImpl<>(4, CMP);
+    }
+
+
+    @Test
+    public void emptyTest() {
+        Assert.assertTrue(priorityQueue.isEmpty());
+        Assert.assertThrows(EmptyContainerException.class, () -> priorityQueue.poll());
+        Assert.assertThrows(EmptyContainerException.class, () -> priorityQueue.peek());
+    }
+
+
+    @Test
+    public void addAndGrowTest() {
+        int[] values = {7, 3, 5, 1, 9, 0, 8, 6, 4, 2};
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < values.length; i++) {
+            priorityQueue.add(values[i]);
+            max = Math.max(max, values[i]);
+            Assert.assertEquals(i + 1, priorityQueue.size());
+            Assert.assertEquals(max, priorityQueue.peek(), 0);
+        }
+
+        Iterator<Integer> it = priorityQueue.values();
+        for (int i = 9; i >= 0; i--)
+            Assert.assertEquals(i, it.next(), 0);
+        Assert.assertFalse(it.hasNext());
+        Assert.assertEquals(10, priorityQueue.size());
+    }
+
+
+    @Test
+    public void pollTest() {
+        int[] values = {7, 3, 5, 1, 9, 0, 8, 6, 4, 2, 5, 5};
+        for (int value : values)
+            priorityQueue.add(value);
+
+        int[] expected = {9, 8, 7, 6, 5, 5, 5, 4, 3, 2, 1, 0};
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals(expected[i], priorityQueue.poll(), 0);
+            Assert.assertEquals(expected.length - i - 1, priorityQueue.size());
+        }
+        Assert.assertTrue(priorityQueue.isEmpty());
+    }
+
+
+    @Test
+    public void randomTest() {
+        PriorityQueueArrayImpl<Integer> pq = new PriorityQueueArrayImpl<>();
+        java.util.Random random = new java.util.Random(42);
+        int[] values = new int[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(1000);
+            pq.add(values[i]);
+        }
+        java.util.Arrays.sort(values);
+        for (int value : values)
+            Assert.assertEquals(value, pq.poll(), 0);
+    }
+
+
+    @Test
+    public void arityTest() {
+        int[] arities = {2, 3, 4, 8};
+        for (int arity : arities) {
+            PriorityQueueArrayImpl<Integer> pq = new PriorityQueueArrayImpl<>(1, arity, CMP);
+            Assert.assertEquals(arity, pq.arity());
+            java.util.Random random = new java.util.Random(arity);
+            Integer[] values = new Integer[3000];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextInt(500);
+                pq.add(values[i]);
+            }
+            java.util.Arrays.sort(values, CMP);
+            for (Integer value : values)
+                Assert.assertEquals(value, pq.poll());
+            Assert.assertTrue(pq.isEmpty());
+        }
+        Assert.assertThrows(edu.uoc.ds.exceptions.IllegalArgumentException.class,
+                () -> new PriorityQueueArrayImpl<Integer>(10, 1, CMP));
+    }
+}
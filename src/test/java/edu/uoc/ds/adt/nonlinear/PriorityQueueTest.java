@@ -183,4 +183,90 @@ public class PriorityQueueTest {
         Assert.assertTrue(priorityQueue.isEmpty());
 
     }
+
+
+    @Test
+    public void heapifyTest() {
+        Integer[] values = {7, 3, 5, 1, 9, 0, 8, 6, 4, 2};
+        PriorityQueue<Integer> pq = new PriorityQueue<>(values, values.length, CMP);
+        Assert.assertEquals(10, pq.size());
+        Assert.assertTrue(pq.isFull());
+
+        Iterator<Integer> it = pq.values();
+        for (int i = 9; i >= 0; i--)
+            Assert.assertEquals(i, it.next(), 0);
+        Assert.assertFalse(it.hasNext());
+
+        for (int i = 9; i >= 0; i--)
+            Assert.assertEquals(i, pq.poll(), 0);
+    }
+
+
+    @Test
+    public void addAllTest() {
+        priorityQueue.add(4);
+        priorityQueue.add(11);
+        PriorityQueue<Integer> other = new PriorityQueue<>(CMP);
+        int[] values = {7, 3, 5, 1, 9};
+        for (int value : values)
+            other.add(value);
+
+        priorityQueue.addAll(other);
+        Assert.assertEquals(7, priorityQueue.size());
+        int[] expected = {11, 9, 7, 5, 4, 3, 1};
+        for (int e : expected)
+            Assert.assertEquals(e, priorityQueue.poll(), 0);
+
+        priorityQueue.add(1);
+        priorityQueue.add(2);
+        priorityQueue.add(3);
+        other = new PriorityQueue<>(CMP);
+        other.add(10);
+        priorityQueue.addAll(other);
+        Assert.assertEquals(10, priorityQueue.peek(), 0);
+        Assert.assertThrows(FullContainerException.class, () -> {
+            PriorityQueue<Integer> big = new PriorityQueue<>(CMP);
+            for (int i = 0; i < 8; i++) big.add(i);
+            priorityQueue.addAll(big);
+        });
+        // nothing has been added, and the heap is still valid
+        Assert.assertEquals(4, priorityQueue.size());
+        int[] remaining = {10, 3, 2, 1};
+        for (int e : remaining)
+            Assert.assertEquals(e, priorityQueue.poll(), 0);
+
+        PriorityQueue<Integer> small = new PriorityQueue<>(6);
+        for (int value = 10; value <= 40; value += 10)
+            small.add(value);
+        other = new PriorityQueue<>();
+        for (int value = 1; value <= 3; value++)
+            other.add(value);
+        PriorityQueue<Integer> added = other;
+        Assert.assertThrows(FullContainerException.class, () -> small.addAll(added));
+        for (int value = 10; value <= 40; value += 10)
+            Assert.assertEquals(value, small.poll(), 0);
+        Assert.assertTrue(small.isEmpty());
+    }
+
+
+    @Test
+    public void unorderedValuesAndCloneTest() {
+        PriorityQueue<Integer> pq = new PriorityQueue<>(1000);
+        for (int i = 999; i >= 0; i--)
+            pq.add(i);
+
+        int sum = 0;
+        int count = 0;
+        for (Iterator<Integer> it = pq.unorderedValues(); it.hasNext(); count++)
+            sum += it.next();
+        Assert.assertEquals(1000, count);
+        Assert.assertEquals(999 * 1000 / 2, sum);
+
+        PriorityQueue<Integer> clone = pq.clone();
+        Assert.assertEquals(1000, clone.size());
+        for (int i = 0; i < 1000; i++)
+            Assert.assertEquals(i, clone.poll(), 0);
+        Assert.assertEquals(1000, pq.size());
+        Assert.assertEquals(0, pq.peek(), 0);
+    }
 }
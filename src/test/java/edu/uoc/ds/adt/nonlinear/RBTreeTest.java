@@ -0,0 +1,123 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RBTreeTest {
+    RBTree<Integer> rb;
+
+    @Before
+    public void setUp() {
+        rb = new RBTree<Integer>();
+    }
+
+    @Test
+    public void addDeleteTest() {
+        Assert.assertTrue(rb.isEmpty());
+        for (int i = 0; i < 10; i++)
+            rb.add(i);
+        rb.add(5);
+        Assert.assertEquals(10, rb.size());
+        Assert.assertEquals(5, rb.get(5), 0);
+        Assert.assertNull(rb.get(10));
+        Assert.assertEquals(3, rb.delete(3), 0);
+        Assert.assertNull(rb.delete(3));
+        Assert.assertEquals(9, rb.size());
+        java.util.TreeSet<Integer> expected = new java.util.TreeSet<>();
+        for (int i = 0; i < 10; i++)
+            if (i != 3) expected.add(i);
+        checkRB(rb.root, expected);
+    }
+
+
+    @Test
+    public void sequentialKeysTest() {
+        int n = 1 << 16;
+        java.util.TreeSet<Integer> expected = new java.util.TreeSet<>();
+        for (int i = 0; i < n; i++) {
+            rb.add(i);
+            expected.add(i);
+        }
+        checkRB(rb.root, expected);
+        for (int i = 0; i < n; i += 2) {
+            Assert.assertEquals(i, rb.delete(i), 0);
+            expected.remove(i);
+        }
+        checkRB(rb.root, expected);
+        Assert.assertEquals(n / 2, rb.size());
+    }
+
+
+    /**
+     * Runs the same mixed workload on a red-black tree and an AVL tree,
+     * with different ratios of searches to updates, and checks that both
+     * trees agree with java.util.TreeSet.
+     */
+    @Test
+    public void mixedWorkloadTest() {
+        for (int reads : new int[]{0, 1, 4, 9}) {
+            RBTree<Integer> rb = new RBTree<>();
+            AVLTree<Integer> avl = new AVLTree<>();
+            java.util.TreeSet<Integer> expected = new java.util.TreeSet<>();
+            java.util.Random random = new java.util.Random(reads);
+            for (int i = 0; i < 20000; i++) {
+                int value = random.nextInt(3000);
+                int op = random.nextInt(reads + 2);
+                if (op < reads) {
+                    Integer found = expected.contains(value) ? value : null;
+                    Assert.assertEquals(found, rb.get(value));
+                    Assert.assertEquals(found, avl.get(value));
+                } else if (op == reads) {
+                    rb.add(value);
+                    avl.add(value);
+                    expected.add(value);
+                } else {
+                    Integer deleted = expected.remove(value) ? value : null;
+                    Assert.assertEquals(deleted, rb.delete(value));
+                    Assert.assertEquals(deleted, avl.delete(value));
+                }
+            }
+            checkRB(rb.root, expected);
+            Assert.assertEquals(expected.size(), rb.size());
+            Assert.assertEquals(expected.size(), avl.size());
+        }
+    }
+
+
+    /**
+     * Checks the order, the parent links and the colours of every node.
+     */
+    private void checkRB(BinaryTreeLinkedImpl.NodeTree<Integer> root, java.util.TreeSet<Integer> expected) {
+        java.util.List<Integer> inorder = new java.util.ArrayList<>();
+        if (root != null) {
+            Assert.assertNull(((RBTree.NodeRB<Integer>) root).getParent());
+            Assert.assertFalse(((RBTree.NodeRB<Integer>) root).isRed());
+        }
+        checkNode((RBTree.NodeRB<Integer>) root, inorder);
+        Assert.assertEquals(new java.util.ArrayList<>(expected), inorder);
+    }
+
+    /**
+     * @return number of black nodes of the paths from the node down
+     */
+    private int checkNode(RBTree.NodeRB<Integer> node, java.util.List<Integer> inorder) {
+        if (node == null) return 1;
+        RBTree.NodeRB<Integer> left = (RBTree.NodeRB<Integer>) node.leftChild;
+        RBTree.NodeRB<Integer> right = (RBTree.NodeRB<Integer>) node.rightChild;
+        if (left != null) {
+            Assert.assertSame(node, left.getParent());
+            Assert.assertFalse(node.isRed() && left.isRed());
+        }
+        if (right != null) {
+            Assert.assertSame(node, right.getParent());
+            Assert.assertFalse(node.isRed() && right.isRed());
+        }
+        int blackLeft = checkNode(left, inorder);
+        inorder.add(node.getElem());
+        int blackRight = checkNode(right, inorder);
+        Assert.assertEquals(blackLeft, blackRight);
+        return blackLeft + (node.isRed() ? 0 : 1);
+    }
+
+}
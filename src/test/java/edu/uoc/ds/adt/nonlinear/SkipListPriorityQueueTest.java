@@ -0,0 +1,110 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.exceptions.EmptyContainerException;
+import edu.uoc.ds.traversal.Iterator;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SkipListPriorityQueueTest {
+
+    private static final int THREADS = 4;
+
+    private static final int ITEMS_PER_THREAD = 5000;
+
+    private SkipListPriorityQueue<Integer> queue;
+
+    @Before
+    public void setUp() {
+        queue = new SkipListPriorityQueue<>();
+    }
+
+
+    @Test
+    public void orderTest() {
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertThrows(EmptyContainerException.class, () -> queue.poll());
+        Assert.assertThrows(EmptyContainerException.class, () -> queue.peek());
+        Assert.assertNull(queue.tryPoll());
+
+        int[] values = {7, 3, 5, 1, 9, 0, 8, 6, 4, 2, 5, 5};
+        for (int value : values)
+            queue.add(value);
+        Assert.assertEquals(12, queue.size());
+        Assert.assertEquals(0, queue.peek(), 0);
+        Assert.assertEquals("{PRIORITYQUEUE:0,1,2,3,4,5,5,5,6,7,8,9}", queue.toString());
+
+        int[] expected = {0, 1, 2, 3, 4, 5, 5, 5, 6, 7, 8, 9};
+        for (int e : expected)
+            Assert.assertEquals(e, queue.poll(), 0);
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+
+    @Test
+    public void tiesTest() {
+        SkipListPriorityQueue<String> pq = new SkipListPriorityQueue<>((s1, s2) -> s1.charAt(0) - s2.charAt(0));
+        String[] values = {"b1", "a1", "b2", "a2", "a3", "b3"};
+        for (String value : values)
+            pq.add(value);
+        String[] expected = {"a1", "a2", "a3", "b1", "b2", "b3"};
+        for (String e : expected)
+            Assert.assertEquals(e, pq.poll());
+    }
+
+
+    @Test
+    public void randomTest() {
+        java.util.Random random = new java.util.Random(42);
+        int[] values = new int[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(1000);
+            queue.add(values[i]);
+        }
+        java.util.Arrays.sort(values);
+        Iterator<Integer> it = queue.values();
+        for (int value : values)
+            Assert.assertEquals(value, it.next(), 0);
+        for (int value : values)
+            Assert.assertEquals(value, queue.poll(), 0);
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+
+    @Test
+    public void concurrentTest() throws InterruptedException {
+        final int total = THREADS * ITEMS_PER_THREAD;
+        final boolean[] polled = new boolean[total];
+        final java.util.concurrent.atomic.AtomicInteger count = new java.util.concurrent.atomic.AtomicInteger();
+        final java.util.concurrent.atomic.AtomicInteger duplicates = new java.util.concurrent.atomic.AtomicInteger();
+        Thread[] threads = new Thread[2 * THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            final int base = t * ITEMS_PER_THREAD;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < ITEMS_PER_THREAD; i++)
+                    queue.add(base + i);
+            });
+            threads[THREADS + t] = new Thread(() -> {
+                while (count.get() < total) {
+                    Integer elem = queue.tryPoll();
+                    if (elem == null) continue;
+                    count.incrementAndGet();
+                    synchronized (polled) {
+                        if (polled[elem]) duplicates.incrementAndGet();
+                        polled[elem] = true;
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads)
+            thread.start();
+        for (Thread thread : threads)
+            thread.join();
+
+        Assert.assertEquals(0, duplicates.get());
+        for (boolean p : polled)
+            Assert.assertTrue(p);
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertEquals(0, queue.size());
+    }
+}
@@ -0,0 +1,103 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SplayTreeTest {
+    SplayTree<Integer> splay;
+
+    @Before
+    public void setUp() {
+        splay = new SplayTree<Integer>();
+    }
+
+    @Test
+    public void addDeleteTest() {
+        Assert.assertTrue(splay.isEmpty());
+        Assert.assertNull(splay.get(1));
+        Assert.assertNull(splay.delete(1));
+        for (int i = 0; i < 10; i++)
+            splay.add(i);
+        splay.add(5);
+        Assert.assertEquals(10, splay.size());
+        Assert.assertEquals(5, splay.get(5), 0);
+        Assert.assertEquals(5, splay.root().getElem(), 0);
+        Assert.assertNull(splay.get(10));
+        Assert.assertEquals(3, splay.delete(3), 0);
+        Assert.assertNull(splay.delete(3));
+        Assert.assertEquals(9, splay.size());
+        java.util.TreeSet<Integer> expected = new java.util.TreeSet<>();
+        for (int i = 0; i < 10; i++)
+            if (i != 3) expected.add(i);
+        checkOrder(expected);
+    }
+
+
+    @Test
+    public void sequentialKeysTest() {
+        // adding sorted keys makes a path, which the first search halves
+        int n = 1 << 14;
+        for (int i = 0; i < n; i++)
+            splay.add(i);
+        Assert.assertEquals(0, splay.get(0), 0);
+        Assert.assertTrue(height(splay.root) <= n / 2 + 2);
+        for (int i = 0; i < n; i += 2)
+            Assert.assertEquals(i, splay.delete(i), 0);
+        Assert.assertEquals(n / 2, splay.size());
+        Assert.assertEquals(1, splay.first(), 0);
+        Assert.assertEquals(n - 1, splay.last(), 0);
+    }
+
+
+    /**
+     * Runs a mixed workload with keys chosen with a skewed distribution,
+     * and checks the tree against java.util.TreeSet.
+     */
+    @Test
+    public void skewedWorkloadTest() {
+        java.util.TreeSet<Integer> expected = new java.util.TreeSet<>();
+        java.util.Random random = new java.util.Random(3);
+        for (int i = 0; i < 20000; i++) {
+            // the lower keys are much more frequent
+            int value = (int) Math.floor(Math.pow(3000, random.nextDouble())) - 1;
+            int op = random.nextInt(6);
+            if (op < 4) {
+                Integer found = expected.contains(value) ? value : null;
+                Assert.assertEquals(found, splay.get(value));
+            } else if (op == 4) {
+                splay.add(value);
+                expected.add(value);
+            } else {
+                Integer deleted = expected.remove(value) ? value : null;
+                Assert.assertEquals(deleted, splay.delete(value));
+            }
+        }
+        checkOrder(expected);
+        Assert.assertEquals(expected.size(), splay.size());
+    }
+
+
+    private void checkOrder(java.util.TreeSet<Integer> expected) {
+        java.util.List<Integer> inorder = new java.util.ArrayList<>();
+        for (edu.uoc.ds.traversal.Iterator<Integer> it = splay.range(null, false, null, false); it.hasNext(); )
+            inorder.add(it.next());
+        Assert.assertEquals(new java.util.ArrayList<>(expected), inorder);
+    }
+
+    private int height(BinaryTreeLinkedImpl.NodeTree<Integer> node) {
+        int height = 0;
+        java.util.ArrayDeque<BinaryTreeLinkedImpl.NodeTree<Integer>> level = new java.util.ArrayDeque<>();
+        if (node != null) level.add(node);
+        while (!level.isEmpty()) {
+            height++;
+            for (int i = level.size(); i > 0; i--) {
+                BinaryTreeLinkedImpl.NodeTree<Integer> aux = level.poll();
+                if (aux.leftChild != null) level.add(aux.leftChild);
+                if (aux.rightChild != null) level.add(aux.rightChild);
+            }
+        }
+        return height;
+    }
+
+}
@@ -0,0 +1,71 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import edu.uoc.ds.traversal.Iterator;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Comparator;
+
+public class TopKCollectorTest {
+
+    private TopKCollector<Integer> collector;
+
+    private Comparator<Integer> CMP = (o1, o2) -> o2.compareTo(o1);
+
+    @Before
+    public void setUp() {
+        collector = new TopKCollector<>(3, CMP);
+    }
+
+
+    @Test
+    public void addTest() {
+        Assert.assertTrue(collector.isEmpty());
+        Assert.assertTrue(collector.add(5));
+        Assert.assertTrue(collector.add(1));
+        Assert.assertTrue(collector.add(7));
+        Assert.assertTrue(collector.isFull());
+        Assert.assertEquals(1, collector.threshold(), 0);
+
+        Assert.assertFalse(collector.add(0));
+        Assert.assertFalse(collector.add(1));
+        Assert.assertTrue(collector.add(6));
+        Assert.assertEquals(5, collector.threshold(), 0);
+        Assert.assertEquals(3, collector.size());
+        Assert.assertEquals("{TOPK:7,6,5}", collector.toString());
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> new TopKCollector<Integer>(0));
+    }
+
+
+    @Test
+    public void streamAndMergeTest() {
+        java.util.Random random = new java.util.Random(42);
+        int[] values = new int[20000];
+        TopKCollector<Integer> first = new TopKCollector<>(100, CMP);
+        TopKCollector<Integer> second = new TopKCollector<>(100, CMP);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(1000000);
+            if (i % 2 == 0) first.add(values[i]);
+            else second.add(values[i]);
+        }
+        first.merge(second);
+        Assert.assertEquals(100, first.size());
+        Assert.assertEquals(100, second.size());
+
+        java.util.Arrays.sort(values);
+        Iterator<Integer> it = first.values();
+        for (int i = 0; i < 100; i++)
+            Assert.assertEquals(values[values.length - 1 - i], it.next(), 0);
+        Assert.assertFalse(it.hasNext());
+
+        TopKCollector<Integer> smallest = new TopKCollector<>(5);
+        for (int value : values)
+            smallest.add(value);
+        Integer[] sorted = smallest.toArray(Integer[]::new);
+        for (int i = 0; i < 5; i++)
+            Assert.assertEquals(values[i], sorted[i], 0);
+    }
+}
@@ -0,0 +1,115 @@
+package edu.uoc.ds.adt.nonlinear;
+
+import edu.uoc.ds.exceptions.IllegalArgumentException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TreapTest {
+    Treap<Integer> treap;
+
+    @Before
+    public void setUp() {
+        treap = new Treap<Integer>();
+    }
+
+    @Test
+    public void addDeleteTest() {
+        Assert.assertTrue(treap.isEmpty());
+        Assert.assertNull(treap.delete(1));
+        for (int i = 0; i < 10; i++)
+            treap.add(i);
+        treap.add(5);
+        Assert.assertEquals(10, treap.size());
+        Assert.assertEquals(5, treap.get(5), 0);
+        Assert.assertNull(treap.get(10));
+        Assert.assertEquals(3, treap.delete(3), 0);
+        Assert.assertNull(treap.delete(3));
+        Assert.assertEquals(9, treap.size());
+        java.util.TreeSet<Integer> expected = new java.util.TreeSet<>();
+        for (int i = 0; i < 10; i++)
+            if (i != 3) expected.add(i);
+        checkTreap(treap, expected);
+    }
+
+
+    @Test
+    public void splitJoinTest() {
+        java.util.TreeSet<Integer> expected = new java.util.TreeSet<>();
+        for (int i = 0; i < 1000; i += 2) {
+            treap.add(i);
+            expected.add(i);
+        }
+
+        Treap<Integer> greater = treap.split(301);
+        checkTreap(treap, expected.headSet(301));
+        checkTreap(greater, expected.tailSet(301));
+        Treap<Integer> upper = greater.split(700);
+        checkTreap(greater, expected.subSet(301, 700));
+        checkTreap(upper, expected.tailSet(700));
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> upper.join(greater));
+        Assert.assertThrows(IllegalArgumentException.class, () -> treap.join(treap));
+        // the items in [301, 700) are moved away
+        treap.join(upper);
+        Assert.assertTrue(upper.isEmpty());
+        expected.subSet(301, 700).clear();
+        checkTreap(treap, expected);
+
+        Treap<Integer> empty = treap.split(-1);
+        Assert.assertTrue(treap.isEmpty());
+        treap.join(empty);
+        checkTreap(treap, expected);
+        Assert.assertTrue(treap.split(5000).isEmpty());
+    }
+
+
+    @Test
+    public void mixedWorkloadTest() {
+        java.util.TreeSet<Integer> expected = new java.util.TreeSet<>();
+        java.util.Random random = new java.util.Random(5);
+        for (int i = 0; i < 20000; i++) {
+            int value = random.nextInt(3000);
+            int op = random.nextInt(3);
+            if (op == 0) {
+                Integer found = expected.contains(value) ? value : null;
+                Assert.assertEquals(found, treap.get(value));
+            } else if (op == 1) {
+                treap.add(value);
+                expected.add(value);
+            } else {
+                Integer deleted = expected.remove(value) ? value : null;
+                Assert.assertEquals(deleted, treap.delete(value));
+            }
+        }
+        checkTreap(treap, expected);
+    }
+
+
+    /**
+     * Checks the order, the priorities and the sizes of every node.
+     */
+    private void checkTreap(Treap<Integer> treap, java.util.SortedSet<Integer> expected) {
+        java.util.List<Integer> inorder = new java.util.ArrayList<>();
+        checkNode((Treap.NodeTreap<Integer>) treap.root, inorder);
+        Assert.assertEquals(new java.util.ArrayList<>(expected), inorder);
+        Assert.assertEquals(expected.size(), treap.size());
+    }
+
+    /**
+     * @return number of nodes of the subtree
+     */
+    private int checkNode(Treap.NodeTreap<Integer> node, java.util.List<Integer> inorder) {
+        if (node == null) return 0;
+        Treap.NodeTreap<Integer> left = (Treap.NodeTreap<Integer>) node.leftChild;
+        Treap.NodeTreap<Integer> right = (Treap.NodeTreap<Integer>) node.rightChild;
+        if (left != null) Assert.assertTrue(node.getPriority() >= left.getPriority());
+        if (right != null) Assert.assertTrue(node.getPriority() >= right.getPriority());
+        int size = checkNode(left, inorder);
+        inorder.add(node.getElem());
+        size += 1 + checkNode(right, inorder);
+        Assert.assertEquals(size, node.getSize());
+        return size;
+    }
+
+}